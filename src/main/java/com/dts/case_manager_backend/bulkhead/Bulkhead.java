@@ -0,0 +1,130 @@
+package com.dts.case_manager_backend.bulkhead;
+
+import com.dts.case_manager_backend.deadline.RequestDeadline;
+import com.dts.case_manager_backend.exception.BulkheadFullException;
+import com.dts.case_manager_backend.exception.DeadlineExceededException;
+import com.dts.case_manager_backend.model.BulkheadStats;
+import com.dts.case_manager_backend.querybudget.QueryCounter;
+import com.dts.case_manager_backend.querybudget.QueryCounting;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// A fixed pool of threads with a bounded queue in front of it. Work beyond threads + queue is refused with
+// BulkheadFullException rather than waiting. Threads remember which bulkhead they belong to, which is what
+// BulkheadRoutingDataSource uses to pick a connection pool, and a call made from a bulkhead thread runs inline
+// so nested calls cannot deadlock waiting on their own pool. The caller's RequestDeadline goes with the work: work
+// still queued when it passes is dropped without running, and the caller stops waiting at the deadline. So do the
+// caller's request attributes, for code that needs to know about the request it is serving, and its QueryCounter.
+public class Bulkhead {
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder deadlineExceeded = new LongAdder();
+
+    public Bulkhead(String name, int threads, int queueCapacity) {
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(() -> {
+                CURRENT.set(name);
+                runnable.run();
+            }, "bulkhead-" + name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public <T> T call(Callable<T> work) {
+        if (current() != null) {
+            return callInline(work);
+        }
+
+        Long deadline = RequestDeadline.current();
+        RequestDeadline.checkNotExpired();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        QueryCounter queryCounter = QueryCounting.current();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> callWithRequestAttributes(requestAttributes,
+                    () -> QueryCounting.callWithin(queryCounter, () -> RequestDeadline.callWithin(deadline, work))));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new BulkheadFullException("Request rejected because the " + name + " pool is saturated.");
+        }
+
+        try {
+            return deadline == null ? future.get() : future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Not interrupted if already running: its statements carry the deadline as their query timeout.
+            future.cancel(false);
+            deadlineExceeded.increment();
+            throw new DeadlineExceededException("Request abandoned because its deadline passed in the " + name + " pool.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the " + name + " pool", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    public BulkheadStats stats() {
+        return new BulkheadStats(name, executor.getMaximumPoolSize(), executor.getActiveCount(), executor.getQueue().size(),
+                queueCapacity, executor.getCompletedTaskCount(), rejected.sum(), deadlineExceeded.sum());
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static <T> T callWithRequestAttributes(RequestAttributes requestAttributes, Callable<T> work) throws Exception {
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            return work.call();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private static <T> T callInline(Callable<T> work) {
+        try {
+            return work.call();
+        } catch (Exception e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        throw new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,67 @@
+package com.dts.case_manager_backend.bulkhead;
+
+import com.dts.case_manager_backend.deadline.DeadlineConnections;
+import com.dts.case_manager_backend.model.ConnectionPoolStats;
+import com.dts.case_manager_backend.querybudget.QueryCounting;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Hands out connections from the pool of the bulkhead the calling thread belongs to; threads outside any
+// bulkhead (startup, schedulers, other endpoints) use the default pool. Connections honour the request deadline
+// and feed the current QueryCounter.
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    private final Map<String, HikariDataSource> pools;
+    private final Map<String, ConnectionUsageTracker> usage = new HashMap<>();
+
+    public BulkheadRoutingDataSource(HikariDataSource defaultPool, Map<String, HikariDataSource> bulkheadPools) {
+        this.pools = new LinkedHashMap<>();
+        this.pools.put("default", defaultPool);
+        this.pools.putAll(bulkheadPools);
+        this.pools.forEach((name, pool) -> {
+            ConnectionUsageTracker tracker = new ConnectionUsageTracker();
+            pool.setMetricsTrackerFactory(tracker);
+            usage.put(name, tracker);
+        });
+        setTargetDataSources(new HashMap<>(bulkheadPools));
+        setDefaultTargetDataSource(defaultPool);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return Bulkhead.current();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return QueryCounting.withStatementCounting(DeadlineConnections.getConnection(super::getConnection));
+    }
+
+    public List<ConnectionPoolStats> stats() {
+        List<ConnectionPoolStats> stats = new ArrayList<>();
+        pools.forEach((name, pool) -> {
+            var mxBean = pool.getHikariPoolMXBean();
+            ConnectionUsageTracker tracker = usage.get(name);
+            stats.add(new ConnectionPoolStats(name, pool.getMaximumPoolSize(),
+                    mxBean == null ? 0 : mxBean.getActiveConnections(),
+                    mxBean == null ? 0 : mxBean.getIdleConnections(),
+                    mxBean == null ? 0 : mxBean.getThreadsAwaitingConnection(),
+                    tracker.getCheckouts(), tracker.getMeanHeldMillis(), tracker.getMaxHeldMillis()));
+        });
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
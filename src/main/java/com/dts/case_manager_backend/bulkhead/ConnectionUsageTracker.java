@@ -0,0 +1,40 @@
+package com.dts.case_manager_backend.bulkhead;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counts connection checkouts from one pool and how long each was held before being returned.
+public class ConnectionUsageTracker implements IMetricsTracker, MetricsTrackerFactory {
+    private final LongAdder checkouts = new LongAdder();
+    private final LongAdder heldMillis = new LongAdder();
+    private final LongAccumulator maxHeldMillis = new LongAccumulator(Math::max, 0);
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return this;
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        checkouts.increment();
+        heldMillis.add(elapsedBorrowedMillis);
+        maxHeldMillis.accumulate(elapsedBorrowedMillis);
+    }
+
+    public long getCheckouts() {
+        return checkouts.sum();
+    }
+
+    public double getMeanHeldMillis() {
+        long count = checkouts.sum();
+        return count == 0 ? 0 : (double) heldMillis.sum() / count;
+    }
+
+    public long getMaxHeldMillis() {
+        return maxHeldMillis.get();
+    }
+}
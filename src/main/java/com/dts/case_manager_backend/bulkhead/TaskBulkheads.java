@@ -0,0 +1,45 @@
+package com.dts.case_manager_backend.bulkhead;
+
+import com.dts.case_manager_backend.model.BulkheadStats;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Interactive reads, interactive writes and bulk work (list/export and imports) each run on their own threads
+// and draw connections from their own pool, so a backlog in one cannot starve the others.
+@Getter
+@Component
+public class TaskBulkheads {
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+    public static final String BULK = "bulk";
+
+    private final Bulkhead read;
+    private final Bulkhead write;
+    private final Bulkhead bulk;
+
+    public TaskBulkheads(@Value("${tasks.bulkheads.read.threads:16}") int readThreads,
+                         @Value("${tasks.bulkheads.read.queue:100}") int readQueue,
+                         @Value("${tasks.bulkheads.write.threads:8}") int writeThreads,
+                         @Value("${tasks.bulkheads.write.queue:50}") int writeQueue,
+                         @Value("${tasks.bulkheads.bulk.threads:2}") int bulkThreads,
+                         @Value("${tasks.bulkheads.bulk.queue:4}") int bulkQueue) {
+        read = new Bulkhead(READ, readThreads, readQueue);
+        write = new Bulkhead(WRITE, writeThreads, writeQueue);
+        bulk = new Bulkhead(BULK, bulkThreads, bulkQueue);
+    }
+
+    public List<BulkheadStats> stats() {
+        return List.of(read.stats(), write.stats(), bulk.stats());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        read.shutdown();
+        write.shutdown();
+        bulk.shutdown();
+    }
+}
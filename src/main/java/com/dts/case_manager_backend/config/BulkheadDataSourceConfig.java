@@ -0,0 +1,38 @@
+package com.dts.case_manager_backend.config;
+
+import com.dts.case_manager_backend.bulkhead.BulkheadRoutingDataSource;
+import com.dts.case_manager_backend.bulkhead.TaskBulkheads;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Replaces Boot's single pool with one sub-pool per bulkhead plus a default pool, all to the same database.
+@Configuration
+public class BulkheadDataSourceConfig {
+
+    @Bean
+    public BulkheadRoutingDataSource dataSource(DataSourceProperties dataSourceProperties,
+                                                @Value("${tasks.bulkheads.default.pool-size:4}") int defaultPoolSize,
+                                                @Value("${tasks.bulkheads.read.pool-size:8}") int readPoolSize,
+                                                @Value("${tasks.bulkheads.write.pool-size:4}") int writePoolSize,
+                                                @Value("${tasks.bulkheads.bulk.pool-size:2}") int bulkPoolSize,
+                                                @Value("${tasks.bulkheads.connection-timeout:PT3S}") Duration connectionTimeout) {
+        return new BulkheadRoutingDataSource(pool(dataSourceProperties, "default", defaultPoolSize, connectionTimeout), Map.of(
+                TaskBulkheads.READ, pool(dataSourceProperties, TaskBulkheads.READ, readPoolSize, connectionTimeout),
+                TaskBulkheads.WRITE, pool(dataSourceProperties, TaskBulkheads.WRITE, writePoolSize, connectionTimeout),
+                TaskBulkheads.BULK, pool(dataSourceProperties, TaskBulkheads.BULK, bulkPoolSize, connectionTimeout)));
+    }
+
+    private static HikariDataSource pool(DataSourceProperties dataSourceProperties, String name, int size, Duration connectionTimeout) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("tasks-" + name);
+        pool.setMaximumPoolSize(size);
+        pool.setConnectionTimeout(connectionTimeout.toMillis());
+        return pool;
+    }
+}
@@ -0,0 +1,18 @@
+package com.dts.case_manager_backend.config;
+
+import com.dts.case_manager_backend.circuitbreaker.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CircuitBreakerConfig {
+
+    @Bean
+    public CircuitBreaker taskDatabaseCircuitBreaker(@Value("${tasks.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                                                     @Value("${tasks.circuit-breaker.open-duration:PT10S}") Duration openDuration) {
+        return new CircuitBreaker(failureThreshold, openDuration.toMillis(), System::nanoTime);
+    }
+}
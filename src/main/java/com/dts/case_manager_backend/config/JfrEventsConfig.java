@@ -0,0 +1,60 @@
+package com.dts.case_manager_backend.config;
+
+import com.dts.case_manager_backend.jfr.TaskRepositoryEventInterceptor;
+import com.dts.case_manager_backend.jfr.TaskRequestEventInterceptor;
+import com.dts.case_manager_backend.jfr.TaskServiceEventInterceptor;
+import com.dts.case_manager_backend.service.TaskServiceImpl;
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+// The service and repository advisors are infrastructure advisors, so the proxy creator that already wraps beans
+// for @Transactional applies them as well, without an AspectJ dependency.
+@Configuration
+@ConditionalOnProperty(name = "tasks.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrEventsConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new TaskRequestEventInterceptor()).addPathPatterns("/api/**");
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor taskServiceEventAdvisor() {
+        return advisor(TaskServiceImpl.class::isAssignableFrom, new TaskServiceEventInterceptor());
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor taskRepositoryEventAdvisor() {
+        return advisor(TaskRepositoryEventInterceptor::isRepository, new TaskRepositoryEventInterceptor());
+    }
+
+    private static Advisor advisor(ClassFilter classFilter, Advice advice) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+            }
+        };
+        pointcut.setClassFilter(classFilter);
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, advice);
+        // Outside the transaction advisor, so a call's time includes its commit.
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+}
@@ -0,0 +1,32 @@
+package com.dts.case_manager_backend.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Defers springdoc's beans until the API docs or Swagger UI are first requested. Under AOT the condition is
+// evaluated when the build runs, so the fast-start profile passes the property to process-aot.
+@Configuration
+@ConditionalOnProperty(name = "tasks.startup.lazy-docs", havingValue = "true")
+public class LazyDocsConfig {
+    private static final String DOCS_PACKAGE = "org.springdoc.";
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyDocsBeanFactoryPostProcessor() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isDocs(definition.getBeanClassName()) || isDocs(definition.getFactoryBeanName() == null
+                        ? null : beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName())) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static boolean isDocs(String className) {
+        return className != null && className.startsWith(DOCS_PACKAGE);
+    }
+}
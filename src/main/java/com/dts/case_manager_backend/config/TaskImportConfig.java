@@ -0,0 +1,27 @@
+package com.dts.case_manager_backend.config;
+
+import com.dts.case_manager_backend.repository.JdbcTaskBatchWriter;
+import com.dts.case_manager_backend.repository.PostgresCopyTaskBatchWriter;
+import com.dts.case_manager_backend.repository.TaskBatchWriter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+@Configuration
+public class TaskImportConfig {
+
+    @Bean
+    public TaskBatchWriter taskBatchWriter(DataSource dataSource, JdbcTemplate jdbcTemplate) throws MetaDataAccessException {
+        String databaseProductName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+
+        if ("PostgreSQL".equals(databaseProductName)) {
+            return new PostgresCopyTaskBatchWriter(dataSource, jdbcTemplate);
+        }
+        return new JdbcTaskBatchWriter(jdbcTemplate);
+    }
+}
@@ -0,0 +1,34 @@
+package com.dts.case_manager_backend.controller;
+
+import com.dts.case_manager_backend.bulkhead.BulkheadRoutingDataSource;
+import com.dts.case_manager_backend.bulkhead.TaskBulkheads;
+import com.dts.case_manager_backend.model.BulkheadStats;
+import com.dts.case_manager_backend.model.ConnectionPoolStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/bulkheads")
+public class BulkheadController {
+    @Autowired
+    private TaskBulkheads taskBulkheads;
+
+    @Autowired
+    private BulkheadRoutingDataSource bulkheadRoutingDataSource;
+
+    @GetMapping
+    public ResponseEntity<List<BulkheadStats>> getBulkheads() {
+        return new ResponseEntity<>(taskBulkheads.stats(), HttpStatus.OK);
+    }
+
+    @GetMapping("/connection-pools")
+    public ResponseEntity<List<ConnectionPoolStats>> getConnectionPools() {
+        return new ResponseEntity<>(bulkheadRoutingDataSource.stats(), HttpStatus.OK);
+    }
+}
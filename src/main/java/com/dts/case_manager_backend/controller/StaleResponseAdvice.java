@@ -0,0 +1,40 @@
+package com.dts.case_manager_backend.controller;
+
+import com.dts.case_manager_backend.service.StaleRead;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// Responses answered from last-known data get the standard stale Warning and, when known, the Age of that data.
+@RestControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(StaleRead.ATTRIBUTE) instanceof StaleRead staleRead) {
+            response.getHeaders().set(HttpHeaders.WARNING, STALE_WARNING);
+            if (staleRead.asOf() != null) {
+                response.getHeaders().set(HttpHeaders.AGE, String.valueOf(Math.max(0, Duration.between(staleRead.asOf(), Instant.now()).toSeconds())));
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,34 @@
+package com.dts.case_manager_backend.controller;
+
+import com.dts.case_manager_backend.model.ClaimDTO;
+import com.dts.case_manager_backend.model.TaskClaim;
+import com.dts.case_manager_backend.service.TaskClaimService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("api/v1/tasks/claims")
+public class TaskClaimController {
+    @Autowired
+    private TaskClaimService taskClaimService;
+
+    @PostMapping
+    public ResponseEntity<TaskClaim> postClaim(@RequestBody ClaimDTO claimDTO) {
+        return taskClaimService.claimNextTask(claimDTO)
+                .map(taskClaim -> new ResponseEntity<>(taskClaim, HttpStatus.CREATED))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
+    }
+
+    @PostMapping("/{taskId}/renew")
+    public ResponseEntity<TaskClaim> renewClaim(@PathVariable long taskId, @RequestBody ClaimDTO claimDTO) {
+        return new ResponseEntity<>(taskClaimService.renewClaim(taskId, claimDTO), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/{taskId}")
+    public ResponseEntity<Void> deleteClaim(@PathVariable long taskId, @RequestParam String worker) {
+        taskClaimService.releaseClaim(taskId, worker);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
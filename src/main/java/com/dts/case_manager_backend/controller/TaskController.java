@@ -1,20 +1,44 @@
 package com.dts.case_manager_backend.controller;
 
+import com.dts.case_manager_backend.circuitbreaker.CircuitBreaker;
+import com.dts.case_manager_backend.deadline.DefaultDeadline;
+import com.dts.case_manager_backend.deadline.RequestDeadline;
+import com.dts.case_manager_backend.exception.InvalidDTOException;
 import com.dts.case_manager_backend.model.StatusDTO;
 import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskCalendarDay;
 import com.dts.case_manager_backend.model.TaskDTO;
+import com.dts.case_manager_backend.querybudget.QueryBudget;
+import com.dts.case_manager_backend.service.TaskListSnapshot;
+import com.dts.case_manager_backend.service.TaskListSnapshotCache;
+import com.dts.case_manager_backend.service.StaleRead;
+import com.dts.case_manager_backend.service.TaskChangeWaiters;
 import com.dts.case_manager_backend.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("api/v1/tasks")
@@ -22,29 +46,233 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskListSnapshotCache taskListSnapshotCache;
+
+    @Autowired
+    private CircuitBreaker taskDatabaseCircuitBreaker;
+
+    @Autowired
+    private TaskChangeWaiters taskChangeWaiters;
+
+    @Value("${tasks.long-poll.default-timeout:PT30S}")
+    private Duration longPollDefaultTimeout = Duration.ofSeconds(30);
+
+    @Value("${tasks.long-poll.max-timeout:PT60S}")
+    private Duration longPollMaxTimeout = Duration.ofSeconds(60);
+
+    static final String TASK_VERSION_HEADER = "X-Task-Version";
+
     @PostMapping
+    @DefaultDeadline("${tasks.deadlines.write:PT5S}")
+    @QueryBudget(2)
     public ResponseEntity<Task> postTask(@RequestBody TaskDTO taskDTO) {
         return new ResponseEntity<Task>(taskService.createTask(taskDTO), HttpStatus.CREATED);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable long id) {
-        return new ResponseEntity<>(taskService.retrieveTaskById(id), HttpStatus.OK);
+    @DefaultDeadline("${tasks.deadlines.read:PT2S}")
+    @QueryBudget(3)
+    public ResponseEntity<?> getTaskById(@PathVariable long id, @RequestParam(required = false) List<String> fields) {
+        // Read before the task, so the version sent is never newer than the task sent with it.
+        HttpHeaders responseHeaders = versionHeaders(taskChangeWaiters.version(id));
+        if (fields != null) {
+            return new ResponseEntity<>(taskService.retrieveTaskById(id, fields), responseHeaders, HttpStatus.OK);
+        }
+
+        return new ResponseEntity<>(taskService.retrieveTaskById(id), responseHeaders, HttpStatus.OK);
+    }
+
+    // Long-poll: answers with the task once its version is past waitForVersionAfter, or 204 when the timeout
+    // passes first. Parked requests hold no servlet thread, admission permit or bulkhead slot; only the initial
+    // lookup reads the database for the request itself, and TaskChangeWaiters reloads the task once per change for
+    // every request woken by it. The query budget covers only the initial lookup, as the reload is shared and
+    // runs outside the request.
+    @GetMapping(value = "/{id}", params = "waitForVersionAfter")
+    @QueryBudget(3)
+    public DeferredResult<ResponseEntity<Task>> waitForTaskChange(@PathVariable long id,
+                                                                  @RequestParam long waitForVersionAfter,
+                                                                  @RequestParam(required = false) String timeout) {
+        long timeoutMillis = longPollTimeoutMillis(timeout);
+        long version = taskChangeWaiters.version(id);
+        Task task = taskService.retrieveTaskById(id);
+
+        DeferredResult<ResponseEntity<Task>> result = new DeferredResult<>(timeoutMillis);
+        if (version > waitForVersionAfter) {
+            result.setResult(new ResponseEntity<>(task, versionHeaders(version), HttpStatus.OK));
+            return result;
+        }
+
+        CompletableFuture<TaskChangeWaiters.Change> waiter = taskChangeWaiters.awaitChangeAfter(id, waitForVersionAfter);
+        result.onTimeout(() -> result.setResult(new ResponseEntity<>(versionHeaders(taskChangeWaiters.version(id)), HttpStatus.NO_CONTENT)));
+        result.onCompletion(() -> taskChangeWaiters.cancel(id, waiter));
+        waiter.whenComplete((change, failure) -> {
+            if (failure != null) {
+                result.setErrorResult(failure);
+            } else {
+                result.setResult(new ResponseEntity<>(change.task(), versionHeaders(change.version()), HttpStatus.OK));
+            }
+        });
+        return result;
+    }
+
+    @GetMapping(value = "/{id}/description", produces = MediaType.TEXT_PLAIN_VALUE)
+    @DefaultDeadline("${tasks.deadlines.read:PT2S}")
+    @QueryBudget(3)
+    public ResponseEntity<String> getTaskDescription(@PathVariable long id) {
+        return new ResponseEntity<>(taskService.retrieveTaskDescription(id), HttpStatus.OK);
     }
 
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
-        return new ResponseEntity<>(taskService.retrieveAllTasks(), HttpStatus.OK);
+    @DefaultDeadline("${tasks.deadlines.list:PT30S}")
+    public ResponseEntity<?> getAllTasks(@RequestParam(required = false) List<String> fields,
+                                         @RequestParam(required = false) List<Long> ids,
+                                         @RequestParam(defaultValue = "false") boolean includeArchived,
+                                         @RequestHeader HttpHeaders requestHeaders) {
+        if (ids != null) {
+            return fields != null
+                    ? new ResponseEntity<>(taskService.retrieveTasksByIds(ids, fields), HttpStatus.OK)
+                    : new ResponseEntity<>(taskService.retrieveTasksByIds(ids), HttpStatus.OK);
+        }
+
+        if (includeArchived) {
+            return fields != null
+                    ? new ResponseEntity<>(taskService.retrieveAllTasksIncludingArchived(fields), HttpStatus.OK)
+                    : new ResponseEntity<List<Task>>(taskService.retrieveAllTasksIncludingArchived(), HttpStatus.OK);
+        }
+
+        if (fields != null) {
+            return new ResponseEntity<>(taskService.retrieveAllTasks(fields), HttpStatus.OK);
+        }
+
+        if (prefersJson(requestHeaders)) {
+            // With the database unavailable a stale snapshot is served as-is rather than rebuilt.
+            boolean databaseOpen = taskDatabaseCircuitBreaker.getState() == CircuitBreaker.State.OPEN;
+            TaskListSnapshot snapshot = databaseOpen ? taskListSnapshotCache.lastPublished() : taskListSnapshotCache.current();
+            if (snapshot != null) {
+                if (databaseOpen) {
+                    StaleRead.mark(null);
+                }
+                return snapshotResponse(snapshot, requestHeaders);
+            }
+        }
+
+        return new ResponseEntity<List<Task>>(taskService.retrieveAllTasks(), HttpStatus.OK);
+    }
+
+    @GetMapping("/calendar")
+    @DefaultDeadline("${tasks.deadlines.read:PT2S}")
+    public ResponseEntity<List<TaskCalendarDay>> getCalendar(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return new ResponseEntity<>(taskService.retrieveCalendar(from, to), HttpStatus.OK);
     }
 
     @PatchMapping("/{id}")
+    @DefaultDeadline("${tasks.deadlines.write:PT5S}")
+    @QueryBudget(7)
     public ResponseEntity<Task> patchTaskStatus(@PathVariable long id, @RequestBody StatusDTO statusDTO) {
         return new ResponseEntity<>(taskService.updateTaskStatus(id, statusDTO), HttpStatus.OK);
     }
 
     @DeleteMapping("/{id}")
+    @DefaultDeadline("${tasks.deadlines.write:PT5S}")
+    @QueryBudget(4)
     public ResponseEntity<Void> deleteTask(@PathVariable long id) {
         taskService.deleteTask(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    private ResponseEntity<byte[]> snapshotResponse(TaskListSnapshot snapshot, HttpHeaders requestHeaders) {
+        boolean gzip = acceptsGzip(requestHeaders);
+        String eTag = gzip ? snapshot.gzipETag() : snapshot.identityETag();
+
+        HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.setETag(eTag);
+        responseHeaders.setVary(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING));
+
+        if (requestHeaders.getIfNoneMatch().contains(eTag)) {
+            return new ResponseEntity<>(responseHeaders, HttpStatus.NOT_MODIFIED);
+        }
+
+        responseHeaders.setContentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            responseHeaders.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        // The snapshot arrays are immutable and shared, so they are handed to the converter as-is.
+        return new ResponseEntity<>(gzip ? snapshot.gzip() : snapshot.identity(), responseHeaders, HttpStatus.OK);
+    }
+
+    private long longPollTimeoutMillis(String timeout) {
+        Duration requested;
+        try {
+            requested = timeout == null ? longPollDefaultTimeout : DurationStyle.detectAndParse(timeout);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDTOException("Task cannot be waited on because the supplied timeout is not a valid duration, e.g. 30s or PT30S.");
+        }
+        if (requested.isNegative() || requested.isZero()) {
+            throw new InvalidDTOException("Task cannot be waited on because the supplied timeout is not positive.");
+        }
+        long millis = Math.min(requested.toMillis(), longPollMaxTimeout.toMillis());
+        // An X-Request-Timeout header shortens the wait like any other deadline.
+        return Math.max(1, Math.min(millis, TimeUnit.NANOSECONDS.toMillis(RequestDeadline.remainingNanos())));
+    }
+
+    private static HttpHeaders versionHeaders(long version) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(TASK_VERSION_HEADER, Long.toString(version));
+        return headers;
+    }
+
+    // The most preferred type decides: highest q-value first, then the most specific. q=0 entries refuse.
+    private boolean prefersJson(HttpHeaders requestHeaders) {
+        List<MediaType> accept = new ArrayList<>(requestHeaders.getAccept());
+        if (accept.isEmpty()) {
+            return true;
+        }
+        try {
+            MimeTypeUtils.sortBySpecificity(accept);
+        } catch (InvalidMimeTypeException e) {
+            // Too many entries to sort; the regular content negotiation deals with the header.
+            return false;
+        }
+        return accept.stream()
+                .filter(mediaType -> mediaType.getQualityValue() > 0)
+                .findFirst()
+                .map(mediaType -> mediaType.isCompatibleWith(MediaType.APPLICATION_JSON))
+                .orElse(false);
+    }
+
+    // An explicit gzip entry decides; failing that, "*" does. Any q-value that parses to 0 (0, 0.0, 0.000) refuses.
+    private boolean acceptsGzip(HttpHeaders requestHeaders) {
+        Double gzip = null;
+        Double any = null;
+        for (String entry : requestHeaders.getValuesAsList(HttpHeaders.ACCEPT_ENCODING)) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? quality : Math.max(gzip, quality);
+            } else if (coding.equals("*")) {
+                any = quality;
+            }
+        }
+        double quality = gzip != null ? gzip : any != null ? any : 0;
+        return quality > 0;
+    }
+
+    // A malformed q-value counts as a refusal, so a client is never sent an encoding it may not have asked for.
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String[] parameter = parts[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
 }
@@ -0,0 +1,25 @@
+package com.dts.case_manager_backend.controller;
+
+import com.dts.case_manager_backend.model.TaskGroupCommitStats;
+import com.dts.case_manager_backend.service.TaskStatusGroupCommitter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/v1/tasks/group-commit")
+public class TaskGroupCommitController {
+    @Autowired(required = false)
+    private TaskStatusGroupCommitter taskStatusGroupCommitter;
+
+    @GetMapping
+    public ResponseEntity<TaskGroupCommitStats> getGroupCommitStats() {
+        if (taskStatusGroupCommitter == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(taskStatusGroupCommitter.stats(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,45 @@
+package com.dts.case_manager_backend.controller;
+
+import com.dts.case_manager_backend.model.TaskImport;
+import com.dts.case_manager_backend.model.TaskImportFormat;
+import com.dts.case_manager_backend.model.TaskImportReject;
+import com.dts.case_manager_backend.model.TaskImportResult;
+import com.dts.case_manager_backend.service.TaskImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+// Uploads are sent as the raw request body (not multipart) so they can be parsed while they stream in.
+@RestController
+@RequestMapping("api/v1/tasks/imports")
+public class TaskImportController {
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @PostMapping(consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<TaskImportResult> postImport(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream upload) {
+        return new ResponseEntity<>(taskImportService.startImport(TaskImportFormat.fromContentType(contentType), upload), HttpStatus.CREATED);
+    }
+
+    @PostMapping(value = "/{id}/resume", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<TaskImportResult> resumeImport(@PathVariable long id, @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream upload) {
+        return new ResponseEntity<>(taskImportService.resumeImport(id, TaskImportFormat.fromContentType(contentType), upload), HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskImport> getImport(@PathVariable long id) {
+        return new ResponseEntity<>(taskImportService.retrieveImport(id), HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}/rejects")
+    public ResponseEntity<List<TaskImportReject>> getImportRejects(@PathVariable long id,
+                                                                   @RequestParam(defaultValue = "0") int page,
+                                                                   @RequestParam(defaultValue = "100") int size) {
+        return new ResponseEntity<>(taskImportService.retrieveRejects(id, page, size), HttpStatus.OK);
+    }
+}
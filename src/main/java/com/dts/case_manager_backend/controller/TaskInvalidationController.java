@@ -0,0 +1,25 @@
+package com.dts.case_manager_backend.controller;
+
+import com.dts.case_manager_backend.model.TaskInvalidationStats;
+import com.dts.case_manager_backend.service.TaskInvalidationLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/v1/tasks/invalidations")
+public class TaskInvalidationController {
+    @Autowired(required = false)
+    private TaskInvalidationLog taskInvalidationLog;
+
+    @GetMapping
+    public ResponseEntity<TaskInvalidationStats> getInvalidationStats() {
+        if (taskInvalidationLog == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(taskInvalidationLog.stats(), HttpStatus.OK);
+    }
+}
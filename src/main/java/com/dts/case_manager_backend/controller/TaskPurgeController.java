@@ -0,0 +1,25 @@
+package com.dts.case_manager_backend.controller;
+
+import com.dts.case_manager_backend.model.TaskPurgeStats;
+import com.dts.case_manager_backend.service.TaskPurger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/v1/tasks/purge")
+public class TaskPurgeController {
+    @Autowired(required = false)
+    private TaskPurger taskPurger;
+
+    @GetMapping
+    public ResponseEntity<TaskPurgeStats> getPurgeStats() {
+        if (taskPurger == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(taskPurger.stats(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,32 @@
+package com.dts.case_manager_backend.controller;
+
+import com.dts.case_manager_backend.model.TaskStatusReport;
+import com.dts.case_manager_backend.model.TaskWeekReport;
+import com.dts.case_manager_backend.service.TaskReportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/reports/tasks")
+public class TaskReportController {
+    @Autowired
+    private TaskReportService taskReportService;
+
+    @GetMapping("/by-week")
+    public ResponseEntity<List<TaskWeekReport>> getReportByWeek(@RequestParam(defaultValue = "dueDate") String date,
+                                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return new ResponseEntity<>(taskReportService.reportByWeek(date, from, to), HttpStatus.OK);
+    }
+
+    @GetMapping("/by-status")
+    public ResponseEntity<List<TaskStatusReport>> getReportByStatus() {
+        return new ResponseEntity<>(taskReportService.reportByStatus(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,29 @@
+package com.dts.case_manager_backend.controller;
+
+import com.dts.case_manager_backend.deadline.DefaultDeadline;
+import com.dts.case_manager_backend.model.TaskStatusChange;
+import com.dts.case_manager_backend.querybudget.QueryBudget;
+import com.dts.case_manager_backend.service.TaskStatusHistoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/tasks")
+public class TaskStatusHistoryController {
+    @Autowired
+    private TaskStatusHistoryService taskStatusHistoryService;
+
+    @GetMapping("/{id}/history")
+    @DefaultDeadline("${tasks.deadlines.read:PT2S}")
+    @QueryBudget(3)
+    public ResponseEntity<List<TaskStatusChange>> getStatusHistory(@PathVariable long id) {
+        return new ResponseEntity<>(taskStatusHistoryService.retrieveStatusHistory(id), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,92 @@
+package com.dts.case_manager_backend.deadline;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Applies the current RequestDeadline to JDBC: a connection is not requested at all once the deadline has passed,
+// waiting for one from the pool is interrupted when it passes, and every statement created on the connection
+// gets the remaining time as its query timeout (rounded up to whole seconds, JDBC's granularity).
+public final class DeadlineConnections {
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "request-deadline-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @FunctionalInterface
+    public interface ConnectionSource {
+        Connection getConnection() throws SQLException;
+    }
+
+    private DeadlineConnections() {
+    }
+
+    public static Connection getConnection(ConnectionSource pool) throws SQLException {
+        long remainingNanos = RequestDeadline.remainingNanos();
+        if (remainingNanos == Long.MAX_VALUE) {
+            return pool.getConnection();
+        }
+        if (remainingNanos <= 0) {
+            throw new SQLTimeoutException("Request deadline passed before a connection was requested");
+        }
+
+        Thread caller = Thread.currentThread();
+        ScheduledFuture<?> interrupt = TIMER.schedule(caller::interrupt, remainingNanos, TimeUnit.NANOSECONDS);
+        Connection connection;
+        try {
+            connection = pool.getConnection();
+        } catch (SQLException e) {
+            if (RequestDeadline.isExpired()) {
+                throw new SQLTimeoutException("Request deadline passed while waiting for a connection", e);
+            }
+            throw e;
+        } finally {
+            if (!interrupt.cancel(false)) {
+                // The interrupt was delivered, or is being delivered; wait for it so it cannot leak past here.
+                while (!interrupt.isDone()) {
+                    Thread.onSpinWait();
+                }
+                Thread.interrupted();
+            }
+        }
+        return withQueryTimeouts(connection);
+    }
+
+    static Connection withQueryTimeouts(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result;
+            try {
+                result = method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+                long remainingNanos = RequestDeadline.remainingNanos();
+                if (remainingNanos <= 0) {
+                    statement.close();
+                    throw new SQLTimeoutException("Request deadline passed before the statement was run");
+                }
+                if (remainingNanos != Long.MAX_VALUE) {
+                    statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, TimeUnit.NANOSECONDS.toSeconds(remainingNanos + 999_999_999)));
+                }
+            }
+            return result;
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.dts.case_manager_backend.deadline;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Deadline for a handler method when the client does not send a shorter one, as an ISO-8601 duration.
+// Property placeholders are resolved, e.g. "${tasks.deadlines.read:PT2S}".
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DefaultDeadline {
+    String value();
+}
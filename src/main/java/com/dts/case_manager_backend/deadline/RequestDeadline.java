@@ -0,0 +1,54 @@
+package com.dts.case_manager_backend.deadline;
+
+import com.dts.case_manager_backend.exception.DeadlineExceededException;
+
+import java.util.concurrent.Callable;
+
+// The System.nanoTime() instant by which the current request must be answered, held per thread. Set by
+// RequestDeadlineInterceptor on the request thread and carried onto bulkhead threads by Bulkhead.
+public final class RequestDeadline {
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static Long current() {
+        return CURRENT.get();
+    }
+
+    public static void set(Long deadlineNanos) {
+        if (deadlineNanos == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadlineNanos);
+        }
+    }
+
+    // Long.MAX_VALUE when the current thread has no deadline.
+    public static long remainingNanos() {
+        Long deadline = CURRENT.get();
+        return deadline == null ? Long.MAX_VALUE : deadline - System.nanoTime();
+    }
+
+    public static boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    public static void checkNotExpired() {
+        if (isExpired()) {
+            throw new DeadlineExceededException("Request abandoned because its deadline has passed.");
+        }
+    }
+
+    // Runs work under the given deadline, refusing to start it if the deadline has already passed.
+    public static <T> T callWithin(Long deadlineNanos, Callable<T> work) throws Exception {
+        Long previous = CURRENT.get();
+        set(deadlineNanos);
+        try {
+            checkNotExpired();
+            return work.call();
+        } finally {
+            set(previous);
+        }
+    }
+}
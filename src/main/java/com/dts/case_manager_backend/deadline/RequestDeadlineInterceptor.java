@@ -0,0 +1,69 @@
+package com.dts.case_manager_backend.deadline;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Starts the request's deadline from the handler's @DefaultDeadline, shortened by an X-Request-Timeout header
+// (milliseconds) when the client will give up sooner. Clients can only shorten a deadline, never extend it.
+@Component
+public class RequestDeadlineInterceptor implements AsyncHandlerInterceptor {
+    static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    @Autowired
+    Environment environment;
+
+    private final Map<HandlerMethod, Long> defaultTimeouts = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = System.nanoTime();
+        long timeoutNanos = Math.min(defaultTimeoutNanos(handler), requestedTimeoutNanos(request));
+        RequestDeadline.set(timeoutNanos == Long.MAX_VALUE ? null : now + timeoutNanos);
+        return true;
+    }
+
+    // Async requests are resumed on another thread, which runs preHandle again; this one is free for other requests.
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestDeadline.set(null);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.set(null);
+    }
+
+    private long defaultTimeoutNanos(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return Long.MAX_VALUE;
+        }
+        return defaultTimeouts.computeIfAbsent(handlerMethod, method -> {
+            DefaultDeadline defaultDeadline = method.getMethodAnnotation(DefaultDeadline.class);
+            return defaultDeadline == null
+                    ? Long.MAX_VALUE
+                    : Duration.parse(environment.resolvePlaceholders(defaultDeadline.value())).toNanos();
+        });
+    }
+
+    private static long requestedTimeoutNanos(HttpServletRequest request) {
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header == null) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            long millis = Long.parseLong(header.trim());
+            return millis > 0 ? Duration.ofMillis(millis).toNanos() : Long.MAX_VALUE;
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.dts.case_manager_backend.exception;
+
+public class BulkheadFullException extends RuntimeException {
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.dts.case_manager_backend.exception;
+
+import lombok.Getter;
+
+@Getter
+public class DatabaseUnavailableException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public DatabaseUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public DatabaseUnavailableException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
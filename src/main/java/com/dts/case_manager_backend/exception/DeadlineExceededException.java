@@ -0,0 +1,7 @@
+package com.dts.case_manager_backend.exception;
+
+public class DeadlineExceededException extends RuntimeException {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
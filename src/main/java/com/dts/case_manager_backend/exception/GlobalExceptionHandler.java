@@ -1,5 +1,6 @@
 package com.dts.case_manager_backend.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -30,4 +31,70 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(errorObject, httpStatus);
     }
+
+    @ExceptionHandler(TaskImportNotFoundException.class)
+    public ResponseEntity<ErrorObject> handleTaskImportNotFoundException(TaskImportNotFoundException e){
+
+        HttpStatus httpStatus = HttpStatus.NOT_FOUND;
+
+        ErrorObject errorObject = new ErrorObject(httpStatus.value(),e.getMessage(), LocalDateTime.now());
+
+        return new ResponseEntity<>(errorObject, httpStatus);
+    }
+
+    @ExceptionHandler(TaskImportFailedException.class)
+    public ResponseEntity<ErrorObject> handleTaskImportFailedException(TaskImportFailedException e){
+
+        HttpStatus httpStatus = HttpStatus.BAD_REQUEST;
+
+        ErrorObject errorObject = new ErrorObject(httpStatus.value(),e.getMessage(), LocalDateTime.now());
+
+        return new ResponseEntity<>(errorObject, httpStatus);
+    }
+
+    @ExceptionHandler(TaskClaimNotFoundException.class)
+    public ResponseEntity<ErrorObject> handleTaskClaimNotFoundException(TaskClaimNotFoundException e){
+
+        HttpStatus httpStatus = HttpStatus.NOT_FOUND;
+
+        ErrorObject errorObject = new ErrorObject(httpStatus.value(),e.getMessage(), LocalDateTime.now());
+
+        return new ResponseEntity<>(errorObject, httpStatus);
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorObject> handleBulkheadFullException(BulkheadFullException e){
+
+        HttpStatus httpStatus = HttpStatus.SERVICE_UNAVAILABLE;
+
+        ErrorObject errorObject = new ErrorObject(httpStatus.value(),e.getMessage(), LocalDateTime.now());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+
+        return new ResponseEntity<>(errorObject, headers, httpStatus);
+    }
+
+    @ExceptionHandler(DatabaseUnavailableException.class)
+    public ResponseEntity<ErrorObject> handleDatabaseUnavailableException(DatabaseUnavailableException e){
+
+        HttpStatus httpStatus = HttpStatus.SERVICE_UNAVAILABLE;
+
+        ErrorObject errorObject = new ErrorObject(httpStatus.value(),e.getMessage(), LocalDateTime.now());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+
+        return new ResponseEntity<>(errorObject, headers, httpStatus);
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ErrorObject> handleDeadlineExceededException(DeadlineExceededException e){
+
+        HttpStatus httpStatus = HttpStatus.GATEWAY_TIMEOUT;
+
+        ErrorObject errorObject = new ErrorObject(httpStatus.value(),e.getMessage(), LocalDateTime.now());
+
+        return new ResponseEntity<>(errorObject, httpStatus);
+    }
 }
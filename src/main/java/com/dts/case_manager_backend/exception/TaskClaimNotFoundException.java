@@ -0,0 +1,7 @@
+package com.dts.case_manager_backend.exception;
+
+public class TaskClaimNotFoundException extends RuntimeException {
+    public TaskClaimNotFoundException(String message) {
+        super(message);
+    }
+}
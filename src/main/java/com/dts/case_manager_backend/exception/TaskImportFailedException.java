@@ -0,0 +1,7 @@
+package com.dts.case_manager_backend.exception;
+
+public class TaskImportFailedException extends RuntimeException {
+    public TaskImportFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
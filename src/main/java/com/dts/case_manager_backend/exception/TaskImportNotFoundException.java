@@ -0,0 +1,7 @@
+package com.dts.case_manager_backend.exception;
+
+public class TaskImportNotFoundException extends RuntimeException {
+    public TaskImportNotFoundException(String message) {
+        super(message);
+    }
+}
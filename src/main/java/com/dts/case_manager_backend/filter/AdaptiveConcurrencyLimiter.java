@@ -0,0 +1,79 @@
+package com.dts.case_manager_backend.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// AIMD concurrency limit driven by latency. The no-load latency is estimated as the lowest latency seen per
+// window of samples (allowed to drift up slowly so it can follow a real change). A sample well above it counts
+// as congestion and cuts the limit multiplicatively; otherwise the limit grows by one whenever at least half of
+// it is in use. Requests beyond the limit are refused immediately rather than queued. The limit should start
+// low, so that the first baseline is measured before the service is congested.
+public class AdaptiveConcurrencyLimiter {
+    private static final int WINDOW = 250;
+    private static final int FIRST_WINDOW = 10;
+    private static final double TOLERANCE = 2.0;
+    private static final long MIN_TOLERANCE_NANOS = 20_000_000;
+    private static final double BACKOFF = 0.95;
+    private static final double BASELINE_DRIFT = 1.1;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong windowMinLatency = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicInteger windowSamples = new AtomicInteger();
+    private volatile long baselineLatency = Long.MAX_VALUE;
+
+    public AdaptiveConcurrencyLimiter(int minLimit, int initialLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(Math.clamp(initialLimit, minLimit, maxLimit)));
+    }
+
+    public boolean tryAcquire() {
+        int limit = getLimit();
+        for (int current = inFlight.get(); current < limit; current = inFlight.get()) {
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void release(long latencyNanos) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        updateBaseline(latencyNanos);
+
+        long baseline = baselineLatency;
+        boolean congested = baseline != Long.MAX_VALUE
+                && latencyNanos > Math.max((long) (baseline * TOLERANCE), baseline + MIN_TOLERANCE_NANOS);
+        limitBits.getAndUpdate(bits -> {
+            double limit = Double.longBitsToDouble(bits);
+            if (congested) {
+                return Double.doubleToLongBits(Math.max(minLimit, limit * BACKOFF));
+            }
+            if (inFlightBeforeRelease * 2 >= limit) {
+                return Double.doubleToLongBits(Math.min(maxLimit, limit + 1));
+            }
+            return bits;
+        });
+    }
+
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void updateBaseline(long latencyNanos) {
+        windowMinLatency.accumulateAndGet(latencyNanos, Math::min);
+        int samples = windowSamples.incrementAndGet();
+        if (samples % WINDOW == 0 || samples == FIRST_WINDOW) {
+            long windowMin = windowMinLatency.getAndSet(Long.MAX_VALUE);
+            long previous = baselineLatency;
+            baselineLatency = previous == Long.MAX_VALUE ? windowMin : Math.min(windowMin, (long) (previous * BASELINE_DRIFT));
+        }
+    }
+}
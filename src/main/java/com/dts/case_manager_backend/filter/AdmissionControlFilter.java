@@ -0,0 +1,101 @@
+package com.dts.case_manager_backend.filter;
+
+import com.dts.case_manager_backend.exception.ErrorObject;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// Sheds load in front of the API instead of letting requests queue: each client is rate limited (429), and reads
+// and writes each get an adaptive concurrency limit (503). Both rejections carry Retry-After. Imports are only
+// rate limited, since their long streaming uploads would otherwise read as congestion.
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+    static final String CLIENT_ID_HEADER = "X-Client-Id";
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${tasks.admission.enabled:true}")
+    boolean enabled = true;
+
+    @Value("${tasks.admission.read.max-concurrency:200}")
+    int readMaxConcurrency = 200;
+
+    @Value("${tasks.admission.write.max-concurrency:50}")
+    int writeMaxConcurrency = 50;
+
+    @Value("${tasks.admission.rate-limit.requests-per-second:100}")
+    double requestsPerSecond = 100;
+
+    @Value("${tasks.admission.rate-limit.burst:200}")
+    int burst = 200;
+
+    AdaptiveConcurrencyLimiter readLimiter;
+    AdaptiveConcurrencyLimiter writeLimiter;
+    ClientRateLimiter clientRateLimiter;
+
+    @Override
+    protected void initFilterBean() {
+        readLimiter = new AdaptiveConcurrencyLimiter(Math.min(4, readMaxConcurrency), Math.min(10, readMaxConcurrency), readMaxConcurrency);
+        writeLimiter = new AdaptiveConcurrencyLimiter(Math.min(2, writeMaxConcurrency), Math.min(5, writeMaxConcurrency), writeMaxConcurrency);
+        clientRateLimiter = new ClientRateLimiter(requestsPerSecond, burst, System::nanoTime);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long waitNanos = clientRateLimiter.tryAcquire(clientId(request));
+        if (waitNanos > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, Math.ceilDiv(waitNanos, 1_000_000_000L), "Request rejected because the client rate limit was exceeded.");
+            return;
+        }
+
+        if (request.getRequestURI().startsWith("/api/v1/tasks/imports")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimiter limiter = READ_METHODS.contains(request.getMethod()) ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Request rejected because the service is at capacity.");
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - started);
+        }
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId == null || clientId.isBlank() ? request.getRemoteAddr() : clientId;
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus httpStatus, long retryAfterSeconds, String message) throws IOException {
+        response.setStatus(httpStatus.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, retryAfterSeconds)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorObject(httpStatus.value(), message, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,39 @@
+package com.dts.case_manager_backend.filter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+// Per-client token buckets kept as one theoretical-arrival-time counter per stripe (GCRA), so acquiring is a
+// single compare-and-set with no locks and no per-client allocation. Clients are hashed onto a fixed number of
+// stripes; two clients that collide share a bucket, which can only make the limit stricter for them.
+public class ClientRateLimiter {
+    private static final int STRIPES = 1 << 14;
+
+    private final AtomicLongArray theoreticalArrival = new AtomicLongArray(STRIPES);
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+
+    public ClientRateLimiter(double requestsPerSecond, int burst, LongSupplier nanoClock) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / requestsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+    }
+
+    // Returns 0 when a token was taken, otherwise how long until one will be available.
+    public long tryAcquire(String client) {
+        int stripe = (client.hashCode() * 0x9E3779B9 >>> 18) & (STRIPES - 1);
+        long now = nanoClock.getAsLong();
+        while (true) {
+            long current = theoreticalArrival.get(stripe);
+            long start = current == 0 ? now : Math.max(current, now);
+            long waitNanos = start - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(stripe, current, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
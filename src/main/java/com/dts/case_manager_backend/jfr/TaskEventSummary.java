@@ -0,0 +1,84 @@
+package com.dts.case_manager_backend.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Summarizes the Case Manager events of a recording into latency percentiles per operation. Runs without Spring:
+//   java -cp target/case-manager-backend-0.0.1-SNAPSHOT.jar -Dloader.main=com.dts.case_manager_backend.jfr.TaskEventSummary \
+//       org.springframework.boot.loader.launch.PropertiesLauncher rec.jfr
+// Only committed events are counted, so operations recorded with a threshold report percentiles of their slow calls.
+public class TaskEventSummary {
+    private static final String EVENT_PREFIX = "com.dts.case_manager_backend.";
+
+    public record OperationLatency(String event, String operation, int count, double p50Millis, double p90Millis,
+                                   double p99Millis, double maxMillis) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: TaskEventSummary <recording.jfr>");
+            System.exit(2);
+        }
+        print(summarize(Path.of(args[0])), System.out);
+    }
+
+    public static List<OperationLatency> summarize(Path recording) throws IOException {
+        Map<String, Map<String, List<Long>>> durations = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String name = event.getEventType().getName();
+                if (!name.startsWith(EVENT_PREFIX)) {
+                    continue;
+                }
+                durations.computeIfAbsent(name.substring(EVENT_PREFIX.length()), type -> new TreeMap<>())
+                        .computeIfAbsent(operation(event), operation -> new ArrayList<>())
+                        .add(event.getDuration().toNanos());
+            }
+        }
+
+        List<OperationLatency> summary = new ArrayList<>();
+        durations.forEach((event, operations) -> operations.forEach((operation, nanos) -> {
+            nanos.sort(null);
+            summary.add(new OperationLatency(event, operation, nanos.size(), percentile(nanos, 50),
+                    percentile(nanos, 90), percentile(nanos, 99), millis(nanos.get(nanos.size() - 1))));
+        }));
+        return summary;
+    }
+
+    public static void print(List<OperationLatency> summary, PrintStream out) {
+        out.printf("%-15s %-60s %8s %9s %9s %9s %9s%n", "event", "operation", "count", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (OperationLatency latency : summary) {
+            out.printf("%-15s %-60s %8d %9.3f %9.3f %9.3f %9.3f%n", latency.event(), latency.operation(), latency.count(),
+                    latency.p50Millis(), latency.p90Millis(), latency.p99Millis(), latency.maxMillis());
+        }
+    }
+
+    private static String operation(RecordedEvent event) {
+        if (event.hasField("path")) {
+            return event.getString("method") + " " + event.getString("path");
+        }
+        if (event.hasField("repository")) {
+            return event.getString("repository") + "." + event.getString("operation");
+        }
+        return event.hasField("operation") ? event.getString("operation") : "";
+    }
+
+    // Nearest rank, over durations sorted ascending.
+    private static double percentile(List<Long> sortedNanos, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.size());
+        return millis(sortedNanos.get(Math.max(0, rank - 1)));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
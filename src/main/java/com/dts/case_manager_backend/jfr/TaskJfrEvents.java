@@ -0,0 +1,63 @@
+package com.dts.case_manager_backend.jfr;
+
+import com.dts.case_manager_backend.model.StatusDTO;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskLookupResult;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+// How the event fields are read off a call: the task id is a leading Long argument or the id of a returned task,
+// the status is the one being set or returned, and rows counts what came back.
+final class TaskJfrEvents {
+    private TaskJfrEvents() {
+    }
+
+    static long taskId(Object[] arguments, Object result) {
+        if (arguments.length > 0 && arguments[0] instanceof Long id) {
+            return id;
+        }
+        Task task = task(result);
+        return task == null || task.getId() == null ? 0 : task.getId();
+    }
+
+    static String status(Object[] arguments, Object result) {
+        for (Object argument : arguments) {
+            if (argument instanceof StatusDTO statusDTO) {
+                return statusDTO.status();
+            }
+        }
+        Task task = task(result);
+        return task == null ? null : task.getStatus();
+    }
+
+    static long rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.isEmpty() ? 0 : 1;
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        if (result instanceof TaskLookupResult lookup) {
+            return lookup.tasks().size();
+        }
+        return 1;
+    }
+
+    private static Task task(Object result) {
+        if (result instanceof Optional<?> optional) {
+            result = optional.orElse(null);
+        }
+        return result instanceof Task task ? task : null;
+    }
+}
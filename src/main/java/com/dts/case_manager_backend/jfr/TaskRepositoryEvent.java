@@ -0,0 +1,34 @@
+package com.dts.case_manager_backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.dts.case_manager_backend.TaskRepository")
+@Label("Task Repository Call")
+@Description("A call to a repository, with the stack trace that shows who made it")
+@Category({"Case Manager", "Repository"})
+@Threshold("1 ms")
+@StackTrace(true)
+public class TaskRepositoryEvent extends jdk.jfr.Event {
+    @Label("Repository")
+    String repository;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Task Id")
+    @Description("The task the call is about, 0 if it is not about one task")
+    long taskId;
+
+    @Label("Rows")
+    @Description("Rows returned or affected; for count queries, the count")
+    long rows;
+
+    @Label("Failure")
+    @Description("The exception the call ended with, if any")
+    String failure;
+}
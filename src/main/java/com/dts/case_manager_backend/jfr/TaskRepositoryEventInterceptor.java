@@ -0,0 +1,65 @@
+package com.dts.case_manager_backend.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Times a repository call as a TaskRepositoryEvent, named after the repository interface rather than the
+// implementing class, so Spring Data proxies and in-memory repositories report alike.
+public class TaskRepositoryEventInterceptor implements MethodInterceptor {
+    static final String REPOSITORY_PACKAGE = "com.dts.case_manager_backend.repository";
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        TaskRepositoryEvent event = new TaskRepositoryEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Object target = invocation.getThis();
+                event.repository = target == null ? invocation.getMethod().getDeclaringClass().getSimpleName()
+                        : repositoryNames.computeIfAbsent(target.getClass(), TaskRepositoryEventInterceptor::repositoryName);
+                event.operation = invocation.getMethod().getName();
+                event.taskId = TaskJfrEvents.taskId(invocation.getArguments(), result);
+                event.rows = TaskJfrEvents.rows(result);
+                event.failure = failure == null ? null : failure.getClass().getName();
+                event.commit();
+            }
+        }
+    }
+
+    public static boolean isRepository(Class<?> type) {
+        return repositoryInterface(type) != null;
+    }
+
+    private static String repositoryName(Class<?> type) {
+        Class<?> repositoryInterface = repositoryInterface(type);
+        return (repositoryInterface == null ? type : repositoryInterface).getSimpleName();
+    }
+
+    private static Class<?> repositoryInterface(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Class<?> candidate : current.getInterfaces()) {
+                if (REPOSITORY_PACKAGE.equals(candidate.getPackageName())) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+}
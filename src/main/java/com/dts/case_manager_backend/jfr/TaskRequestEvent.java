@@ -0,0 +1,33 @@
+package com.dts.case_manager_backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.dts.case_manager_backend.TaskRequest")
+@Label("Task Request")
+@Description("An API request, from its handler being chosen until its response is complete")
+@Category({"Case Manager", "Request"})
+@Threshold("0 ms")
+@StackTrace(false)
+public class TaskRequestEvent extends jdk.jfr.Event {
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    @Description("The handler's path pattern, e.g. /api/v1/tasks/{id}")
+    String path;
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Task Id")
+    @Description("The task in the path, 0 if there is none")
+    long taskId;
+
+    @Label("HTTP Status")
+    int status;
+}
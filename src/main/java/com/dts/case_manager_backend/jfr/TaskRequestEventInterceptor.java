@@ -0,0 +1,60 @@
+package com.dts.case_manager_backend.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+// Times an API request as a TaskRequestEvent. The event lives on the request, so a long-poll that is resumed on
+// another thread is still one event spanning the whole wait.
+public class TaskRequestEventInterceptor implements AsyncHandlerInterceptor {
+    static final String EVENT_ATTRIBUTE = TaskRequestEvent.class.getName();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(EVENT_ATTRIBUTE) != null) {
+            return true;
+        }
+        TaskRequestEvent event = new TaskRequestEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        TaskRequestEvent event = (TaskRequestEvent) request.getAttribute(EVENT_ATTRIBUTE);
+        if (event == null) {
+            return;
+        }
+        request.removeAttribute(EVENT_ATTRIBUTE);
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = request.getMethod();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            event.path = pattern == null ? request.getRequestURI() : pattern.toString();
+            event.handler = handler instanceof HandlerMethod handlerMethod
+                    ? handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName()
+                    : null;
+            event.taskId = taskId(request);
+            event.status = response.getStatus();
+            event.commit();
+        }
+    }
+
+    private static long taskId(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String id = variables == null ? null : variables.getOrDefault("id", variables.get("taskId"));
+        try {
+            return id == null ? 0 : Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.dts.case_manager_backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.dts.case_manager_backend.TaskService")
+@Label("Task Service Call")
+@Description("A call to a TaskServiceImpl method")
+@Category({"Case Manager", "Service"})
+@Threshold("0 ms")
+@StackTrace(false)
+public class TaskServiceEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Task Id")
+    @Description("The task the call is about, 0 if it is not about one task")
+    long taskId;
+
+    @Label("Task Status")
+    @Description("The status set or returned, if the call sets or returns one task")
+    String status;
+
+    @Label("Rows")
+    @Description("Tasks returned, or rows affected")
+    long rows;
+
+    @Label("Failure")
+    @Description("The exception the call ended with, if any")
+    String failure;
+}
@@ -0,0 +1,37 @@
+package com.dts.case_manager_backend.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+// Times a TaskServiceImpl call as a TaskServiceEvent. Nothing is read off the call unless the event will be
+// committed, so a recording that thresholds most calls away costs little more than the timing itself.
+public class TaskServiceEventInterceptor implements MethodInterceptor {
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        TaskServiceEvent event = new TaskServiceEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Object[] arguments = invocation.getArguments();
+                event.operation = invocation.getMethod().getName();
+                event.taskId = TaskJfrEvents.taskId(arguments, result);
+                event.status = TaskJfrEvents.status(arguments, result);
+                event.rows = TaskJfrEvents.rows(result);
+                event.failure = failure == null ? null : failure.getClass().getName();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.dts.case_manager_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// A Complete task moved out of the tasks table by TaskArchiver. It keeps its id, and its description stays in
+// task_descriptions, so lookups by id can fall through to it unchanged.
+@Table(name = "tasks_archive")
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class ArchivedTask {
+    @Id
+    @Column(updatable = false, nullable = false)
+    private Long id;
+
+    @Column
+    private String title;
+
+    @Column
+    private String status;
+
+    @Column (name = "created_date")
+    private LocalDateTime createdDate;
+
+    @Column (name = "due_date")
+    private LocalDateTime dueDate;
+
+    @Column (name = "archived_date", nullable = false)
+    private LocalDateTime archivedDate;
+
+    public Task toTask() {
+        return Task.builder()
+                .id(id)
+                .title(title)
+                .status(status)
+                .createdDate(createdDate)
+                .dueDate(dueDate)
+                .build();
+    }
+}
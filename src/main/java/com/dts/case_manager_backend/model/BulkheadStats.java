@@ -0,0 +1,12 @@
+package com.dts.case_manager_backend.model;
+
+public record BulkheadStats(
+        String name,
+        int threads,
+        int active,
+        int queued,
+        int queueCapacity,
+        long completed,
+        long rejected,
+        long deadlineExceeded) {
+}
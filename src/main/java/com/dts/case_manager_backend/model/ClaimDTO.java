@@ -0,0 +1,4 @@
+package com.dts.case_manager_backend.model;
+
+public record ClaimDTO(String worker, Long leaseSeconds) {
+}
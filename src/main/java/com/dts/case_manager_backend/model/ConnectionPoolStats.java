@@ -0,0 +1,12 @@
+package com.dts.case_manager_backend.model;
+
+public record ConnectionPoolStats(
+        String name,
+        int maximumSize,
+        int active,
+        int idle,
+        int waiting,
+        long checkouts,
+        double meanHeldMillis,
+        long maxHeldMillis) {
+}
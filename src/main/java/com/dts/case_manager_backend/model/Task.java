@@ -1,12 +1,20 @@
 package com.dts.case_manager_backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_due_date", columnList = "due_date"),
+        @Index(name = "idx_tasks_status_due_date", columnList = "status, due_date, id"),
+        @Index(name = "idx_tasks_deleted_date", columnList = "deleted_date")})
 @Entity
+// Deleted tasks are tombstoned rather than removed, see TaskPurger. The restriction hides them from every load
+// and query of the entity, including findById; native SQL against tasks has to exclude them itself.
+@SQLRestriction("deleted_date is null")
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -22,7 +30,8 @@ public class Task {
     @Column
     private String title;
 
-    @Column
+    // Stored in task_descriptions, see TaskDescription. TaskServiceImpl loads it for every task it returns whole.
+    @Transient
     private String description;
 
     @Column
@@ -33,4 +42,8 @@ public class Task {
 
     @Column (name = "due_date")
     private LocalDateTime dueDate;
+
+    @Column (name = "deleted_date")
+    @JsonIgnore
+    private LocalDateTime deletedDate;
 }
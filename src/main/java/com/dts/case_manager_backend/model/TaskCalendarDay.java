@@ -0,0 +1,7 @@
+package com.dts.case_manager_backend.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record TaskCalendarDay(LocalDate date, List<Task> tasks) {
+}
@@ -0,0 +1,6 @@
+package com.dts.case_manager_backend.model;
+
+import java.time.LocalDateTime;
+
+public record TaskClaim(Task task, String worker, LocalDateTime leaseExpiresAt) {
+}
@@ -0,0 +1,114 @@
+package com.dts.case_manager_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.Length;
+import org.springframework.data.domain.Persistable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// Descriptions live in their own table so the tasks rows stay narrow and are only read when asked for.
+// Anything over COMPRESSION_THRESHOLD_BYTES is stored deflated. The id is the task's, so it is assigned rather
+// than generated; Persistable tells save() that a new description is new, and it is inserted without a SELECT first.
+@Table(name = "task_descriptions")
+@Entity
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+public class TaskDescription implements Persistable<Long> {
+    public static final int COMPRESSION_THRESHOLD_BYTES = 1024;
+
+    @Id
+    @Column(name = "task_id", updatable = false, nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private boolean compressed;
+
+    @Column(nullable = false, length = Length.LONG32)
+    @ToString.Exclude
+    private byte[] content;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean isNew;
+
+    public TaskDescription(Long taskId, boolean compressed, byte[] content) {
+        this.taskId = taskId;
+        this.compressed = compressed;
+        this.content = content;
+        this.isNew = true;
+    }
+
+    public static TaskDescription of(Long taskId, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        if (bytes.length <= COMPRESSION_THRESHOLD_BYTES) {
+            return new TaskDescription(taskId, false, bytes);
+        }
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(bytes);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        byte[] buffer = new byte[4096];
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+
+        byte[] deflated = out.toByteArray();
+        // Incompressible text is kept as-is rather than paying the inflate cost for nothing.
+        return deflated.length < bytes.length
+                ? new TaskDescription(taskId, true, deflated)
+                : new TaskDescription(taskId, false, bytes);
+    }
+
+    @Override
+    public Long getId() {
+        return taskId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    public String text() {
+        if (!compressed) {
+            return new String(content, StandardCharsets.UTF_8);
+        }
+
+        Inflater inflater = new Inflater();
+        inflater.setInput(content);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length * 3);
+        byte[] buffer = new byte[4096];
+        try {
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && inflater.needsInput()) {
+                    throw new IllegalStateException("Description for task " + taskId + " is truncated");
+                }
+                out.write(buffer, 0, inflated);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Description for task " + taskId + " is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
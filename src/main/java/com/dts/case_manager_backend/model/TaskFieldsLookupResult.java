@@ -0,0 +1,8 @@
+package com.dts.case_manager_backend.model;
+
+import java.util.List;
+import java.util.Map;
+
+// A TaskLookupResult narrowed to a sparse fieldset: each task holds only the requested fields, in the order asked for.
+public record TaskFieldsLookupResult(List<Map<String, Object>> tasks, List<Long> missingIds) {
+}
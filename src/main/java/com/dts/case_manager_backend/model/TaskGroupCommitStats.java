@@ -0,0 +1,11 @@
+package com.dts.case_manager_backend.model;
+
+public record TaskGroupCommitStats(
+        long commits,
+        long updates,
+        double updatesPerCommit,
+        int largestBatch,
+        int queued,
+        double windowMillis,
+        int maxBatchSize) {
+}
@@ -0,0 +1,29 @@
+package com.dts.case_manager_backend.model;
+
+import com.dts.case_manager_backend.exception.InvalidDTOException;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+public enum TaskImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final MediaType mediaType;
+
+    TaskImportFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static TaskImportFormat fromContentType(String contentType) {
+        MediaType requested = MediaType.parseMediaType(contentType);
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.isCompatibleWith(requested))
+                .findFirst()
+                .orElseThrow(() -> new InvalidDTOException("Tasks cannot be imported because the content type is not supported.  Supported content types are: text/csv, application/x-ndjson"));
+    }
+}
@@ -0,0 +1,28 @@
+package com.dts.case_manager_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Table(name = "task_import_rejects", indexes = @Index(name = "idx_task_import_rejects_import_row", columnList = "import_id, source_row"))
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@ToString
+public class TaskImportReject {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "import_id", nullable = false, updatable = false)
+    private Long importId;
+
+    @Column(name = "source_row", nullable = false, updatable = false)
+    private long rowNumber;
+
+    @Column(nullable = false, updatable = false, length = 1000)
+    private String message;
+}
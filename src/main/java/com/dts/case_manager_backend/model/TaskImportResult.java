@@ -0,0 +1,23 @@
+package com.dts.case_manager_backend.model;
+
+import java.util.List;
+
+// rejects holds at most the first few rejects of this run; the full list is paged from the rejects endpoint.
+public record TaskImportResult(
+        Long importId,
+        TaskImport.Status status,
+        long rowsProcessed,
+        long accepted,
+        long rejected,
+        List<TaskImportReject> rejects) {
+
+    public static TaskImportResult of(TaskImport taskImport, List<TaskImportReject> rejects) {
+        return new TaskImportResult(
+                taskImport.getId(),
+                taskImport.getStatus(),
+                taskImport.getRowsProcessed(),
+                taskImport.getAccepted(),
+                taskImport.getRejected(),
+                rejects);
+    }
+}
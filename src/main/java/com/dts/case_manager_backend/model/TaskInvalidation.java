@@ -0,0 +1,36 @@
+package com.dts.case_manager_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// One committed task change, appended by the node that made it so other nodes can bring their in-process copies
+// up to date. Its id is the change's version. Rows are written and read by TaskInvalidationLog with plain
+// JDBC and deleted once older than the retention.
+@Table(name = "task_invalidation_log", indexes = @Index(name = "idx_task_invalidation_log_logged_at", columnList = "logged_at"))
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@ToString
+public class TaskInvalidation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false, updatable = false)
+    private Long taskId;
+
+    @Column(nullable = false, updatable = false)
+    private String type;
+
+    @Column(nullable = false, updatable = false)
+    private String origin;
+
+    @Column(name = "logged_at", nullable = false, updatable = false)
+    private LocalDateTime loggedAt;
+}
@@ -0,0 +1,18 @@
+package com.dts.case_manager_backend.model;
+
+import java.time.LocalDateTime;
+
+// Lags are from a change's log entry being written to this node applying it, both read off the database clock,
+// over the last applied changes; maxLagMillis is since startup.
+public record TaskInvalidationStats(
+        String nodeId,
+        long lastSequence,
+        long applied,
+        int pendingGaps,
+        LocalDateTime lastPollAt,
+        long pollIntervalMillis,
+        double lagP50Millis,
+        double lagP99Millis,
+        double recentMaxLagMillis,
+        double maxLagMillis) {
+}
@@ -0,0 +1,30 @@
+package com.dts.case_manager_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// A worker's time-limited claim on an in progress task. Expired leases are reaped and the task goes back to the queue.
+@Table(name = "task_leases", indexes = @Index(name = "idx_task_leases_expires_at", columnList = "expires_at"))
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@ToString
+public class TaskLease {
+    @Id
+    @Column(name = "task_id", updatable = false, nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false, updatable = false)
+    private String worker;
+
+    @Column(name = "claimed_date", nullable = false, updatable = false)
+    private LocalDateTime claimedDate;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,7 @@
+package com.dts.case_manager_backend.model;
+
+import java.util.List;
+
+// tasks follows the order of the requested ids; ids that matched no task are listed in missingIds.
+public record TaskLookupResult(List<Task> tasks, List<Long> missingIds) {
+}
@@ -0,0 +1,14 @@
+package com.dts.case_manager_backend.model;
+
+import java.time.LocalDateTime;
+
+public record TaskPurgeStats(
+        long backlog,
+        LocalDateTime oldestDeletedDate,
+        long purged,
+        LocalDateTime lastRunAt,
+        long lastRunPurged,
+        long lastRunMillis,
+        int batchSize,
+        int maxRowsPerSecond) {
+}
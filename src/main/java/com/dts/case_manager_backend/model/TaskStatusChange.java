@@ -0,0 +1,38 @@
+package com.dts.case_manager_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// One entry of a task's append-only status history. Rows are inserted in batches by TaskStatusHistoryWriter
+// and never updated.
+@Table(name = "task_status_history", indexes = @Index(name = "idx_task_status_history_task_id", columnList = "task_id, changed_at, id"))
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@ToString
+public class TaskStatusChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false, updatable = false)
+    private Long taskId;
+
+    @Column(nullable = false, updatable = false)
+    private String actor;
+
+    @Column(name = "from_status", updatable = false)
+    private String fromStatus;
+
+    @Column(name = "to_status", nullable = false, updatable = false)
+    private String toStatus;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,78 @@
+package com.dts.case_manager_backend.querybudget;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Counts the statements of requests whose handler declares a @QueryBudget, and logs a warning with the statements
+// that ran when a request goes over it. The counter lives on the request and is active only on the threads that
+// run the request's handler, plus the bulkhead threads they hand work to. Work done for an async request by some
+// other thread, such as the shared reload that wakes long-polls, is not counted.
+@Slf4j
+@Component
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+    static final String COUNTER_ATTRIBUTE = QueryCounter.class.getName();
+    private static final int NO_BUDGET = -1;
+
+    @Value("${tasks.query-budgets.enabled:true}")
+    boolean enabled = true;
+
+    private final Map<HandlerMethod, Integer> budgets = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || budget(handler) == NO_BUDGET) {
+            return true;
+        }
+        QueryCounter counter = (QueryCounter) request.getAttribute(COUNTER_ATTRIBUTE);
+        if (counter == null) {
+            counter = new QueryCounter(QueryCounting.current());
+            request.setAttribute(COUNTER_ATTRIBUTE, counter);
+        }
+        QueryCounting.set(counter);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        restore(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryCounter counter = restore(request);
+        if (counter == null) {
+            return;
+        }
+        int budget = budget(handler);
+        if (counter.count() > budget) {
+            log.warn("{} {} ran {} statements, over its query budget of {}: {}",
+                    request.getMethod(), request.getRequestURI(), counter.count(), budget, counter);
+        }
+    }
+
+    private static QueryCounter restore(HttpServletRequest request) {
+        QueryCounter counter = (QueryCounter) request.getAttribute(COUNTER_ATTRIBUTE);
+        if (counter != null) {
+            QueryCounting.set(counter.parent());
+        }
+        return counter;
+    }
+
+    private int budget(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return NO_BUDGET;
+        }
+        return budgets.computeIfAbsent(handlerMethod, method -> {
+            QueryBudget queryBudget = method.getMethodAnnotation(QueryBudget.class);
+            return queryBudget == null ? NO_BUDGET : queryBudget.value();
+        });
+    }
+}
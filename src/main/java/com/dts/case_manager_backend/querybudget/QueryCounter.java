@@ -0,0 +1,51 @@
+package com.dts.case_manager_backend.querybudget;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// The JDBC statements run within one scope, such as a request or a block passed to QueryCounting.count. Scopes
+// nest, and a statement counts towards every enclosing one. Statements are kept by SQL with how often each ran, so
+// an N+1 shows up as one query repeated N times; only the first MAX_DISTINCT distinct statements are kept.
+public final class QueryCounter {
+    static final int MAX_DISTINCT = 50;
+
+    private final QueryCounter parent;
+    private final Map<String, Integer> statements = new LinkedHashMap<>();
+    private int count;
+
+    public QueryCounter(QueryCounter parent) {
+        this.parent = parent;
+    }
+
+    public QueryCounter parent() {
+        return parent;
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    public synchronized Map<String, Integer> statements() {
+        return Map.copyOf(statements);
+    }
+
+    void record(String sql) {
+        for (QueryCounter counter = this; counter != null; counter = counter.parent) {
+            counter.add(sql);
+        }
+    }
+
+    private synchronized void add(String sql) {
+        count++;
+        if (statements.containsKey(sql) || statements.size() < MAX_DISTINCT) {
+            statements.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder().append(count).append(" statements");
+        statements.forEach((sql, times) -> builder.append("\n  ").append(times).append(" x ").append(sql));
+        return builder.toString();
+    }
+}
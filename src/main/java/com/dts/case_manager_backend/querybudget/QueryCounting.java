@@ -0,0 +1,104 @@
+package com.dts.case_manager_backend.querybudget;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+
+// The thread's current QueryCounter, and the JDBC wrapping that feeds it. Only connections taken while a count is
+// running are wrapped, so nothing is proxied when no one is counting. Bulkhead carries the counter to its threads.
+public final class QueryCounting {
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private QueryCounting() {
+    }
+
+    public static QueryCounter current() {
+        return CURRENT.get();
+    }
+
+    public static void set(QueryCounter counter) {
+        if (counter == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(counter);
+        }
+    }
+
+    // Runs work in a new scope nested in the current one and returns its counter, e.g. to assert on in tests.
+    public static QueryCounter count(Runnable work) {
+        QueryCounter previous = CURRENT.get();
+        QueryCounter counter = new QueryCounter(previous);
+        set(counter);
+        try {
+            work.run();
+        } finally {
+            set(previous);
+        }
+        return counter;
+    }
+
+    public static <T> T callWithin(QueryCounter counter, Callable<T> work) throws Exception {
+        QueryCounter previous = CURRENT.get();
+        set(counter);
+        try {
+            return work.call();
+        } finally {
+            set(previous);
+        }
+    }
+
+    public static Connection withStatementCounting(Connection connection) {
+        if (CURRENT.get() == null) {
+            return connection;
+        }
+        return (Connection) proxy(Connection.class, connection, (method, args, result) -> switch (method) {
+            case "createStatement" -> counting(Statement.class, (Statement) result, null);
+            case "prepareStatement" -> counting(PreparedStatement.class, (Statement) result, (String) args[0]);
+            case "prepareCall" -> counting(CallableStatement.class, (Statement) result, (String) args[0]);
+            default -> result;
+        });
+    }
+
+    private static Statement counting(Class<? extends Statement> type, Statement statement, String preparedSql) {
+        return (Statement) proxy(type, statement, (method, args, result) -> {
+            if (method.startsWith("execute")) {
+                QueryCounter counter = CURRENT.get();
+                if (counter != null) {
+                    String sql = preparedSql != null ? preparedSql : args != null && args.length > 0 && args[0] instanceof String text ? text : "(batch)";
+                    String statementSql = WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+                    counter.record(method.equals("executeBatch") ? "batch: " + statementSql : statementSql);
+                }
+            }
+            return result;
+        });
+    }
+
+    @FunctionalInterface
+    private interface AfterCall {
+        Object apply(String method, Object[] args, Object result) throws Exception;
+    }
+
+    private static Object proxy(Class<?> type, Object target, AfterCall afterCall) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return afterCall.apply(method.getName(), args, result);
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.dts.case_manager_backend.repository;
+
+import com.dts.case_manager_backend.model.ArchivedTask;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Moves between tasks and tasks_archive are plain INSERT ... SELECT and DELETE statements, so a batch costs a
+// fixed number of round trips and ids are carried over as they are. Callers are expected to hold a transaction.
+public interface ArchivedTaskRepository extends CrudRepository<ArchivedTask, Long> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Iterable<ArchivedTask> findAll();
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Iterable<ArchivedTask> findAllById(Iterable<Long> ids);
+
+    // Locks the rows it returns, so a status change racing the move waits for it and then finds no task.
+    @Query(nativeQuery = true, value = "select id from tasks where status = :status and created_date < :createdBefore and deleted_date is null order by id limit :limit for update")
+    List<Long> lockIdsToArchive(@Param("status") String status, @Param("createdBefore") LocalDateTime createdBefore, @Param("limit") int limit);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into tasks_archive (id, title, status, created_date, due_date, archived_date)
+            select id, title, status, created_date, due_date, :archivedDate from tasks where id in :ids""")
+    int copyFromTasks(@Param("ids") List<Long> ids, @Param("archivedDate") LocalDateTime archivedDate);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "delete from tasks where id in :ids")
+    int deleteFromTasks(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into tasks (id, title, status, created_date, due_date)
+            select id, title, status, created_date, due_date from tasks_archive where id = :id""")
+    int copyToTasks(@Param("id") Long id);
+}
@@ -0,0 +1,48 @@
+package com.dts.case_manager_backend.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+// For databases where SKIP LOCKED is missing or, as on H2, applied after LIMIT (so a locked head row yields no
+// row at all). Reads a window of the earliest candidates without locking and claims one with a conditional
+// update. Claimers start at a random position in the window so they spread over different rows instead of
+// all waiting on the head of the queue, and a claimer that loses every race re-reads the window.
+public class CompareAndSetTaskClaimRepository implements TaskClaimRepository {
+    private static final int CANDIDATES = 32;
+    private static final int SPREAD = 8;
+    private static final int ATTEMPTS = 3;
+    private static final String SELECT_CANDIDATES = "select id from tasks where status = ? and deleted_date is null order by due_date, id limit " + CANDIDATES;
+    private static final String COMPARE_AND_SET_STATUS = "update tasks set status = ? where id = ? and status = ? and deleted_date is null";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CompareAndSetTaskClaimRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<Long> claimNext(String fromStatus, String toStatus) {
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            List<Long> candidates = jdbcTemplate.queryForList(SELECT_CANDIDATES, Long.class, fromStatus);
+            if (candidates.isEmpty()) {
+                return Optional.empty();
+            }
+            int start = ThreadLocalRandom.current().nextInt(Math.min(SPREAD, candidates.size()));
+            for (int i = 0; i < candidates.size(); i++) {
+                Long id = candidates.get((start + i) % candidates.size());
+                if (compareAndSetStatus(id, fromStatus, toStatus)) {
+                    return Optional.of(id);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean compareAndSetStatus(Long id, String expectedStatus, String newStatus) {
+        return jdbcTemplate.update(COMPARE_AND_SET_STATUS, newStatus, id, expectedStatus) == 1;
+    }
+}
@@ -0,0 +1,68 @@
+package com.dts.case_manager_backend.repository;
+
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskDescription;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+// Portable JDBC batch inserts, used on H2 and any database without a faster bulk path.
+public class JdbcTaskBatchWriter implements TaskBatchWriter {
+    private static final String INSERT_TASK = "insert into tasks (title, status, created_date, due_date) values (?, ?, ?, ?)";
+    private static final String INSERT_DESCRIPTION = "insert into task_descriptions (task_id, compressed, content) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTaskBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void write(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_TASK, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        Task task = tasks.get(i);
+                        statement.setString(1, task.getTitle());
+                        statement.setString(2, task.getStatus());
+                        statement.setTimestamp(3, Timestamp.valueOf(task.getCreatedDate()));
+                        statement.setTimestamp(4, Timestamp.valueOf(task.getDueDate()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return tasks.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+
+        List<TaskDescription> descriptions = tasks.stream()
+                .filter(task -> !task.getDescription().isEmpty())
+                .map(task -> TaskDescription.of(task.getId(), task.getDescription()))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_DESCRIPTION, descriptions, descriptions.size(), (statement, description) -> {
+            statement.setLong(1, description.getTaskId());
+            statement.setBoolean(2, description.isCompressed());
+            statement.setBytes(3, description.getContent());
+        });
+    }
+}
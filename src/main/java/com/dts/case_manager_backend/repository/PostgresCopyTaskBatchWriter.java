@@ -0,0 +1,82 @@
+package com.dts.case_manager_backend.repository;
+
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskDescription;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HexFormat;
+import java.util.List;
+
+// Streams each batch through COPY ... FROM STDIN. Ids are reserved from the identity sequence up front
+// because COPY cannot return generated keys, and descriptions need them.
+public class PostgresCopyTaskBatchWriter implements TaskBatchWriter {
+    private static final String RESERVE_IDS = "select nextval(pg_get_serial_sequence('tasks', 'id')) from generate_series(1, ?)";
+    private static final String COPY_TASKS = "COPY tasks (id, title, status, created_date, due_date) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_DESCRIPTIONS = "COPY task_descriptions (task_id, compressed, content) FROM STDIN WITH (FORMAT csv)";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresCopyTaskBatchWriter(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void write(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList(RESERVE_IDS, Long.class, tasks.size());
+        StringBuilder taskRows = new StringBuilder(tasks.size() * 96);
+        StringBuilder descriptionRows = new StringBuilder();
+        HexFormat hex = HexFormat.of();
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            task.setId(ids.get(i));
+            taskRows.append(task.getId()).append(',')
+                    .append(quote(task.getTitle())).append(',')
+                    .append(quote(task.getStatus())).append(',')
+                    .append(task.getCreatedDate()).append(',')
+                    .append(task.getDueDate()).append('\n');
+
+            if (!task.getDescription().isEmpty()) {
+                TaskDescription description = TaskDescription.of(task.getId(), task.getDescription());
+                descriptionRows.append(description.getTaskId()).append(',')
+                        .append(description.isCompressed()).append(",\\x")
+                        .append(hex.formatHex(description.getContent())).append('\n');
+            }
+        }
+
+        // The connection is the one bound to the surrounding transaction, so it is not closed here.
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            copyManager.copyIn(COPY_TASKS, new StringReader(taskRows.toString()));
+            if (!descriptionRows.isEmpty()) {
+                copyManager.copyIn(COPY_DESCRIPTIONS, new StringReader(descriptionRows.toString()));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("COPY of task batch failed", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,31 @@
+package com.dts.case_manager_backend.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+
+// PostgreSQL: SKIP LOCKED lets concurrent claimers pass over rows another transaction has already locked instead
+// of queueing behind it, so each one takes the next free task.
+public class SkipLockedTaskClaimRepository implements TaskClaimRepository {
+    private static final String SELECT_NEXT = "select id from tasks where status = ? and deleted_date is null order by due_date, id limit 1 for update skip locked";
+    private static final String UPDATE_STATUS = "update tasks set status = ? where id = ?";
+    private static final String COMPARE_AND_SET_STATUS = "update tasks set status = ? where id = ? and status = ? and deleted_date is null";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SkipLockedTaskClaimRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<Long> claimNext(String fromStatus, String toStatus) {
+        Optional<Long> id = jdbcTemplate.queryForList(SELECT_NEXT, Long.class, fromStatus).stream().findFirst();
+        id.ifPresent(claimed -> jdbcTemplate.update(UPDATE_STATUS, toStatus, claimed));
+        return id;
+    }
+
+    @Override
+    public boolean compareAndSetStatus(Long id, String expectedStatus, String newStatus) {
+        return jdbcTemplate.update(COMPARE_AND_SET_STATUS, newStatus, id, expectedStatus) == 1;
+    }
+}
@@ -0,0 +1,10 @@
+package com.dts.case_manager_backend.repository;
+
+import com.dts.case_manager_backend.model.Task;
+
+import java.util.List;
+
+// Bulk insert path used by imports. Must be called inside a transaction; assigns the generated ids to the tasks.
+public interface TaskBatchWriter {
+    void write(List<Task> tasks);
+}
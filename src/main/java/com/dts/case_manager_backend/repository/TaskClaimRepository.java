@@ -0,0 +1,12 @@
+package com.dts.case_manager_backend.repository;
+
+import java.util.Optional;
+
+// Status transitions used by the work queue. Both run as single atomic steps so concurrent workers never
+// claim or release the same task twice; callers are expected to hold a transaction.
+public interface TaskClaimRepository {
+    // Moves the task with the earliest due date in fromStatus to toStatus, returning its id.
+    Optional<Long> claimNext(String fromStatus, String toStatus);
+
+    boolean compareAndSetStatus(Long id, String expectedStatus, String newStatus);
+}
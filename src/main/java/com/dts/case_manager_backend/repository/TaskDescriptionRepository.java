@@ -0,0 +1,14 @@
+package com.dts.case_manager_backend.repository;
+
+import com.dts.case_manager_backend.model.TaskDescription;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+
+public interface TaskDescriptionRepository extends CrudRepository<TaskDescription, Long> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Iterable<TaskDescription> findAllById(Iterable<Long> ids);
+}
@@ -0,0 +1,10 @@
+package com.dts.case_manager_backend.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface TaskFieldsRepository {
+    List<Map<String, Object>> findAllFields(List<String> fields);
+    Optional<Map<String, Object>> findFieldsById(Long id, List<String> fields);
+}
@@ -0,0 +1,95 @@
+package com.dts.case_manager_backend.repository;
+
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskDescription;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.*;
+
+// Selects only the requested Task attributes as a tuple projection, so unrequested columns are never read.
+// Descriptions live in their own table and are fetched with one extra IN query only when requested.
+// Field names are expected to have been validated against the Task attributes by the caller.
+public class TaskFieldsRepositoryImpl implements TaskFieldsRepository {
+    private static final String DESCRIPTION = "description";
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllFields(List<String> fields) {
+        List<Tuple> tuples = entityManager.createQuery(projection(fields, null)).getResultList();
+        return toMaps(tuples, fields);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Long id, List<String> fields) {
+        List<Tuple> tuples = entityManager.createQuery(projection(fields, id)).setMaxResults(1).getResultList();
+        return toMaps(tuples, fields).stream().findFirst();
+    }
+
+    private CriteriaQuery<Tuple> projection(List<String> fields, Long id) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Task> task = query.from(Task.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : columnFields(fields)) {
+            selections.add(task.get(field).alias(field));
+        }
+        query.multiselect(selections);
+        if (id != null) {
+            query.where(criteriaBuilder.equal(task.get("id"), id));
+        }
+
+        return query;
+    }
+
+    private List<String> columnFields(List<String> fields) {
+        List<String> columns = new ArrayList<>(fields);
+        if (columns.remove(DESCRIPTION) && !columns.contains("id")) {
+            columns.add("id");
+        }
+        return columns;
+    }
+
+    private List<Map<String, Object>> toMaps(List<Tuple> tuples, List<String> fields) {
+        Map<Long, String> descriptions = fields.contains(DESCRIPTION) ? descriptionsFor(tuples) : Map.of();
+
+        List<Map<String, Object>> results = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (String field : fields) {
+                values.put(field, DESCRIPTION.equals(field)
+                        ? descriptions.getOrDefault(tuple.get("id", Long.class), "")
+                        : tuple.get(field));
+            }
+            results.add(values);
+        }
+        return results;
+    }
+
+    private Map<Long, String> descriptionsFor(List<Tuple> tuples) {
+        if (tuples.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ids = tuples.stream().map(tuple -> tuple.get("id", Long.class)).toList();
+        Map<Long, String> descriptions = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            entityManager.createQuery("select d from TaskDescription d where d.taskId in :ids", TaskDescription.class)
+                    .setParameter("ids", ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())))
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultList()
+                    .forEach(description -> descriptions.put(description.getTaskId(), description.text()));
+        }
+        return descriptions;
+    }
+}
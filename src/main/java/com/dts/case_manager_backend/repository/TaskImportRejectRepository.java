@@ -0,0 +1,11 @@
+package com.dts.case_manager_backend.repository;
+
+import com.dts.case_manager_backend.model.TaskImportReject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.List;
+
+public interface TaskImportRejectRepository extends CrudRepository<TaskImportReject, Long> {
+    List<TaskImportReject> findByImportIdOrderByRowNumber(Long importId, Pageable pageable);
+}
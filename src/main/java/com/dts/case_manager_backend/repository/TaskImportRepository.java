@@ -0,0 +1,7 @@
+package com.dts.case_manager_backend.repository;
+
+import com.dts.case_manager_backend.model.TaskImport;
+import org.springframework.data.repository.CrudRepository;
+
+public interface TaskImportRepository extends CrudRepository<TaskImport, Long> {
+}
@@ -0,0 +1,27 @@
+package com.dts.case_manager_backend.repository;
+
+import com.dts.case_manager_backend.model.TaskLease;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// The modifying queries are conditional single statements, so a renewal and the reaper cannot both win.
+public interface TaskLeaseRepository extends CrudRepository<TaskLease, Long> {
+    List<TaskLease> findTop500ByExpiresAtBeforeOrderByExpiresAt(LocalDateTime now);
+
+    @Modifying
+    @Query("update TaskLease l set l.expiresAt = :expiresAt where l.taskId = :taskId and l.worker = :worker and l.expiresAt > :now")
+    int renew(@Param("taskId") Long taskId, @Param("worker") String worker, @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("delete from TaskLease l where l.taskId = :taskId and l.worker = :worker")
+    int release(@Param("taskId") Long taskId, @Param("worker") String worker);
+
+    @Modifying
+    @Query("delete from TaskLease l where l.taskId = :taskId and l.expiresAt <= :now")
+    int deleteIfExpired(@Param("taskId") Long taskId, @Param("now") LocalDateTime now);
+}
@@ -1,7 +1,35 @@
 package com.dts.case_manager_backend.repository;
 
 import com.dts.case_manager_backend.model.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
-public interface TaskRepository extends CrudRepository<Task, Long> {
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Bulk reads load their tasks read-only, so Hibernate keeps no snapshots of them for dirty checking. findById is
+// left alone: the service modifies what it returns, and read-only transactions already cover its reads.
+public interface TaskRepository extends CrudRepository<Task, Long>, TaskFieldsRepository {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Iterable<Task> findAll();
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Iterable<Task> findAllById(Iterable<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select t from Task t where t.dueDate >= :from and t.dueDate < :to order by t.dueDate, t.id")
+    List<Task> findAllDueBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Tombstones the task in one statement, returning 0 when there is no live task with the id.
+    @Modifying
+    @Query("update Task t set t.deletedDate = :deletedDate where t.id = :id and t.deletedDate is null")
+    int markDeleted(@Param("id") Long id, @Param("deletedDate") LocalDateTime deletedDate);
 }
@@ -0,0 +1,15 @@
+package com.dts.case_manager_backend.repository;
+
+import com.dts.case_manager_backend.model.TaskStatusChange;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.List;
+
+public interface TaskStatusHistoryRepository extends CrudRepository<TaskStatusChange, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<TaskStatusChange> findByTaskIdOrderByChangedAtAscIdAsc(Long taskId);
+}
@@ -0,0 +1,33 @@
+package com.dts.case_manager_backend.repository;
+
+import com.dts.case_manager_backend.model.Task;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+// Native queries over tombstoned tasks, which the Task entity's restriction hides from JPQL. Callers are expected
+// to hold a transaction for the deletes.
+public interface TaskTombstoneRepository extends Repository<Task, Long> {
+
+    @Query(nativeQuery = true, value = "select id from tasks where deleted_date is not null order by deleted_date, id limit :limit")
+    List<Long> findTombstonedIds(@Param("limit") int limit);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "delete from task_descriptions where task_id in :ids")
+    int deleteDescriptions(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "delete from tasks where id in :ids and deleted_date is not null")
+    int deleteTombstoned(@Param("ids") List<Long> ids);
+
+    @Query(nativeQuery = true, value = "select count(*) from tasks where deleted_date is not null")
+    long countTombstoned();
+
+    @Query(nativeQuery = true, value = "select min(deleted_date) from tasks where deleted_date is not null")
+    Optional<Timestamp> findOldestDeletedDate();
+}
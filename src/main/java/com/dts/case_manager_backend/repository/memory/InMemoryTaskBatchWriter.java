@@ -0,0 +1,23 @@
+package com.dts.case_manager_backend.repository.memory;
+
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.repository.TaskBatchWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Primary
+@Profile("memory")
+public class InMemoryTaskBatchWriter implements TaskBatchWriter {
+    @Autowired
+    InMemoryTaskStore taskStore;
+
+    @Override
+    public void write(List<Task> tasks) {
+        taskStore.saveAll(tasks, true);
+    }
+}
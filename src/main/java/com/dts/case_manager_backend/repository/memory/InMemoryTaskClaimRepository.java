@@ -0,0 +1,27 @@
+package com.dts.case_manager_backend.repository.memory;
+
+import com.dts.case_manager_backend.repository.TaskClaimRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@Primary
+@Profile("memory")
+public class InMemoryTaskClaimRepository implements TaskClaimRepository {
+    @Autowired
+    InMemoryTaskStore taskStore;
+
+    @Override
+    public Optional<Long> claimNext(String fromStatus, String toStatus) {
+        return Optional.ofNullable(taskStore.claimFirstByDueDate(fromStatus, toStatus));
+    }
+
+    @Override
+    public boolean compareAndSetStatus(Long id, String expectedStatus, String newStatus) {
+        return taskStore.compareAndSetStatus(id, expectedStatus, newStatus);
+    }
+}
@@ -0,0 +1,90 @@
+package com.dts.case_manager_backend.repository.memory;
+
+import com.dts.case_manager_backend.model.TaskDescription;
+import com.dts.case_manager_backend.repository.TaskDescriptionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+// Descriptions are stored inside the task's record rather than in a separate structure.
+@Repository
+@Primary
+@Profile("memory")
+public class InMemoryTaskDescriptionRepository implements TaskDescriptionRepository {
+    @Autowired
+    InMemoryTaskStore taskStore;
+
+    @Override
+    public <S extends TaskDescription> S save(S taskDescription) {
+        if (!taskStore.saveDescription(taskDescription)) {
+            throw new IllegalArgumentException("No task exists with id " + taskDescription.getTaskId());
+        }
+        return taskDescription;
+    }
+
+    @Override
+    public <S extends TaskDescription> Iterable<S> saveAll(Iterable<S> taskDescriptions) {
+        taskDescriptions.forEach(this::save);
+        return taskDescriptions;
+    }
+
+    @Override
+    public Optional<TaskDescription> findById(Long id) {
+        return Optional.ofNullable(taskStore.findById(id, TaskRecord::toTaskDescription));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return findById(id).isPresent();
+    }
+
+    @Override
+    public Iterable<TaskDescription> findAll() {
+        return taskStore.findAll(TaskRecord::toTaskDescription).stream().filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public Iterable<TaskDescription> findAllById(Iterable<Long> ids) {
+        List<TaskDescription> descriptions = new ArrayList<>();
+        for (Long id : ids) {
+            findById(id).ifPresent(descriptions::add);
+        }
+        return descriptions;
+    }
+
+    @Override
+    public long count() {
+        return taskStore.findAll(TaskRecord::toTaskDescription).stream().filter(Objects::nonNull).count();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        taskStore.deleteDescription(id);
+    }
+
+    @Override
+    public void delete(TaskDescription taskDescription) {
+        deleteById(taskDescription.getTaskId());
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends TaskDescription> taskDescriptions) {
+        taskDescriptions.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        findAll().forEach(this::delete);
+    }
+}
@@ -0,0 +1,148 @@
+package com.dts.case_manager_backend.repository.memory;
+
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+@Repository
+@Primary
+@Profile("memory")
+public class InMemoryTaskRepository implements TaskRepository {
+    @Autowired
+    InMemoryTaskStore taskStore;
+
+    // A new task is stored with its transient description in one log entry, so a crash can never leave it
+    // without one; saving that description again afterwards logs nothing.
+    @Override
+    public <S extends Task> S save(S task) {
+        if (task.getId() == null) {
+            taskStore.saveAll(List.of(task), true);
+        } else {
+            taskStore.save(task);
+        }
+        return task;
+    }
+
+    @Override
+    public <S extends Task> Iterable<S> saveAll(Iterable<S> tasks) {
+        List<S> toSave = StreamSupport.stream(tasks.spliterator(), false).toList();
+        taskStore.saveAll(new ArrayList<>(toSave), false);
+        return toSave;
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        return Optional.ofNullable(taskStore.findById(id, TaskRecord::toTask));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return taskStore.existsById(id);
+    }
+
+    @Override
+    public Iterable<Task> findAll() {
+        return taskStore.findAll(TaskRecord::toTask);
+    }
+
+    @Override
+    public Iterable<Task> findAllById(Iterable<Long> ids) {
+        List<Task> tasks = new ArrayList<>();
+        for (Long id : ids) {
+            findById(id).ifPresent(tasks::add);
+        }
+        return tasks;
+    }
+
+    @Override
+    public long count() {
+        return taskStore.count();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        taskStore.delete(id);
+    }
+
+    @Override
+    public void delete(Task task) {
+        taskStore.delete(task.getId());
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        ids.forEach(taskStore::delete);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Task> tasks) {
+        tasks.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        taskStore.deleteAll();
+    }
+
+    // The store has no indexes to churn, so deletes are applied straight away rather than tombstoned.
+    @Override
+    public int markDeleted(Long id, LocalDateTime deletedDate) {
+        return taskStore.delete(id) ? 1 : 0;
+    }
+
+    @Override
+    public List<Task> findAllDueBetween(LocalDateTime from, LocalDateTime to) {
+        List<Task> tasks = new ArrayList<>();
+        for (Long id : taskStore.findIdsByDueDateBetween(from, to)) {
+            findById(id).filter(task -> task.getDueDate().isBefore(to)).ifPresent(tasks::add);
+        }
+        tasks.sort(Comparator.comparing(Task::getDueDate).thenComparing(Task::getId));
+        return tasks;
+    }
+
+    @Override
+    public List<Map<String, Object>> findAllFields(List<String> fields) {
+        return taskStore.findAll(record -> project(record, fields));
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Long id, List<String> fields) {
+        return Optional.ofNullable(taskStore.findById(id, record -> project(record, fields)));
+    }
+
+    private Map<String, Object> project(TaskRecord record, List<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            values.put(field, switch (field) {
+                case "id" -> record.id();
+                case "title" -> record.title();
+                case "description" -> record.description() == null ? "" : record.toTaskDescription().text();
+                case "status" -> record.status();
+                case "createdDate" -> record.createdDate();
+                case "dueDate" -> record.dueDate();
+                default -> throw new IllegalArgumentException("Unknown task field " + field);
+            });
+        }
+        return values;
+    }
+
+    public List<Long> findIdsByStatus(String status) {
+        return taskStore.findIdsByStatus(status);
+    }
+
+    public List<Long> findIdsByDueDateBetween(LocalDateTime from, LocalDateTime to) {
+        return taskStore.findIdsByDueDateBetween(from, to);
+    }
+}
@@ -0,0 +1,382 @@
+package com.dts.case_manager_backend.repository.memory;
+
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskDescription;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Task storage for the "memory" profile. Records live in a primitive long-keyed map with secondary indexes by
+// status and by due date, and every change is appended to a write-ahead log that is replayed on startup.
+// Writers apply their change and append to the log under the write lock, then wait for the group commit
+// outside it, so a slow fsync never blocks readers. Changes made inside a Spring transaction are undone, and the
+// undo logged, if that transaction rolls back, so the store follows the database transaction it is used in.
+@Slf4j
+@Component
+@Profile("memory")
+public class InMemoryTaskStore {
+    private static final LongObjectMap<Boolean> NO_IDS = new LongObjectMap<>(1);
+    private static final Comparator<TaskRecord> DUE_ORDER = Comparator.comparingLong(TaskRecord::dueSeconds)
+            .thenComparingInt(TaskRecord::dueNanos)
+            .thenComparingLong(TaskRecord::id);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongObjectMap<TaskRecord> records = new LongObjectMap<>(1024);
+    private final Map<String, LongObjectMap<Boolean>> idsByStatus = new HashMap<>();
+    private final TreeMap<Long, LongObjectMap<Boolean>> idsByDueSecond = new TreeMap<>();
+    private final TaskWriteAheadLog writeAheadLog;
+    private final Object undoKey = new Object();
+    private long lastId;
+
+    public InMemoryTaskStore(@Value("${tasks.memory-store.wal-path:data/tasks.wal}") Path walPath) throws IOException {
+        writeAheadLog = new TaskWriteAheadLog(walPath);
+        long started = System.nanoTime();
+        long replayed = writeAheadLog.replay(this::applyPut, this::applyDelete);
+        log.info("Replayed {} write-ahead log entries into {} tasks in {} ms", replayed, records.size(), (System.nanoTime() - started) / 1_000_000);
+        writeAheadLog.start();
+        compactIfNeeded();
+    }
+
+    public Task save(Task task) {
+        long sequence;
+        lock.writeLock().lock();
+        try {
+            if (task.getId() == null) {
+                task.setId(++lastId);
+            }
+            rememberForUndo(task.getId());
+            TaskRecord record = TaskRecord.of(task, records.get(task.getId()));
+            applyPut(record);
+            sequence = writeAheadLog.appendPut(record);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        writeAheadLog.awaitDurable(sequence);
+        return task;
+    }
+
+    // With withDescriptions each task's transient description is stored too, in the same log entry.
+    public List<Task> saveAll(List<Task> tasks, boolean withDescriptions) {
+        long sequence = 0;
+        lock.writeLock().lock();
+        try {
+            for (Task task : tasks) {
+                if (task.getId() == null) {
+                    task.setId(++lastId);
+                }
+                rememberForUndo(task.getId());
+                TaskRecord record = TaskRecord.of(task, records.get(task.getId()));
+                if (withDescriptions) {
+                    String description = Objects.requireNonNullElse(task.getDescription(), "");
+                    record = record.withDescription(description.isEmpty() ? null : TaskDescription.of(task.getId(), description));
+                }
+                applyPut(record);
+                sequence = writeAheadLog.appendPut(record);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        writeAheadLog.awaitDurable(sequence);
+        return tasks;
+    }
+
+    // Returns false when no task exists with the id, in which case nothing is stored.
+    public boolean saveDescription(TaskDescription taskDescription) {
+        return replaceDescription(taskDescription.getTaskId(), taskDescription);
+    }
+
+    public boolean deleteDescription(long id) {
+        return replaceDescription(id, null);
+    }
+
+    public boolean delete(long id) {
+        long sequence;
+        lock.writeLock().lock();
+        try {
+            if (!records.containsKey(id)) {
+                return false;
+            }
+            rememberForUndo(id);
+            applyDelete(id);
+            sequence = writeAheadLog.appendDelete(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        writeAheadLog.awaitDurable(sequence);
+        return true;
+    }
+
+    // Returns false, changing nothing, when the task does not exist or its status is not the expected one.
+    public boolean compareAndSetStatus(long id, String expectedStatus, String newStatus) {
+        long sequence;
+        lock.writeLock().lock();
+        try {
+            TaskRecord record = records.get(id);
+            if (record == null || !Objects.equals(record.status(), expectedStatus)) {
+                return false;
+            }
+            sequence = putStatus(record, newStatus);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        writeAheadLog.awaitDurable(sequence);
+        return true;
+    }
+
+    // Moves the task with the earliest due date (then lowest id) in expectedStatus to newStatus and returns its
+    // id, or null when there is none.
+    public Long claimFirstByDueDate(String expectedStatus, String newStatus) {
+        long sequence;
+        TaskRecord first;
+        lock.writeLock().lock();
+        try {
+            TaskRecord[] earliest = new TaskRecord[1];
+            idsByStatus.getOrDefault(expectedStatus, NO_IDS).forEachKey(id -> {
+                TaskRecord record = records.get(id);
+                if (earliest[0] == null || DUE_ORDER.compare(record, earliest[0]) < 0) {
+                    earliest[0] = record;
+                }
+            });
+            first = earliest[0];
+            if (first == null) {
+                return null;
+            }
+            sequence = putStatus(first, newStatus);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        writeAheadLog.awaitDurable(sequence);
+        return first.id();
+    }
+
+    public void deleteAll() {
+        List<Long> ids = read(() -> {
+            List<Long> all = new ArrayList<>(records.size());
+            records.forEachKey(all::add);
+            return all;
+        });
+        ids.forEach(this::delete);
+    }
+
+    public <T> T findById(long id, Function<TaskRecord, T> mapper) {
+        return read(() -> {
+            TaskRecord record = records.get(id);
+            return record == null ? null : mapper.apply(record);
+        });
+    }
+
+    public boolean existsById(long id) {
+        return read(() -> records.containsKey(id));
+    }
+
+    public long count() {
+        return read(records::size);
+    }
+
+    public <T> List<T> findAll(Function<TaskRecord, T> mapper) {
+        return read(() -> {
+            List<TaskRecord> all = new ArrayList<>(records.size());
+            records.forEach((record, id) -> all.add(record));
+            all.sort(Comparator.comparingLong(TaskRecord::id));
+            return all.stream().map(mapper).toList();
+        });
+    }
+
+    public List<Long> findIdsByStatus(String status) {
+        return read(() -> {
+            List<Long> ids = new ArrayList<>();
+            idsByStatus.getOrDefault(status, NO_IDS).forEachKey(ids::add);
+            return ids;
+        });
+    }
+
+    // Inclusive of both bounds.
+    public List<Long> findIdsByDueDateBetween(LocalDateTime from, LocalDateTime to) {
+        return read(() -> {
+            List<Long> ids = new ArrayList<>();
+            NavigableMap<Long, LongObjectMap<Boolean>> range = idsByDueSecond.subMap(from.toEpochSecond(ZoneOffset.UTC), true, to.toEpochSecond(ZoneOffset.UTC), true);
+            range.values().forEach(bucket -> bucket.forEach((present, id) -> {
+                TaskRecord record = records.get(id);
+                LocalDateTime dueDate = record.dueDate();
+                if (!dueDate.isBefore(from) && !dueDate.isAfter(to)) {
+                    ids.add(id);
+                }
+            }));
+            return ids;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.memory-store.compaction-interval:PT5M}")
+    public void compactIfNeeded() throws IOException {
+        lock.writeLock().lock();
+        try {
+            long live = records.size();
+            // Rewrite once most of the log is superseded updates and deletes.
+            if (writeAheadLog.entries() > 2 * live + 10_000) {
+                List<TaskRecord> liveRecords = new ArrayList<>(records.size());
+                records.forEach((record, id) -> liveRecords.add(record));
+                writeAheadLog.rewrite(liveRecords);
+                log.info("Compacted task write-ahead log to {} entries", live);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        writeAheadLog.close();
+    }
+
+    private boolean replaceDescription(long id, TaskDescription taskDescription) {
+        long sequence;
+        lock.writeLock().lock();
+        try {
+            TaskRecord record = records.get(id);
+            if (record == null) {
+                return false;
+            }
+            // Already stored with the task itself, as on creation, so there is nothing more to log.
+            if (sameDescription(record, taskDescription)) {
+                return true;
+            }
+            rememberForUndo(id);
+            TaskRecord updated = record.withDescription(taskDescription);
+            applyPut(updated);
+            sequence = writeAheadLog.appendPut(updated);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        writeAheadLog.awaitDurable(sequence);
+        return true;
+    }
+
+    private long putStatus(TaskRecord record, String status) {
+        rememberForUndo(record.id());
+        TaskRecord updated = record.withStatus(status);
+        applyPut(updated);
+        return writeAheadLog.appendPut(updated);
+    }
+
+    private static boolean sameDescription(TaskRecord record, TaskDescription taskDescription) {
+        return taskDescription == null
+                ? record.description() == null
+                : record.descriptionCompressed() == taskDescription.isCompressed() && Arrays.equals(record.description(), taskDescription.getContent());
+    }
+
+    // Called under the write lock before changing a task. Inside a transaction, the task's record as it was before
+    // the transaction first changed it is kept until the transaction completes.
+    private void rememberForUndo(long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, TaskRecord> before = (Map<Long, TaskRecord>) TransactionSynchronizationManager.getResource(undoKey);
+        if (before == null) {
+            Map<Long, TaskRecord> changed = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(undoKey, changed);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(undoKey);
+                    if (status == STATUS_ROLLED_BACK) {
+                        undo(changed);
+                    }
+                }
+            });
+            before = changed;
+        }
+        if (!before.containsKey(id)) {
+            before.put(id, records.get(id));
+        }
+    }
+
+    // Puts back each task as it was, or removes it if it did not exist. Ids handed out are not reused.
+    private void undo(Map<Long, TaskRecord> before) {
+        long sequence = 0;
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<Long, TaskRecord> entry : before.entrySet()) {
+                if (entry.getValue() != null) {
+                    applyPut(entry.getValue());
+                    sequence = writeAheadLog.appendPut(entry.getValue());
+                } else if (records.containsKey(entry.getKey())) {
+                    applyDelete(entry.getKey());
+                    sequence = writeAheadLog.appendDelete(entry.getKey());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        writeAheadLog.awaitDurable(sequence);
+        log.info("Undid in-memory changes to {} tasks after a transaction rolled back", before.size());
+    }
+
+    private void applyPut(TaskRecord record) {
+        TaskRecord previous = records.put(record.id(), record);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(record);
+        lastId = Math.max(lastId, record.id());
+    }
+
+    private void applyDelete(long id) {
+        TaskRecord previous = records.remove(id);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    private void index(TaskRecord record) {
+        if (record.status() != null) {
+            idsByStatus.computeIfAbsent(record.status(), status -> new LongObjectMap<>(64)).put(record.id(), Boolean.TRUE);
+        }
+        idsByDueSecond.computeIfAbsent(record.dueSeconds(), second -> new LongObjectMap<>(4)).put(record.id(), Boolean.TRUE);
+    }
+
+    private void unindex(TaskRecord record) {
+        LongObjectMap<Boolean> statusIds = idsByStatus.get(record.status());
+        if (statusIds != null) {
+            statusIds.remove(record.id());
+        }
+        LongObjectMap<Boolean> dueIds = idsByDueSecond.get(record.dueSeconds());
+        if (dueIds != null) {
+            dueIds.remove(record.id());
+            if (dueIds.size() == 0) {
+                idsByDueSecond.remove(record.dueSeconds());
+            }
+        }
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
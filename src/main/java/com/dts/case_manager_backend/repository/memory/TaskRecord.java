@@ -0,0 +1,113 @@
+package com.dts.case_manager_backend.repository.memory;
+
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskDescription;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Immutable, compact form of a task as held by InMemoryTaskStore: dates as epoch seconds plus nanos, and the
+// description kept in its stored (possibly deflated) TaskDescription form.
+record TaskRecord(long id, String title, String status,
+                  long createdSeconds, int createdNanos, long dueSeconds, int dueNanos,
+                  boolean descriptionCompressed, byte[] description) {
+
+    static TaskRecord of(Task task, TaskRecord previous) {
+        return new TaskRecord(task.getId(), task.getTitle(), task.getStatus(),
+                seconds(task.getCreatedDate()), nanos(task.getCreatedDate()),
+                seconds(task.getDueDate()), nanos(task.getDueDate()),
+                previous != null && previous.descriptionCompressed(),
+                previous == null ? null : previous.description());
+    }
+
+    TaskRecord withDescription(TaskDescription taskDescription) {
+        return new TaskRecord(id, title, status, createdSeconds, createdNanos, dueSeconds, dueNanos,
+                taskDescription != null && taskDescription.isCompressed(),
+                taskDescription == null ? null : taskDescription.getContent());
+    }
+
+    TaskRecord withStatus(String status) {
+        return new TaskRecord(id, title, status, createdSeconds, createdNanos, dueSeconds, dueNanos, descriptionCompressed, description);
+    }
+
+    Task toTask() {
+        return Task.builder()
+                .id(id)
+                .title(title)
+                .status(status)
+                .createdDate(createdDate())
+                .dueDate(dueDate())
+                .build();
+    }
+
+    TaskDescription toTaskDescription() {
+        return description == null ? null : new TaskDescription(id, descriptionCompressed, description);
+    }
+
+    LocalDateTime createdDate() {
+        return dateTime(createdSeconds, createdNanos);
+    }
+
+    LocalDateTime dueDate() {
+        return dateTime(dueSeconds, dueNanos);
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(id);
+        writeNullableUTF(out, title);
+        writeNullableUTF(out, status);
+        out.writeLong(createdSeconds);
+        out.writeInt(createdNanos);
+        out.writeLong(dueSeconds);
+        out.writeInt(dueNanos);
+        out.writeByte(description == null ? 0 : descriptionCompressed ? 2 : 1);
+        if (description != null) {
+            out.writeInt(description.length);
+            out.write(description);
+        }
+    }
+
+    static TaskRecord readFrom(DataInput in) throws IOException {
+        long id = in.readLong();
+        String title = readNullableUTF(in);
+        String status = readNullableUTF(in);
+        long createdSeconds = in.readLong();
+        int createdNanos = in.readInt();
+        long dueSeconds = in.readLong();
+        int dueNanos = in.readInt();
+        byte descriptionKind = in.readByte();
+        byte[] description = null;
+        if (descriptionKind != 0) {
+            description = new byte[in.readInt()];
+            in.readFully(description);
+        }
+        return new TaskRecord(id, title, status, createdSeconds, createdNanos, dueSeconds, dueNanos, descriptionKind == 2, description);
+    }
+
+    // Long.MIN_VALUE marks a null date, which the JPA entity allows even though the service never stores one.
+    private static long seconds(LocalDateTime dateTime) {
+        return dateTime == null ? Long.MIN_VALUE : dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static int nanos(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.getNano();
+    }
+
+    private static LocalDateTime dateTime(long seconds, int nanos) {
+        return seconds == Long.MIN_VALUE ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private static void writeNullableUTF(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableUTF(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
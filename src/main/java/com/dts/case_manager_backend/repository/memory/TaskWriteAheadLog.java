@@ -0,0 +1,260 @@
+package com.dts.case_manager_backend.repository.memory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+// Append-only log of task puts and deletes. Appends only buffer the entry; a single committer thread writes
+// whatever has accumulated and fsyncs it once, so every writer waiting during one fsync shares the next one
+// (group commit). Each entry is length-prefixed and CRC-checked, and replay stops at the first torn entry.
+@Slf4j
+final class TaskWriteAheadLog implements Closeable {
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    private final Path path;
+    private final Object lock = new Object();
+    private FileChannel channel;
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private long appendedSequence;
+    private long durableSequence;
+    private long entries;
+    private IOException failure;
+    private boolean closed;
+    private final Thread committer;
+
+    TaskWriteAheadLog(Path path) throws IOException {
+        this.path = path;
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.committer = new Thread(this::commitLoop, "task-wal-committer");
+        this.committer.setDaemon(true);
+    }
+
+    // Must be called before start(); returns the number of entries applied.
+    long replay(Consumer<TaskRecord> onPut, Consumer<Long> onDelete) throws IOException {
+        channel.position(0);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+        long validBytes = 0;
+        CRC32 crc = new CRC32();
+
+        while (true) {
+            byte[] entry;
+            try {
+                int length = in.readInt();
+                if (length <= 0 || length > (1 << 26)) {
+                    break;
+                }
+                entry = new byte[length];
+                in.readFully(entry);
+                crc.reset();
+                crc.update(entry);
+                if (in.readInt() != (int) crc.getValue()) {
+                    break;
+                }
+            } catch (EOFException e) {
+                break;
+            }
+
+            DataInputStream entryIn = new DataInputStream(new ByteArrayInputStream(entry));
+            if (entryIn.readByte() == PUT) {
+                onPut.accept(TaskRecord.readFrom(entryIn));
+            } else {
+                onDelete.accept(entryIn.readLong());
+            }
+            validBytes += Integer.BYTES * 2 + entry.length;
+            entries++;
+        }
+
+        if (validBytes < channel.size()) {
+            log.warn("Discarding {} bytes of torn or corrupt entries at the end of {}", channel.size() - validBytes, path);
+            channel.truncate(validBytes);
+        }
+        channel.position(validBytes);
+        return entries;
+    }
+
+    void start() {
+        committer.start();
+    }
+
+    long entries() {
+        synchronized (lock) {
+            return entries;
+        }
+    }
+
+    // Callers append under the store's write lock, so log order matches the order changes were applied.
+    long appendPut(TaskRecord record) {
+        return append(PUT, out -> record.writeTo(out));
+    }
+
+    long appendDelete(long id) {
+        return append(DELETE, out -> out.writeLong(id));
+    }
+
+    void awaitDurable(long sequence) {
+        synchronized (lock) {
+            while (durableSequence < sequence) {
+                if (failure != null) {
+                    throw new UncheckedIOException("Task write-ahead log is unavailable", failure);
+                }
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted waiting for task write-ahead log", e);
+                }
+            }
+        }
+    }
+
+    // Replaces the log with one PUT per live record. The caller must block appends while this runs.
+    void rewrite(Iterable<TaskRecord> liveRecords) throws IOException {
+        synchronized (lock) {
+            while (pending.size() > 0 || durableSequence < appendedSequence) {
+                if (failure != null) {
+                    throw failure;
+                }
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted waiting for task write-ahead log", e);
+                }
+            }
+
+            Path temporary = path.resolveSibling(path.getFileName() + ".compacting");
+            long written = 0;
+            try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 16);
+                for (TaskRecord record : liveRecords) {
+                    buffer.write(encode(PUT, o -> record.writeTo(o)));
+                    written++;
+                    if (buffer.size() > (1 << 20)) {
+                        out.write(ByteBuffer.wrap(buffer.toByteArray()));
+                        buffer.reset();
+                    }
+                }
+                out.write(ByteBuffer.wrap(buffer.toByteArray()));
+                out.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            channel.close();
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+            entries = written;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            committer.join(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private long append(byte type, EntryWriter writer) {
+        byte[] entry = encode(type, writer);
+        synchronized (lock) {
+            if (failure != null) {
+                throw new UncheckedIOException("Task write-ahead log is unavailable", failure);
+            }
+            pending.writeBytes(entry);
+            entries++;
+            lock.notifyAll();
+            return ++appendedSequence;
+        }
+    }
+
+    private void commitLoop() {
+        while (true) {
+            ByteArrayOutputStream batch;
+            long batchSequence;
+            synchronized (lock) {
+                while (pending.size() == 0 && !closed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pending.size() == 0) {
+                    return;
+                }
+                batch = pending;
+                batchSequence = appendedSequence;
+                pending = new ByteArrayOutputStream(Math.max(256, batch.size()));
+            }
+
+            try {
+                ByteBuffer bytes = ByteBuffer.wrap(batch.toByteArray());
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                log.error("Task write-ahead log write failed, rejecting further writes", e);
+                synchronized (lock) {
+                    failure = e;
+                    lock.notifyAll();
+                }
+                return;
+            }
+
+            synchronized (lock) {
+                durableSequence = batchSequence;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private static byte[] encode(byte type, EntryWriter writer) {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+            DataOutputStream bodyOut = new DataOutputStream(body);
+            bodyOut.writeByte(type);
+            writer.write(bodyOut);
+            byte[] entry = body.toByteArray();
+
+            CRC32 crc = new CRC32();
+            crc.update(entry);
+            ByteBuffer framed = ByteBuffer.allocate(Integer.BYTES * 2 + entry.length);
+            framed.putInt(entry.length).put(entry).putInt((int) crc.getValue());
+            return framed.array();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface EntryWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
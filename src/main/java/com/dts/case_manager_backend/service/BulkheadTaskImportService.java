@@ -0,0 +1,44 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.bulkhead.TaskBulkheads;
+import com.dts.case_manager_backend.model.TaskImport;
+import com.dts.case_manager_backend.model.TaskImportFormat;
+import com.dts.case_manager_backend.model.TaskImportReject;
+import com.dts.case_manager_backend.model.TaskImportResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.util.List;
+
+// Imports run on the bulk bulkhead; looking up an import's progress is an interactive read.
+@Service
+@Primary
+public class BulkheadTaskImportService implements TaskImportService {
+    @Autowired
+    TaskImportServiceImpl taskImportServiceImpl;
+
+    @Autowired
+    TaskBulkheads taskBulkheads;
+
+    @Override
+    public TaskImportResult startImport(TaskImportFormat format, InputStream upload) {
+        return taskBulkheads.getBulk().call(() -> taskImportServiceImpl.startImport(format, upload));
+    }
+
+    @Override
+    public TaskImportResult resumeImport(Long importId, TaskImportFormat format, InputStream upload) {
+        return taskBulkheads.getBulk().call(() -> taskImportServiceImpl.resumeImport(importId, format, upload));
+    }
+
+    @Override
+    public TaskImport retrieveImport(Long importId) {
+        return taskBulkheads.getRead().call(() -> taskImportServiceImpl.retrieveImport(importId));
+    }
+
+    @Override
+    public List<TaskImportReject> retrieveRejects(Long importId, int page, int size) {
+        return taskBulkheads.getRead().call(() -> taskImportServiceImpl.retrieveRejects(importId, page, size));
+    }
+}
@@ -0,0 +1,111 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.bulkhead.TaskBulkheads;
+import com.dts.case_manager_backend.model.StatusDTO;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskCalendarDay;
+import com.dts.case_manager_backend.model.TaskDTO;
+import com.dts.case_manager_backend.model.TaskFieldsLookupResult;
+import com.dts.case_manager_backend.model.TaskLookupResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// Runs each TaskServiceImpl call on its bulkhead. It wraps the transactional proxy rather than living inside
+// TaskServiceImpl so that a transaction always starts and ends on the bulkhead thread that does the work.
+@Service
+public class BulkheadTaskService implements TaskService {
+    @Autowired
+    TaskServiceImpl taskServiceImpl;
+
+    @Autowired
+    TaskBulkheads taskBulkheads;
+
+    @Autowired(required = false)
+    TaskStatusGroupCommitter taskStatusGroupCommitter;
+
+    @Override
+    public Task createTask(TaskDTO taskDTO) {
+        return taskBulkheads.getWrite().call(() -> taskServiceImpl.createTask(taskDTO));
+    }
+
+    @Override
+    public Task retrieveTaskById(Long id) {
+        return taskBulkheads.getRead().call(() -> taskServiceImpl.retrieveTaskById(id));
+    }
+
+    @Override
+    public Map<String, Object> retrieveTaskById(Long id, List<String> fields) {
+        return taskBulkheads.getRead().call(() -> taskServiceImpl.retrieveTaskById(id, fields));
+    }
+
+    @Override
+    public String retrieveTaskDescription(Long id) {
+        return taskBulkheads.getRead().call(() -> taskServiceImpl.retrieveTaskDescription(id));
+    }
+
+    @Override
+    public List<Task> retrieveAllTasks() {
+        return taskBulkheads.getBulk().call(taskServiceImpl::retrieveAllTasks);
+    }
+
+    @Override
+    public List<Map<String, Object>> retrieveAllTasks(List<String> fields) {
+        return taskBulkheads.getBulk().call(() -> taskServiceImpl.retrieveAllTasks(fields));
+    }
+
+    @Override
+    public List<Task> retrieveAllTasksIncludingArchived() {
+        return taskBulkheads.getBulk().call(taskServiceImpl::retrieveAllTasksIncludingArchived);
+    }
+
+    @Override
+    public List<Map<String, Object>> retrieveAllTasksIncludingArchived(List<String> fields) {
+        return taskBulkheads.getBulk().call(() -> taskServiceImpl.retrieveAllTasksIncludingArchived(fields));
+    }
+
+    @Override
+    public TaskLookupResult retrieveTasksByIds(List<Long> ids) {
+        return taskBulkheads.getRead().call(() -> taskServiceImpl.retrieveTasksByIds(ids));
+    }
+
+    @Override
+    public TaskFieldsLookupResult retrieveTasksByIds(List<Long> ids, List<String> fields) {
+        return taskBulkheads.getRead().call(() -> taskServiceImpl.retrieveTasksByIds(ids, fields));
+    }
+
+    @Override
+    public List<TaskCalendarDay> retrieveCalendar(LocalDate from, LocalDate to) {
+        return taskBulkheads.getRead().call(() -> taskServiceImpl.retrieveCalendar(from, to));
+    }
+
+    @Override
+    public Task updateTaskStatus(Long id, StatusDTO statusDTO) {
+        // Group-committed updates wait on this thread; the committer runs each batch on the write bulkhead.
+        if (taskStatusGroupCommitter != null) {
+            return taskServiceImpl.updateTaskStatusGroupCommitted(id, statusDTO);
+        }
+        return taskBulkheads.getWrite().call(() -> taskServiceImpl.updateTaskStatus(id, statusDTO));
+    }
+
+    @Override
+    public void deleteTask(Long id) {
+        taskBulkheads.getWrite().call(() -> {
+            taskServiceImpl.deleteTask(id);
+            return null;
+        });
+    }
+
+    @Override
+    public void validateTaskDTO(TaskDTO taskDTO) {
+        taskServiceImpl.validateTaskDTO(taskDTO);
+    }
+
+    @Override
+    public Task taskDTOToTask(TaskDTO taskDTO) {
+        return taskServiceImpl.taskDTOToTask(taskDTO);
+    }
+}
@@ -0,0 +1,183 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.circuitbreaker.CircuitBreaker;
+import com.dts.case_manager_backend.deadline.RequestDeadline;
+import com.dts.case_manager_backend.exception.BulkheadFullException;
+import com.dts.case_manager_backend.exception.DatabaseUnavailableException;
+import com.dts.case_manager_backend.exception.DeadlineExceededException;
+import com.dts.case_manager_backend.model.StatusDTO;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskCalendarDay;
+import com.dts.case_manager_backend.model.TaskDTO;
+import com.dts.case_manager_backend.model.TaskFieldsLookupResult;
+import com.dts.case_manager_backend.model.TaskLookupResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Outermost TaskService: every call that reaches the database goes through the database circuit breaker.
+// Connection and query failures, and interactive calls slower than the slow-call threshold, count against it.
+// While it is open, writes fail fast with 503 and single-task and full-list reads fall back to TaskStaleCache,
+// marked with StaleRead; other reads fail fast. Runs on the request thread so StaleRead reaches the response.
+// Failures caused by the request's own deadline are neither counted nor answered from cache.
+@Service
+@Primary
+public class CircuitBreakerTaskService implements TaskService {
+    @Autowired
+    BulkheadTaskService bulkheadTaskService;
+
+    @Autowired
+    CircuitBreaker taskDatabaseCircuitBreaker;
+
+    @Autowired
+    TaskStaleCache taskStaleCache;
+
+    @Value("${tasks.circuit-breaker.slow-call-threshold:PT2S}")
+    Duration slowCallThreshold;
+
+    @Override
+    public Task createTask(TaskDTO taskDTO) {
+        return guarded(() -> bulkheadTaskService.createTask(taskDTO), true);
+    }
+
+    @Override
+    public Task retrieveTaskById(Long id) {
+        try {
+            Task task = guarded(() -> bulkheadTaskService.retrieveTaskById(id), true);
+            taskStaleCache.putTask(task);
+            return task;
+        } catch (DatabaseUnavailableException e) {
+            TaskStaleCache.Cached<Task> cached = taskStaleCache.findTask(id).orElseThrow(() -> e);
+            StaleRead.mark(cached.asOf());
+            return cached.value();
+        }
+    }
+
+    @Override
+    public Map<String, Object> retrieveTaskById(Long id, List<String> fields) {
+        return guarded(() -> bulkheadTaskService.retrieveTaskById(id, fields), true);
+    }
+
+    @Override
+    public String retrieveTaskDescription(Long id) {
+        return guarded(() -> bulkheadTaskService.retrieveTaskDescription(id), true);
+    }
+
+    @Override
+    public List<Task> retrieveAllTasks() {
+        try {
+            List<Task> tasks = guarded(bulkheadTaskService::retrieveAllTasks, false);
+            taskStaleCache.putAllTasks(tasks);
+            return tasks;
+        } catch (DatabaseUnavailableException e) {
+            TaskStaleCache.Cached<List<Task>> cached = taskStaleCache.findAllTasks().orElseThrow(() -> e);
+            StaleRead.mark(cached.asOf());
+            return cached.value();
+        }
+    }
+
+    @Override
+    public List<Map<String, Object>> retrieveAllTasks(List<String> fields) {
+        return guarded(() -> bulkheadTaskService.retrieveAllTasks(fields), false);
+    }
+
+    @Override
+    public List<Task> retrieveAllTasksIncludingArchived() {
+        return guarded(bulkheadTaskService::retrieveAllTasksIncludingArchived, false);
+    }
+
+    @Override
+    public List<Map<String, Object>> retrieveAllTasksIncludingArchived(List<String> fields) {
+        return guarded(() -> bulkheadTaskService.retrieveAllTasksIncludingArchived(fields), false);
+    }
+
+    @Override
+    public TaskLookupResult retrieveTasksByIds(List<Long> ids) {
+        return guarded(() -> bulkheadTaskService.retrieveTasksByIds(ids), true);
+    }
+
+    @Override
+    public TaskFieldsLookupResult retrieveTasksByIds(List<Long> ids, List<String> fields) {
+        return guarded(() -> bulkheadTaskService.retrieveTasksByIds(ids, fields), true);
+    }
+
+    @Override
+    public List<TaskCalendarDay> retrieveCalendar(LocalDate from, LocalDate to) {
+        return guarded(() -> bulkheadTaskService.retrieveCalendar(from, to), true);
+    }
+
+    @Override
+    public Task updateTaskStatus(Long id, StatusDTO statusDTO) {
+        return guarded(() -> bulkheadTaskService.updateTaskStatus(id, statusDTO), true);
+    }
+
+    @Override
+    public void deleteTask(Long id) {
+        guarded(() -> {
+            bulkheadTaskService.deleteTask(id);
+            return null;
+        }, true);
+    }
+
+    @Override
+    public void validateTaskDTO(TaskDTO taskDTO) {
+        bulkheadTaskService.validateTaskDTO(taskDTO);
+    }
+
+    @Override
+    public Task taskDTOToTask(TaskDTO taskDTO) {
+        return bulkheadTaskService.taskDTOToTask(taskDTO);
+    }
+
+    private <T> T guarded(Supplier<T> call, boolean interactive) {
+        if (!taskDatabaseCircuitBreaker.tryAcquire()) {
+            throw new DatabaseUnavailableException("Request rejected because the database is unavailable.", taskDatabaseCircuitBreaker.retryAfterSeconds());
+        }
+
+        long started = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (BulkheadFullException | DeadlineExceededException e) {
+            taskDatabaseCircuitBreaker.onIgnored();
+            throw e;
+        } catch (RuntimeException e) {
+            // A query cut short by the caller's own deadline says nothing about the database's health.
+            if (isDatabaseFailure(e) && RequestDeadline.isExpired()) {
+                taskDatabaseCircuitBreaker.onIgnored();
+                throw new DeadlineExceededException("Request abandoned because its deadline passed.");
+            }
+            if (!isDatabaseFailure(e)) {
+                taskDatabaseCircuitBreaker.onSuccess();
+                throw e;
+            }
+            taskDatabaseCircuitBreaker.onFailure();
+            throw new DatabaseUnavailableException("Request failed because the database is unavailable.", taskDatabaseCircuitBreaker.retryAfterSeconds(), e);
+        }
+
+        if (interactive && System.nanoTime() - started > slowCallThreshold.toNanos()) {
+            taskDatabaseCircuitBreaker.onFailure();
+        } else {
+            taskDatabaseCircuitBreaker.onSuccess();
+        }
+        return result;
+    }
+
+    private static boolean isDatabaseFailure(RuntimeException e) {
+        return e instanceof DataAccessResourceFailureException
+                || e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+}
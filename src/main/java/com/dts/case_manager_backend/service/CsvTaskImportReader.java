@@ -0,0 +1,139 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.exception.InvalidDTOException;
+import com.dts.case_manager_backend.model.TaskDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// RFC 4180 CSV with a header row naming the TaskDTO fields in any order. Quoted fields may contain commas,
+// doubled quotes and line breaks.
+class CsvTaskImportReader extends TaskImportReader {
+    private static final List<String> COLUMNS = List.of("title", "description", "status", "createdDate", "dueDate");
+
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+    private final StringBuilder field = new StringBuilder();
+
+    CsvTaskImportReader(InputStream inputStream) throws IOException {
+        super(inputStream);
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new InvalidDTOException("Tasks cannot be imported because the CSV upload has no header row.");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columnIndexes.put(header.get(i).trim(), i);
+        }
+        if (!columnIndexes.keySet().containsAll(List.of("title", "status", "createdDate", "dueDate"))) {
+            throw new InvalidDTOException("Tasks cannot be imported because the CSV header is missing a mandatory column.  Columns are: ".concat(COLUMNS.toString()));
+        }
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        List<String> record;
+        do {
+            try {
+                record = readRecord();
+            } catch (RecordTooLongException e) {
+                return TaskImportRow.rejected(++rowNumber, e.getMessage());
+            }
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+
+        rowNumber++;
+        try {
+            return TaskImportRow.parsed(rowNumber, new TaskDTO(
+                    column(record, "title"),
+                    column(record, "description"),
+                    column(record, "status"),
+                    dateColumn(record, "createdDate"),
+                    dateColumn(record, "dueDate")));
+        } catch (DateTimeParseException e) {
+            return TaskImportRow.rejected(rowNumber, "Row has a date that is not a valid ISO-8601 date-time: " + e.getParsedString());
+        }
+    }
+
+    private String column(List<String> record, String name) {
+        Integer index = columnIndexes.get(name);
+        return index == null || index >= record.size() ? null : record.get(index);
+    }
+
+    private LocalDateTime dateColumn(List<String> record, String name) {
+        String value = column(record, name);
+        return value == null || value.isBlank() ? null : LocalDateTime.parse(value.trim());
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean read = false;
+        int c;
+
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+
+            if (field.length() > MAX_RECORD_CHARS) {
+                skipRestOfRecord(quoted);
+                throw new RecordTooLongException("Row exceeds the maximum length of " + MAX_RECORD_CHARS + " characters");
+            }
+        }
+
+        if (!read) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void skipRestOfRecord(boolean quoted) throws IOException {
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '\n' && !quoted) {
+                return;
+            }
+        }
+    }
+
+    private static class RecordTooLongException extends IOException {
+        RecordTooLongException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.TaskDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+class NdjsonTaskImportReader extends TaskImportReader {
+    private final ObjectMapper objectMapper;
+    private final StringBuilder line = new StringBuilder();
+
+    NdjsonTaskImportReader(InputStream inputStream, ObjectMapper objectMapper) {
+        super(inputStream);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        while (true) {
+            line.setLength(0);
+            boolean tooLong = false;
+            int c;
+            while ((c = reader.read()) != -1 && c != '\n') {
+                if (line.length() < MAX_RECORD_CHARS) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+            }
+
+            if (c == -1 && line.isEmpty()) {
+                return null;
+            }
+            if (line.toString().isBlank()) {
+                continue;
+            }
+
+            rowNumber++;
+            if (tooLong) {
+                return TaskImportRow.rejected(rowNumber, "Row exceeds the maximum length of " + MAX_RECORD_CHARS + " characters");
+            }
+            try {
+                return TaskImportRow.parsed(rowNumber, objectMapper.readValue(line.toString(), TaskDTO.class));
+            } catch (JsonProcessingException e) {
+                return TaskImportRow.rejected(rowNumber, "Row is not a valid task JSON object: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.dts.case_manager_backend.service;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Instant;
+
+// Recorded on the current web request when it was answered from last-known data instead of the database;
+// StaleResponseAdvice turns it into response headers. asOf is when the data was last confirmed, if known.
+public record StaleRead(Instant asOf) {
+    public static final String ATTRIBUTE = StaleRead.class.getName();
+
+    public static void mark(Instant asOf) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, new StaleRead(asOf), RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.repository.ArchivedTaskRepository;
+import com.dts.case_manager_backend.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Moves Complete tasks created longer ago than the configured age from tasks into tasks_archive, one batch per
+// transaction so locks are held briefly and a failure only rolls back the batch at hand. Each moved task is
+// published as ARCHIVED, which drops it from the hot caches; lookups by id still find it in the archive.
+@Slf4j
+@Service
+@Profile("!memory")
+@ConditionalOnProperty(name = "tasks.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskArchiver {
+    static final String ARCHIVED_STATUS = "Complete";
+
+    @Autowired
+    ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Value("${tasks.archive.complete-older-than:P90D}")
+    Duration completeOlderThan = Duration.ofDays(90);
+
+    @Value("${tasks.archive.batch-size:500}")
+    int batchSize = 500;
+
+    @Scheduled(fixedDelayString = "${tasks.archive.interval:PT10M}", initialDelayString = "${tasks.archive.interval:PT10M}")
+    public int archiveCompletedTasks() {
+        long started = System.nanoTime();
+        LocalDateTime createdBefore = LocalDateTime.now().minus(completeOlderThan);
+        int archived = 0;
+        int moved;
+        do {
+            Integer batch = transactionTemplate.execute(transactionStatus -> archiveBatch(createdBefore));
+            moved = batch == null ? 0 : batch;
+            archived += moved;
+        } while (moved == batchSize && !Thread.currentThread().isInterrupted());
+
+        if (archived > 0) {
+            log.info("Archived {} completed tasks created before {} in {} ms", archived, createdBefore, (System.nanoTime() - started) / 1_000_000);
+        }
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime createdBefore) {
+        List<Long> ids = archivedTaskRepository.lockIdsToArchive(ARCHIVED_STATUS, createdBefore, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        Iterable<Task> tasks = taskRepository.findAllById(ids);
+        archivedTaskRepository.copyFromTasks(ids, LocalDateTime.now());
+        archivedTaskRepository.deleteFromTasks(ids);
+        tasks.forEach(task -> eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.ARCHIVED, task)));
+        return ids.size();
+    }
+}
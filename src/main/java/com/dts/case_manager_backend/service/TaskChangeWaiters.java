@@ -0,0 +1,147 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.exception.BulkheadFullException;
+import com.dts.case_manager_backend.model.Task;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-task versions and the long-poll requests waiting for them to move, fed only by committed TaskChangedEvents,
+// so waiting never touches the database. Versions come from one sequence that starts at the startup time in
+// microseconds: a task this process has not seen change reports that starting value, and versions keep growing
+// across restarts. They are local to this process, as are the events. A change reloads its task once, on a virtual
+// thread, and completes every request waiting on it with that one result, so many watchers of a task cost one
+// read per change and never hold up the thread that made it. Only the max-versions most recently changed tasks keep
+// their own version; the others report a floor raised to every version dropped, so a version a client already holds
+// never looks current after its task changed. At worst such a client is woken once without a change.
+@Component
+public class TaskChangeWaiters {
+    private final long initialVersion = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    private final AtomicLong sequence = new AtomicLong(initialVersion);
+    // Ordered by last change, oldest first.
+    private final LinkedHashMap<Long, Long> versions = new LinkedHashMap<>();
+    private long versionFloor = initialVersion;
+    public record Change(long version, Task task) {
+    }
+
+    @Autowired
+    TaskService taskService;
+
+    private final Map<Long, Set<CompletableFuture<Change>>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final ExecutorService wakeups = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${tasks.long-poll.max-waiters:10000}")
+    int maxWaiters = 10000;
+
+    @Value("${tasks.long-poll.max-versions:100000}")
+    int maxVersions = 100000;
+
+    public long version(Long taskId) {
+        synchronized (versions) {
+            return versions.getOrDefault(taskId, versionFloor);
+        }
+    }
+
+    // Completes with the task's version and the task as reloaded once it is past afterVersion, straight away if it
+    // already is, or exceptionally if the reload fails. Callers must cancel() the future if they stop waiting
+    // before it completes.
+    public CompletableFuture<Change> awaitChangeAfter(Long taskId, long afterVersion) {
+        CompletableFuture<Change> waiter = new CompletableFuture<>();
+        if (waiting.incrementAndGet() > maxWaiters) {
+            waiting.decrementAndGet();
+            throw new BulkheadFullException("Request rejected because too many requests are waiting for task changes.");
+        }
+        waiters.compute(taskId, (id, taskWaiters) -> {
+            Set<CompletableFuture<Change>> registered = taskWaiters == null ? ConcurrentHashMap.newKeySet() : taskWaiters;
+            registered.add(waiter);
+            return registered;
+        });
+
+        // Read after registering: a change either is already visible here or will find the waiter registered.
+        long version = version(taskId);
+        if (version > afterVersion) {
+            unregister(taskId, waiter);
+            wakeups.execute(() -> reload(taskId, version, List.of(waiter)));
+        }
+        return waiter;
+    }
+
+    public void cancel(Long taskId, CompletableFuture<Change> waiter) {
+        waiter.cancel(false);
+        unregister(taskId, waiter);
+    }
+
+    private void unregister(Long taskId, CompletableFuture<Change> waiter) {
+        waiters.computeIfPresent(taskId, (id, taskWaiters) -> {
+            if (taskWaiters.remove(waiter)) {
+                waiting.decrementAndGet();
+            }
+            return taskWaiters.isEmpty() ? null : taskWaiters;
+        });
+    }
+
+    public int waiting() {
+        return waiting.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wakeups.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        // Archiving moves a task without changing it.
+        if (event.type() == TaskChangedEvent.Type.ARCHIVED) {
+            return;
+        }
+        Long taskId = event.taskId();
+        long version = sequence.incrementAndGet();
+        synchronized (versions) {
+            Long previous = versions.remove(taskId);
+            if (event.type() != TaskChangedEvent.Type.DELETED) {
+                versions.put(taskId, previous == null ? version : Math.max(previous, version));
+            }
+            if (versions.size() > maxVersions) {
+                Iterator<Map.Entry<Long, Long>> oldest = versions.entrySet().iterator();
+                versionFloor = Math.max(versionFloor, oldest.next().getValue());
+                oldest.remove();
+            }
+        }
+
+        Set<CompletableFuture<Change>> woken = waiters.remove(taskId);
+        if (woken != null) {
+            waiting.addAndGet(-woken.size());
+            wakeups.execute(() -> reload(taskId, version, woken));
+        }
+    }
+
+    private void reload(Long taskId, long version, Collection<CompletableFuture<Change>> woken) {
+        if (woken.stream().allMatch(CompletableFuture::isDone)) {
+            return;
+        }
+        try {
+            Change change = new Change(version, taskService.retrieveTaskById(taskId));
+            woken.forEach(waiter -> waiter.complete(change));
+        } catch (RuntimeException e) {
+            woken.forEach(waiter -> waiter.completeExceptionally(e));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.Task;
+
+// DELETED events only carry the task's id, as deletes tombstone the row without reading it.
+public record TaskChangedEvent(Type type, Task task) {
+    public enum Type { CREATED, UPDATED, DELETED, ARCHIVED }
+
+    public Long taskId() {
+        return task.getId();
+    }
+}
@@ -0,0 +1,13 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.ClaimDTO;
+import com.dts.case_manager_backend.model.TaskClaim;
+
+import java.util.Optional;
+
+public interface TaskClaimService {
+    Optional<TaskClaim> claimNextTask(ClaimDTO claimDTO);
+    TaskClaim renewClaim(Long taskId, ClaimDTO claimDTO);
+    void releaseClaim(Long taskId, String worker);
+    int reapExpiredClaims();
+}
@@ -0,0 +1,156 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.exception.InvalidDTOException;
+import com.dts.case_manager_backend.exception.TaskClaimNotFoundException;
+import com.dts.case_manager_backend.model.ClaimDTO;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskClaim;
+import com.dts.case_manager_backend.model.TaskLease;
+import com.dts.case_manager_backend.repository.TaskClaimRepository;
+import com.dts.case_manager_backend.repository.TaskLeaseRepository;
+import com.dts.case_manager_backend.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+// Work queue over the task table: a claim atomically moves the next "Not yet started" task (earliest due date
+// first) to "In progress" and records a lease for the worker. Workers renew the lease while they work, and
+// leases that run out are reaped, putting the task back in the queue unless its status has moved on since.
+@Slf4j
+@Service
+public class TaskClaimServiceImpl implements TaskClaimService {
+    static final String QUEUED_STATUS = "Not yet started";
+    static final String CLAIMED_STATUS = "In progress";
+    private static final Duration MAX_LEASE = Duration.ofHours(1);
+    static final String REAPER_ACTOR = "lease-reaper";
+
+    @Autowired
+    TaskClaimRepository taskClaimRepository;
+
+    @Autowired
+    TaskLeaseRepository taskLeaseRepository;
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired(required = false)
+    TaskStatusHistoryWriter taskStatusHistoryWriter;
+
+    @Value("${tasks.claims.default-lease:PT5M}")
+    Duration defaultLease = Duration.ofMinutes(5);
+
+    @Override
+    public Optional<TaskClaim> claimNextTask(ClaimDTO claimDTO) {
+        String worker = validatedWorker(claimDTO);
+        Duration lease = validatedLease(claimDTO);
+
+        return withStatusHistory(reservation -> transactionTemplate.execute(transactionStatus -> taskClaimRepository.claimNext(QUEUED_STATUS, CLAIMED_STATUS).map(taskId -> {
+            LocalDateTime now = LocalDateTime.now();
+            TaskLease taskLease = taskLeaseRepository.save(new TaskLease(taskId, worker, now, now.plus(lease)));
+            Task task = taskRepository.findById(taskId).orElseThrow();
+            eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, task));
+            eventPublisher.publishEvent(new TaskStatusChangedEvent(taskId, QUEUED_STATUS, CLAIMED_STATUS, worker, now, reservation));
+
+            return new TaskClaim(task, worker, taskLease.getExpiresAt());
+        })));
+    }
+
+    @Override
+    public TaskClaim renewClaim(Long taskId, ClaimDTO claimDTO) {
+        String worker = validatedWorker(claimDTO);
+        Duration lease = validatedLease(claimDTO);
+
+        return transactionTemplate.execute(transactionStatus -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (taskLeaseRepository.renew(taskId, worker, now, now.plus(lease)) == 0) {
+                throw new TaskClaimNotFoundException("Claim cannot be renewed because the supplied worker holds no active claim on the task");
+            }
+            Task task = taskRepository.findById(taskId).orElseThrow(() -> new TaskClaimNotFoundException("Claim cannot be renewed because the task no longer exists"));
+
+            return new TaskClaim(task, worker, now.plus(lease));
+        });
+    }
+
+    @Override
+    public void releaseClaim(Long taskId, String worker) {
+        withStatusHistory(reservation -> transactionTemplate.execute(transactionStatus -> {
+            if (taskLeaseRepository.release(taskId, worker) == 0) {
+                throw new TaskClaimNotFoundException("Claim cannot be released because the supplied worker holds no claim on the task");
+            }
+            requeue(taskId, worker, reservation);
+            return null;
+        }));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${tasks.claims.reap-interval:PT30S}")
+    public int reapExpiredClaims() {
+        int reaped = 0;
+        List<TaskLease> expired;
+        do {
+            expired = taskLeaseRepository.findTop500ByExpiresAtBeforeOrderByExpiresAt(LocalDateTime.now());
+            for (TaskLease taskLease : expired) {
+                Boolean requeued = withStatusHistory(reservation -> transactionTemplate.execute(transactionStatus -> {
+                    // Re-checked in the delete itself, so a lease renewed since it was read is left alone.
+                    if (taskLeaseRepository.deleteIfExpired(taskLease.getTaskId(), LocalDateTime.now()) == 0) {
+                        return false;
+                    }
+                    requeue(taskLease.getTaskId(), REAPER_ACTOR, reservation);
+                    return true;
+                }));
+                reaped += Boolean.TRUE.equals(requeued) ? 1 : 0;
+            }
+        } while (!expired.isEmpty());
+
+        if (reaped > 0) {
+            log.info("Reaped {} expired task claims", reaped);
+        }
+        return reaped;
+    }
+
+    private void requeue(Long taskId, String actor, TaskStatusHistoryWriter.Reservation reservation) {
+        if (taskClaimRepository.compareAndSetStatus(taskId, CLAIMED_STATUS, QUEUED_STATUS)) {
+            taskRepository.findById(taskId).ifPresent(task -> eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, task)));
+            eventPublisher.publishEvent(new TaskStatusChangedEvent(taskId, CLAIMED_STATUS, QUEUED_STATUS, actor, LocalDateTime.now(), reservation));
+        }
+    }
+
+    // Reserves before the change, so that a full status history queue rejects it rather than losing its entry.
+    private <T> T withStatusHistory(Function<TaskStatusHistoryWriter.Reservation, T> change) {
+        return taskStatusHistoryWriter == null ? change.apply(null) : taskStatusHistoryWriter.withReservation(change);
+    }
+
+    private String validatedWorker(ClaimDTO claimDTO) {
+        if (claimDTO == null || claimDTO.worker() == null || claimDTO.worker().isBlank()) {
+            throw new InvalidDTOException("Task cannot be claimed because a worker was not supplied.");
+        }
+        return claimDTO.worker();
+    }
+
+    private Duration validatedLease(ClaimDTO claimDTO) {
+        if (claimDTO.leaseSeconds() == null) {
+            return defaultLease;
+        }
+        Duration lease = Duration.ofSeconds(claimDTO.leaseSeconds());
+        if (lease.isNegative() || lease.isZero() || lease.compareTo(MAX_LEASE) > 0) {
+            throw new InvalidDTOException("Task cannot be claimed because the lease must be between 1 and " + MAX_LEASE.toSeconds() + " seconds.");
+        }
+        return lease;
+    }
+}
@@ -0,0 +1,293 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.ArchivedTask;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.repository.ArchivedTaskRepository;
+import com.dts.case_manager_backend.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// Column-per-field copy of the task table in direct (off-heap) buffers, kept in sync from TaskChangedEvents so
+// reporting scans never touch the primary database. Rows are addressed by task id: identity ids are dense, so
+// the holes deletes leave behind are cheap to skip. Status is dictionary-encoded into one byte (0 = no row), and
+// dates are stored as the Monday-based week they fall in, plus the due date in UTC epoch seconds for overdue
+// counts, so the scans only add, shift and mask. Archived tasks stay in the mirror, so reports cover every task
+// whether it is hot or archived. A task whose id is too large for a row is not mirrored; while one exists, the
+// counts are taken from the repository instead.
+@Slf4j
+@Component
+public class TaskColumnarMirror {
+    public static final long WEEK_SECONDS = 7 * 24 * 60 * 60;
+    // 1970-01-05, the first Monday after the epoch, starts week 0.
+    private static final long FIRST_MONDAY_SECONDS = 4 * 24 * 60 * 60;
+    // Far enough outside any date range that week and overdue arithmetic on them cannot overflow.
+    private static final long NO_WEEK = Long.MIN_VALUE >> 1;
+    private static final long NO_DUE_DATE = Long.MAX_VALUE >> 1;
+    private static final int MAX_ROWS = Integer.MAX_VALUE >> 3;
+    private static final int INITIAL_CAPACITY = 1 << 16;
+    private static final List<String> LOAD_FIELDS = List.of("id", "status", "createdDate", "dueDate");
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    ArchivedTaskRepository archivedTaskRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<String> statuses = new ArrayList<>();
+    private final Columns columns = new Columns(INITIAL_CAPACITY);
+    private final Set<Long> unmirroredIds = new HashSet<>();
+    private int rowCount;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.nanoTime();
+        // Held for the whole scan so that events committed meanwhile are applied on top of it, not under it.
+        write(() -> {
+            for (Map<String, Object> row : taskRepository.findAllFields(LOAD_FIELDS)) {
+                put(((Number) row.get("id")).longValue(), (String) row.get("status"),
+                        (LocalDateTime) row.get("createdDate"), (LocalDateTime) row.get("dueDate"));
+            }
+            for (ArchivedTask archived : archivedTaskRepository.findAll()) {
+                put(archived.getId(), archived.getStatus(), archived.getCreatedDate(), archived.getDueDate());
+            }
+            return null;
+        });
+        log.info("Loaded {} tasks into the columnar mirror in {} ms", rowCount, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Task task = event.task();
+        if (event.type() == TaskChangedEvent.Type.ARCHIVED) {
+            return;
+        }
+        try {
+            write(() -> {
+                if (event.type() == TaskChangedEvent.Type.DELETED) {
+                    remove(task.getId());
+                } else {
+                    put(task.getId(), task.getStatus(), task.getCreatedDate(), task.getDueDate());
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not apply {} of task {} to the columnar mirror", event.type(), task.getId(), e);
+        }
+    }
+
+    public List<String> statuses() {
+        return read(() -> List.copyOf(statuses));
+    }
+
+    public long count() {
+        return read(() -> (long) rowCount + unmirroredIds.size());
+    }
+
+    public enum DateColumn { CREATED, DUE }
+
+    // counts[week * statusCount + status], for tasks whose date falls in the given number of weeks from firstWeek
+    // (see week()), with statuses indexed as in statuses() at the time of the call.
+    public long[] countByWeekAndStatus(DateColumn dateColumn, long firstWeek, int weeks, int statusCount) {
+        long[] counts = read(() -> unmirroredIds.isEmpty() ? columns.countByWeekAndStatus(dateColumn, firstWeek, weeks, statusCount) : null);
+        return counts != null ? counts : repositoryColumns().countByWeekAndStatus(dateColumn, firstWeek, weeks, statusCount);
+    }
+
+    // [total, due before the given instant] per status, indexed as in statuses().
+    public long[][] countByStatusAndOverdue(long dueBefore, int statusCount) {
+        long[][] counts = read(() -> unmirroredIds.isEmpty() ? columns.countByStatusAndOverdue(dueBefore, statusCount) : null);
+        return counts != null ? counts : repositoryColumns().countByStatusAndOverdue(dueBefore, statusCount);
+    }
+
+    public static long epochSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    // Number of the Monday-based week the date falls in.
+    public static long week(LocalDate date) {
+        return week(date.atStartOfDay());
+    }
+
+    private static long week(LocalDateTime dateTime) {
+        return dateTime == null ? NO_WEEK : Math.floorDiv(epochSeconds(dateTime) - FIRST_MONDAY_SECONDS, WEEK_SECONDS);
+    }
+
+    private void put(long id, String status, LocalDateTime createdDate, LocalDateTime dueDate) {
+        byte statusCode = statusCode(status);
+        if (id < 1 || id > MAX_ROWS) {
+            if (unmirroredIds.add(id)) {
+                log.warn("Task {} is out of range for the columnar mirror, so reports read the repository until it is deleted", id);
+            }
+            return;
+        }
+        int row = (int) id - 1;
+        if (columns.status(row) == 0) {
+            rowCount++;
+        }
+        columns.set(row, statusCode, createdDate, dueDate);
+    }
+
+    private void remove(long id) {
+        if (id < 1 || id > MAX_ROWS) {
+            unmirroredIds.remove(id);
+            return;
+        }
+        int row = (int) id - 1;
+        if (columns.status(row) != 0) {
+            columns.set(row, (byte) 0, null, null);
+            rowCount--;
+        }
+    }
+
+    // Every task, hot or archived, read from the repository into rows of their own.
+    private Columns repositoryColumns() {
+        List<Map<String, Object>> tasks = taskRepository.findAllFields(LOAD_FIELDS);
+        List<ArchivedTask> archivedTasks = new ArrayList<>();
+        archivedTaskRepository.findAll().forEach(archivedTasks::add);
+        // The write lock because an unseen status joins the dictionary.
+        return write(() -> {
+            Columns scanned = new Columns(Math.max(1, tasks.size() + archivedTasks.size()));
+            int row = 0;
+            for (Map<String, Object> task : tasks) {
+                scanned.set(row++, statusCode((String) task.get("status")),
+                        (LocalDateTime) task.get("createdDate"), (LocalDateTime) task.get("dueDate"));
+            }
+            for (ArchivedTask archived : archivedTasks) {
+                scanned.set(row++, statusCode(archived.getStatus()), archived.getCreatedDate(), archived.getDueDate());
+            }
+            return scanned;
+        });
+    }
+
+    private byte statusCode(String status) {
+        int index = statuses.indexOf(status);
+        if (index < 0) {
+            if (statuses.size() == Byte.MAX_VALUE) {
+                throw new IllegalStateException("Columnar mirror supports at most " + Byte.MAX_VALUE + " distinct statuses");
+            }
+            statuses.add(status);
+            index = statuses.size() - 1;
+        }
+        return (byte) (index + 1);
+    }
+
+    private <T> T read(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private <T> T write(Supplier<T> action) {
+        lock.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // The scans keep no branches in the loop body: a row that should not be counted is sent to slot 0, which
+    // status 0 (no row) owns and the results leave out.
+    private static final class Columns {
+        private ByteBuffer statusColumn;
+        private ByteBuffer createdWeekColumn;
+        private ByteBuffer dueWeekColumn;
+        private ByteBuffer dueColumn;
+        private int capacity;
+        private int rowLimit;
+
+        private Columns(int capacity) {
+            statusColumn = ByteBuffer.allocateDirect(capacity);
+            createdWeekColumn = longColumn(capacity);
+            dueWeekColumn = longColumn(capacity);
+            dueColumn = longColumn(capacity);
+            this.capacity = capacity;
+        }
+
+        private byte status(int row) {
+            return row < rowLimit ? statusColumn.get(row) : 0;
+        }
+
+        private void set(int row, byte status, LocalDateTime createdDate, LocalDateTime dueDate) {
+            ensureCapacity(row + 1);
+            statusColumn.put(row, status);
+            createdWeekColumn.putLong(row << 3, week(createdDate));
+            dueWeekColumn.putLong(row << 3, week(dueDate));
+            dueColumn.putLong(row << 3, dueDate == null ? NO_DUE_DATE : epochSeconds(dueDate));
+            rowLimit = Math.max(rowLimit, row + 1);
+        }
+
+        private long[] countByWeekAndStatus(DateColumn dateColumn, long firstWeek, int weeks, int statusCount) {
+            ByteBuffer weekColumn = dateColumn == DateColumn.CREATED ? createdWeekColumn : dueWeekColumn;
+            int stride = statusCount + 1;
+            long[] slots = new long[weeks * stride];
+            for (int row = 0; row < rowLimit; row++) {
+                int status = statusColumn.get(row);
+                long bucket = weekColumn.getLong(row << 3) - firstWeek;
+                // 1 when 0 <= bucket < weeks and the status is one the caller knows about, 0 otherwise.
+                int counted = (int) ((bucket | weeks - 1 - bucket) >>> 63 ^ 1) & (status - stride) >>> 31;
+                slots[counted * ((int) bucket * stride + status)]++;
+            }
+            long[] counts = new long[weeks * statusCount];
+            for (int week = 0; week < weeks; week++) {
+                System.arraycopy(slots, week * stride + 1, counts, week * statusCount, statusCount);
+            }
+            return counts;
+        }
+
+        private long[][] countByStatusAndOverdue(long dueBefore, int statusCount) {
+            int stride = statusCount + 1;
+            long[] totals = new long[stride];
+            long[] overdue = new long[stride];
+            for (int row = 0; row < rowLimit; row++) {
+                int status = statusColumn.get(row);
+                int slot = status & -((status - stride) >>> 31);
+                totals[slot]++;
+                overdue[slot] += (dueColumn.getLong(row << 3) - dueBefore) >>> 63;
+            }
+            return new long[][] {Arrays.copyOfRange(totals, 1, stride), Arrays.copyOfRange(overdue, 1, stride)};
+        }
+
+        private void ensureCapacity(int rows) {
+            if (rows <= capacity) {
+                return;
+            }
+            int grown = (int) Math.min(MAX_ROWS, Math.max(rows, (long) capacity * 2));
+            statusColumn = grow(statusColumn, ByteBuffer.allocateDirect(grown));
+            createdWeekColumn = grow(createdWeekColumn, longColumn(grown));
+            dueWeekColumn = grow(dueWeekColumn, longColumn(grown));
+            dueColumn = grow(dueColumn, longColumn(grown));
+            capacity = grown;
+        }
+
+        private static ByteBuffer grow(ByteBuffer from, ByteBuffer to) {
+            to.put(0, from, 0, from.capacity());
+            return to;
+        }
+
+        private static ByteBuffer longColumn(int rows) {
+            return ByteBuffer.allocateDirect(rows << 3).order(ByteOrder.nativeOrder());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Tasks ordered by (dueDate, id) in a skip list, so a due date range is a log n seek followed by an in-order
+// walk. Built from the repository once the application is ready and then maintained from TaskChangedEvents.
+// Writers are serialised by a lock so a rebuild and concurrent events cannot interleave; readers never block.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.calendar-index.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskDueDateIndex {
+    record Key(LocalDateTime dueDate, long id) {
+        static final Comparator<Key> ORDER = Comparator.comparing(Key::dueDate).thenComparingLong(Key::id);
+    }
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    private final ConcurrentSkipListMap<Key, Task> tasksByDueDate = new ConcurrentSkipListMap<>(Key.ORDER);
+    private final Map<Long, Key> keysById = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.nanoTime();
+        writeLock.lock();
+        try {
+            taskRepository.findAll().forEach(this::put);
+            ready = true;
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Indexed {} task due dates in {} ms", keysById.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        writeLock.lock();
+        try {
+            if (event.type() == TaskChangedEvent.Type.DELETED || event.type() == TaskChangedEvent.Type.ARCHIVED) {
+                remove(event.task().getId());
+            } else {
+                put(event.task());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Optional<Task> findById(Long id) {
+        Key key = keysById.get(id);
+        Task task = key == null ? null : tasksByDueDate.get(key);
+        return Optional.ofNullable(task).map(TaskDueDateIndex::copyOf);
+    }
+
+    // Tasks with from <= dueDate < to, in due date then id order.
+    public List<Task> findDueBetween(LocalDateTime from, LocalDateTime to) {
+        List<Task> tasks = new ArrayList<>();
+        tasksByDueDate.subMap(new Key(from, Long.MIN_VALUE), new Key(to, Long.MIN_VALUE)).values().forEach(task -> tasks.add(copyOf(task)));
+        return tasks;
+    }
+
+    private void put(Task task) {
+        remove(task.getId());
+        if (task.getDueDate() == null) {
+            return;
+        }
+        Key key = new Key(task.getDueDate(), task.getId());
+        tasksByDueDate.put(key, copyOf(task));
+        keysById.put(task.getId(), key);
+    }
+
+    // Indexed copies never carry descriptions, which TaskServiceImpl loads for the tasks it returns, and are never handed out directly.
+    private static Task copyOf(Task task) {
+        return Task.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .status(task.getStatus())
+                .createdDate(task.getCreatedDate())
+                .dueDate(task.getDueDate())
+                .build();
+    }
+
+    private void remove(Long id) {
+        Key key = keysById.remove(id);
+        if (key != null) {
+            tasksByDueDate.remove(key);
+        }
+    }
+}
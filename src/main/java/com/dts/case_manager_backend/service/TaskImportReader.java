@@ -0,0 +1,44 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.TaskImportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+// Pulls one data row at a time from the upload, so memory use is bounded by a single record rather than the file.
+public abstract class TaskImportReader implements Closeable {
+    static final int MAX_RECORD_CHARS = 1 << 20;
+
+    protected final BufferedReader reader;
+    protected long rowNumber;
+
+    protected TaskImportReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    public static TaskImportReader open(TaskImportFormat format, InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvTaskImportReader(inputStream);
+            case NDJSON -> new NdjsonTaskImportReader(inputStream, objectMapper);
+        };
+    }
+
+    // Returns null once the upload is exhausted.
+    public abstract TaskImportRow next() throws IOException;
+
+    public void skip(long rows) throws IOException {
+        while (rowNumber < rows && next() != null) {
+            // rows before the resume point were committed by an earlier run
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
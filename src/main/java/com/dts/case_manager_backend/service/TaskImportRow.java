@@ -0,0 +1,15 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.TaskDTO;
+
+// A parsed data row: either a TaskDTO ready for validation or the reason it could not be parsed.
+public record TaskImportRow(long rowNumber, TaskDTO taskDTO, String error) {
+
+    public static TaskImportRow parsed(long rowNumber, TaskDTO taskDTO) {
+        return new TaskImportRow(rowNumber, taskDTO, null);
+    }
+
+    public static TaskImportRow rejected(long rowNumber, String error) {
+        return new TaskImportRow(rowNumber, null, error);
+    }
+}
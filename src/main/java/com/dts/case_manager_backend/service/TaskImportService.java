@@ -0,0 +1,16 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.TaskImport;
+import com.dts.case_manager_backend.model.TaskImportFormat;
+import com.dts.case_manager_backend.model.TaskImportReject;
+import com.dts.case_manager_backend.model.TaskImportResult;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface TaskImportService {
+    TaskImportResult startImport(TaskImportFormat format, InputStream upload);
+    TaskImportResult resumeImport(Long importId, TaskImportFormat format, InputStream upload);
+    TaskImport retrieveImport(Long importId);
+    List<TaskImportReject> retrieveRejects(Long importId, int page, int size);
+}
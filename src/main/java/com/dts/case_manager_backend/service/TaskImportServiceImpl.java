@@ -0,0 +1,181 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.exception.InvalidDTOException;
+import com.dts.case_manager_backend.exception.TaskImportFailedException;
+import com.dts.case_manager_backend.exception.TaskImportNotFoundException;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskImport;
+import com.dts.case_manager_backend.model.TaskImportFormat;
+import com.dts.case_manager_backend.model.TaskImportReject;
+import com.dts.case_manager_backend.model.TaskImportResult;
+import com.dts.case_manager_backend.repository.TaskBatchWriter;
+import com.dts.case_manager_backend.repository.TaskImportRejectRepository;
+import com.dts.case_manager_backend.repository.TaskImportRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Rows are read, validated and written one fixed-size batch at a time. Each batch commits together with the
+// import's progress row, so a failed upload can be resumed from the last committed batch without duplicates.
+// The upload is only read as fast as batches commit, which throttles the client through TCP flow control.
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+    static final int BATCH_SIZE = 500;
+    static final int MAX_REPORTED_REJECTS = 100;
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    TaskImportRepository taskImportRepository;
+
+    @Autowired
+    TaskImportRejectRepository taskImportRejectRepository;
+
+    @Autowired
+    TaskBatchWriter taskBatchWriter;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Override
+    public TaskImportResult startImport(TaskImportFormat format, InputStream upload) {
+        LocalDateTime now = LocalDateTime.now();
+        TaskImport taskImport = taskImportRepository.save(TaskImport.builder()
+                .format(format)
+                .status(TaskImport.Status.IN_PROGRESS)
+                .createdDate(now)
+                .updatedDate(now)
+                .build());
+
+        return runImport(taskImport, upload);
+    }
+
+    @Override
+    public TaskImportResult resumeImport(Long importId, TaskImportFormat format, InputStream upload) {
+        TaskImport taskImport = retrieveImport(importId);
+
+        if (taskImport.getFormat() != format) {
+            throw new InvalidDTOException("Import cannot be resumed because it was started as ".concat(taskImport.getFormat().getMediaType().toString()));
+        }
+        if (taskImport.getStatus() == TaskImport.Status.COMPLETE) {
+            return TaskImportResult.of(taskImport, List.of());
+        }
+
+        taskImport.setStatus(TaskImport.Status.IN_PROGRESS);
+        return runImport(taskImportRepository.save(taskImport), upload);
+    }
+
+    @Override
+    public TaskImport retrieveImport(Long importId) {
+        return taskImportRepository.findById(importId).orElseThrow(() -> new TaskImportNotFoundException("Import cannot be retrieved because no import could be found with the supplied id"));
+    }
+
+    @Override
+    public List<TaskImportReject> retrieveRejects(Long importId, int page, int size) {
+        retrieveImport(importId);
+        return taskImportRejectRepository.findByImportIdOrderByRowNumber(importId, PageRequest.of(page, Math.min(size, 1000)));
+    }
+
+    private TaskImportResult runImport(TaskImport taskImport, InputStream upload) {
+        List<TaskImportReject> reportedRejects = new ArrayList<>();
+        List<Task> batchTasks = new ArrayList<>(BATCH_SIZE);
+        List<TaskImportReject> batchRejects = new ArrayList<>();
+        long lastRow = taskImport.getRowsProcessed();
+
+        try (TaskImportReader reader = TaskImportReader.open(taskImport.getFormat(), upload, objectMapper)) {
+            reader.skip(taskImport.getRowsProcessed());
+
+            TaskImportRow row;
+            while ((row = reader.next()) != null) {
+                lastRow = row.rowNumber();
+                String error = row.error();
+
+                if (error == null) {
+                    try {
+                        taskService.validateTaskDTO(row.taskDTO());
+                        batchTasks.add(taskService.taskDTOToTask(row.taskDTO()));
+                    } catch (InvalidDTOException e) {
+                        error = e.getMessage();
+                    }
+                }
+                if (error != null) {
+                    TaskImportReject reject = TaskImportReject.builder()
+                            .importId(taskImport.getId())
+                            .rowNumber(row.rowNumber())
+                            .message(error.length() > 1000 ? error.substring(0, 1000) : error)
+                            .build();
+                    batchRejects.add(reject);
+                    if (reportedRejects.size() < MAX_REPORTED_REJECTS) {
+                        reportedRejects.add(reject);
+                    }
+                }
+
+                if (batchTasks.size() + batchRejects.size() >= BATCH_SIZE) {
+                    taskImport = commitBatch(taskImport, batchTasks, batchRejects, lastRow, TaskImport.Status.IN_PROGRESS);
+                    batchTasks.clear();
+                    batchRejects.clear();
+                }
+            }
+
+            taskImport = commitBatch(taskImport, batchTasks, batchRejects, lastRow, TaskImport.Status.COMPLETE);
+        } catch (IOException e) {
+            markFailed(taskImport, e);
+            throw new TaskImportFailedException("Import " + taskImport.getId() + " stopped after row " + taskImport.getRowsProcessed()
+                    + " because the upload could not be read.  Resume it by uploading the same file again.", e);
+        } catch (RuntimeException e) {
+            markFailed(taskImport, e);
+            throw e;
+        }
+
+        return TaskImportResult.of(taskImport, reportedRejects);
+    }
+
+    // taskImport is the last committed state: the batch's counts go on a copy, so a failed commit leaves it as it was.
+    private TaskImport commitBatch(TaskImport taskImport, List<Task> tasks, List<TaskImportReject> rejects, long lastRow, TaskImport.Status status) {
+        return transactionTemplate.execute(transactionStatus -> {
+            taskBatchWriter.write(tasks);
+            taskImportRejectRepository.saveAll(rejects);
+
+            TaskImport savedImport = taskImportRepository.save(taskImport.toBuilder()
+                    .rowsProcessed(lastRow)
+                    .accepted(taskImport.getAccepted() + tasks.size())
+                    .rejected(taskImport.getRejected() + rejects.size())
+                    .status(status)
+                    .updatedDate(LocalDateTime.now())
+                    .build());
+
+            for (Task task : tasks) {
+                eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.CREATED, task));
+            }
+            return savedImport;
+        });
+    }
+
+    // Keeps the counts of the last committed batch, so a resume starts right after it.
+    private void markFailed(TaskImport taskImport, Exception failure) {
+        try {
+            taskImportRepository.save(taskImport.toBuilder()
+                    .status(TaskImport.Status.FAILED)
+                    .updatedDate(LocalDateTime.now())
+                    .build());
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+}
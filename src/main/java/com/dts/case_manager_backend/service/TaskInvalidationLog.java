@@ -0,0 +1,337 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.ArchivedTask;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskInvalidationStats;
+import com.dts.case_manager_backend.repository.ArchivedTaskRepository;
+import com.dts.case_manager_backend.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Keeps the in-process task copies of several nodes coherent through the database, without a broker. Every
+// TaskChangedEvent is appended to task_invalidation_log in the transaction that made the change, and a poller
+// thread on each node tails the log by id and republishes other nodes' changes locally, reloading the tasks
+// they name, so every TaskChangedEvent listener stays in sync as if the change had been made here.
+//
+// Ids are handed out before commit, so a lower id can become visible after a higher one. Ids skipped over are
+// kept as gaps and looked up again on each poll until they turn up or gap-timeout passes (rolled back changes
+// leave gaps that never fill).
+@Slf4j
+@Component
+@Profile("!memory")
+@ConditionalOnProperty(name = "tasks.invalidation-log.enabled", havingValue = "true")
+public class TaskInvalidationLog {
+    private static final String INSERT = "insert into task_invalidation_log (task_id, type, origin, logged_at) values (?, ?, ?, localtimestamp)";
+    private static final String SELECT_COLUMNS = "select id, task_id, type, origin, logged_at, localtimestamp as polled_at from task_invalidation_log";
+    private static final String SELECT_AFTER = SELECT_COLUMNS + " where id > ? order by id limit ?";
+    private static final String SELECT_MAX_ID = "select coalesce(max(id), 0) from task_invalidation_log";
+    private static final String DELETE_BEFORE = "delete from task_invalidation_log where logged_at < ?";
+    private static final int MAX_GAPS = 1000;
+    private static final int RECENT_LAGS = 1024;
+
+    record Entry(long id, long taskId, TaskChangedEvent.Type type, String origin, LocalDateTime loggedAt, LocalDateTime polledAt) {
+    }
+
+    private static final RowMapper<Entry> ENTRY_MAPPER = (resultSet, row) -> new Entry(
+            resultSet.getLong("id"),
+            resultSet.getLong("task_id"),
+            TaskChangedEvent.Type.valueOf(resultSet.getString("type")),
+            resultSet.getString("origin"),
+            resultSet.getTimestamp("logged_at").toLocalDateTime(),
+            resultSet.getTimestamp("polled_at").toLocalDateTime());
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Value("${tasks.invalidation-log.node-id:#{T(java.util.UUID).randomUUID().toString()}}")
+    String nodeId = UUID.randomUUID().toString();
+
+    @Value("${tasks.invalidation-log.poll-interval:PT0.2S}")
+    Duration pollInterval = Duration.ofMillis(200);
+
+    @Value("${tasks.invalidation-log.batch-size:1000}")
+    int batchSize = 1000;
+
+    @Value("${tasks.invalidation-log.gap-timeout:PT30S}")
+    Duration gapTimeout = Duration.ofSeconds(30);
+
+    @Value("${tasks.invalidation-log.retention:PT10M}")
+    Duration retention = Duration.ofMinutes(10);
+
+    private final Object pendingKey = new Object();
+    private final ThreadLocal<Boolean> applying = ThreadLocal.withInitial(() -> false);
+    private final Thread poller = new Thread(this::run, "task-invalidation-log");
+    private volatile boolean running;
+
+    // Written by the poller thread only; read under the lock by stats().
+    private final Object statsLock = new Object();
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+    private final double[] recentLags = new double[RECENT_LAGS];
+    private long recentLagCount;
+    private double maxLag;
+    private long lastSequence;
+    private long applied;
+    private LocalDateTime lastPollAt;
+    private long lastTrimNanos = System.nanoTime();
+
+    @PostConstruct
+    public void start() {
+        // Starts from the end of the log: anything before it is already in the tasks the caches load at startup.
+        Long maxId = jdbcTemplate.queryForObject(SELECT_MAX_ID, Long.class);
+        lastSequence = maxId == null ? 0 : maxId;
+        running = true;
+        poller.setDaemon(true);
+        poller.start();
+    }
+
+    // Not interrupted: an interrupt mid-statement can close the database's file channel.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        poller.join();
+    }
+
+    // Appends in the changing transaction, all of its changes in one batch just before it commits, so an entry is
+    // visible exactly when its change is. Changes this node republishes from the log are not appended again.
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (applying.get()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(List.of(event));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<TaskChangedEvent> pending = (List<TaskChangedEvent>) TransactionSynchronizationManager.getResource(pendingKey);
+        if (pending == null) {
+            List<TaskChangedEvent> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(pendingKey, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    append(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(event);
+    }
+
+    public TaskInvalidationStats stats() {
+        synchronized (statsLock) {
+            double[] lags = Arrays.copyOf(recentLags, (int) Math.min(recentLagCount, RECENT_LAGS));
+            Arrays.sort(lags);
+            return new TaskInvalidationStats(
+                    nodeId,
+                    lastSequence,
+                    applied,
+                    gaps.size(),
+                    lastPollAt,
+                    pollInterval.toMillis(),
+                    percentile(lags, 50),
+                    percentile(lags, 99),
+                    lags.length == 0 ? 0 : lags[lags.length - 1],
+                    maxLag);
+        }
+    }
+
+    private void append(List<TaskChangedEvent> changes) {
+        jdbcTemplate.batchUpdate(INSERT, changes, changes.size(), (statement, change) -> {
+            statement.setLong(1, change.taskId());
+            statement.setString(2, change.type().name());
+            statement.setString(3, nodeId);
+        });
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                while (poll() == batchSize) {
+                    // A full batch: more entries are likely waiting, so read on without pausing.
+                }
+                trim();
+            } catch (RuntimeException e) {
+                log.warn("Could not read the task invalidation log, retrying", e);
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(pollInterval.toNanos());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    // Returns how many entries past the last sequence were read.
+    int poll() {
+        List<Entry> entries = new ArrayList<>(jdbcTemplate.query(SELECT_AFTER, ENTRY_MAPPER, lastSequence, batchSize));
+        int read = entries.size();
+        List<Long> gapIds;
+        synchronized (statsLock) {
+            gapIds = List.copyOf(gaps.keySet());
+        }
+        if (!gapIds.isEmpty()) {
+            String placeholders = String.join(", ", Collections.nCopies(gapIds.size(), "?"));
+            entries.addAll(jdbcTemplate.query(SELECT_COLUMNS + " where id in (" + placeholders + ")", ENTRY_MAPPER, gapIds.toArray()));
+            entries.sort(Comparator.comparingLong(Entry::id));
+        }
+
+        List<Entry> remote = new ArrayList<>();
+        synchronized (statsLock) {
+            for (Entry entry : entries) {
+                if (entry.id() > lastSequence) {
+                    addGaps(lastSequence + 1, entry.id());
+                    lastSequence = entry.id();
+                } else {
+                    gaps.remove(entry.id());
+                }
+                if (!nodeId.equals(entry.origin())) {
+                    remote.add(entry);
+                }
+            }
+            expireGaps();
+            lastPollAt = LocalDateTime.now();
+        }
+
+        if (!remote.isEmpty()) {
+            apply(remote);
+        }
+        return read;
+    }
+
+    private void apply(List<Entry> remote) {
+        // Only the latest entry per task matters, as the task is reloaded as it is now.
+        Map<Long, Entry> latest = new LinkedHashMap<>();
+        for (Entry entry : remote) {
+            latest.remove(entry.taskId());
+            latest.put(entry.taskId(), entry);
+        }
+        Map<Long, Task> live = load(latest.values(), List.of(TaskChangedEvent.Type.CREATED, TaskChangedEvent.Type.UPDATED),
+                ids -> taskRepository.findAllById(ids));
+        Map<Long, Task> archived = load(latest.values(), List.of(TaskChangedEvent.Type.ARCHIVED),
+                ids -> toTasks(archivedTaskRepository.findAllById(ids)));
+
+        applying.set(true);
+        try {
+            for (Entry entry : latest.values()) {
+                Task task = switch (entry.type()) {
+                    case DELETED -> Task.builder().id(entry.taskId()).build();
+                    case ARCHIVED -> archived.get(entry.taskId());
+                    default -> live.get(entry.taskId());
+                };
+                // Gone since: a later entry for the task, still to be read, covers what happened to it.
+                if (task != null) {
+                    eventPublisher.publishEvent(new TaskChangedEvent(entry.type(), task));
+                }
+            }
+        } finally {
+            applying.remove();
+        }
+
+        synchronized (statsLock) {
+            for (Entry entry : remote) {
+                double lag = Math.max(0, Duration.between(entry.loggedAt(), entry.polledAt()).toNanos() / 1_000_000.0);
+                recentLags[(int) (recentLagCount++ % RECENT_LAGS)] = lag;
+                maxLag = Math.max(maxLag, lag);
+            }
+            applied += remote.size();
+        }
+    }
+
+    private static Map<Long, Task> load(Iterable<Entry> entries, List<TaskChangedEvent.Type> types, Function<List<Long>, Iterable<Task>> finder) {
+        List<Long> ids = new ArrayList<>();
+        entries.forEach(entry -> {
+            if (types.contains(entry.type())) {
+                ids.add(entry.taskId());
+            }
+        });
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Task> tasks = new LinkedHashMap<>();
+        finder.apply(ids).forEach(task -> tasks.put(task.getId(), task));
+        return tasks;
+    }
+
+    private static List<Task> toTasks(Iterable<ArchivedTask> archivedTasks) {
+        List<Task> tasks = new ArrayList<>();
+        archivedTasks.forEach(archived -> tasks.add(archived.toTask()));
+        return tasks;
+    }
+
+    private void addGaps(long fromId, long toId) {
+        long now = System.nanoTime();
+        for (long id = Math.max(fromId, toId - MAX_GAPS); id < toId; id++) {
+            gaps.put(id, now);
+        }
+        Iterator<Long> oldest = gaps.keySet().iterator();
+        while (gaps.size() > MAX_GAPS) {
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    private void expireGaps() {
+        long now = System.nanoTime();
+        gaps.values().removeIf(seenAt -> now - seenAt > gapTimeout.toNanos());
+    }
+
+    private void trim() {
+        if (System.nanoTime() - lastTrimNanos < Math.min(retention.toNanos(), TimeUnit.MINUTES.toNanos(1))) {
+            return;
+        }
+        lastTrimNanos = System.nanoTime();
+        int deleted = jdbcTemplate.update(DELETE_BEFORE, LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.debug("Trimmed {} task invalidation log entries", deleted);
+        }
+    }
+
+    private static double percentile(double[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
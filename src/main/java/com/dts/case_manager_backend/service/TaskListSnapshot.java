@@ -0,0 +1,13 @@
+package com.dts.case_manager_backend.service;
+
+// The ETag is derived from the content so it stays valid across restarts and instances.
+public record TaskListSnapshot(long version, String contentHash, byte[] identity, byte[] gzip) {
+
+    public String identityETag() {
+        return "\"" + contentHash + "\"";
+    }
+
+    public String gzipETag() {
+        return "\"" + contentHash + "-gzip\"";
+    }
+}
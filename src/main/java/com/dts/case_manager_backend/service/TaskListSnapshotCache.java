@@ -0,0 +1,93 @@
+package com.dts.case_manager_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+// Holds the unfiltered task list pre-serialized as JSON, both plain and gzipped. Mutations only bump the
+// requested version, marking the snapshot stale; the next read rebuilds it once, however many mutations landed in
+// between, and concurrent readers wait for that one rebuild. Rebuilds call TaskServiceImpl directly rather than
+// through the bulk bulkhead, as the read would otherwise run retrieveAllTasks itself.
+@Slf4j
+@Component
+public class TaskListSnapshotCache {
+    @Autowired
+    TaskServiceImpl taskService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private final AtomicReference<TaskListSnapshot> published = new AtomicReference<>();
+    private final AtomicLong requestedVersion = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // The snapshot of the current task list, rebuilt first if it is stale; null if it cannot be rebuilt.
+    public TaskListSnapshot current() {
+        TaskListSnapshot snapshot = published.get();
+        if (snapshot != null && snapshot.version() == requestedVersion.get()) {
+            return snapshot;
+        }
+
+        rebuildLock.lock();
+        try {
+            snapshot = published.get();
+            long version = requestedVersion.get();
+            return snapshot != null && snapshot.version() == version ? snapshot : rebuild(version);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // The last snapshot built, stale or not, for when the database cannot be read.
+    public TaskListSnapshot lastPublished() {
+        return published.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        current();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        requestedVersion.incrementAndGet();
+    }
+
+    // The version is read before the tasks, so a mutation landing mid-rebuild leaves the new snapshot stale.
+    private TaskListSnapshot rebuild(long version) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(taskService.retrieveAllTasks());
+            // A collision would answer 304 for a changed list, so the hash has to be a cryptographic one.
+            String contentHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(identity));
+
+            TaskListSnapshot snapshot = new TaskListSnapshot(version, contentHash, identity, gzip(identity));
+            published.set(snapshot);
+            return snapshot;
+        } catch (RuntimeException | IOException | NoSuchAlgorithmException e) {
+            log.warn("Could not rebuild task list snapshot version {}", version, e);
+            return null;
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,100 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.TaskPurgeStats;
+import com.dts.case_manager_backend.repository.TaskTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Physically removes tombstoned tasks and their descriptions, oldest deletes first, in small batches of one
+// transaction each. Batches are paced to at most max-rows-per-second so a large backlog drains steadily instead
+// of competing with request traffic for locks and index maintenance.
+@Slf4j
+@Service
+@Profile("!memory")
+@ConditionalOnProperty(name = "tasks.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskPurger {
+    @Autowired
+    TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Value("${tasks.purge.batch-size:100}")
+    int batchSize = 100;
+
+    @Value("${tasks.purge.max-rows-per-second:1000}")
+    int maxRowsPerSecond = 1000;
+
+    private final AtomicLong purged = new AtomicLong();
+    private volatile LocalDateTime lastRunAt;
+    private volatile long lastRunPurged;
+    private volatile long lastRunMillis;
+
+    @Scheduled(fixedDelayString = "${tasks.purge.interval:PT10S}")
+    public long purgeTombstones() {
+        long started = System.nanoTime();
+        long runPurged = 0;
+        int deleted;
+        long batchStarted;
+        do {
+            batchStarted = System.nanoTime();
+            Integer batch = transactionTemplate.execute(transactionStatus -> purgeBatch());
+            deleted = batch == null ? 0 : batch;
+            runPurged += deleted;
+            purged.addAndGet(deleted);
+        } while (deleted == batchSize && paced(batchStarted, deleted));
+
+        lastRunAt = LocalDateTime.now();
+        lastRunPurged = runPurged;
+        lastRunMillis = (System.nanoTime() - started) / 1_000_000;
+        if (runPurged > 0) {
+            log.info("Purged {} deleted tasks in {} ms", runPurged, lastRunMillis);
+        }
+        return runPurged;
+    }
+
+    public TaskPurgeStats stats() {
+        return new TaskPurgeStats(
+                taskTombstoneRepository.countTombstoned(),
+                taskTombstoneRepository.findOldestDeletedDate().map(Timestamp::toLocalDateTime).orElse(null),
+                purged.get(),
+                lastRunAt,
+                lastRunPurged,
+                lastRunMillis,
+                batchSize,
+                maxRowsPerSecond);
+    }
+
+    private int purgeBatch() {
+        List<Long> ids = taskTombstoneRepository.findTombstonedIds(batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        taskTombstoneRepository.deleteDescriptions(ids);
+        return taskTombstoneRepository.deleteTombstoned(ids);
+    }
+
+    // Waits out the rest of the batch's share of the rate; returns false if interrupted, ending the run.
+    private boolean paced(long batchStarted, int deleted) {
+        long remaining = deleted * 1_000_000_000L / maxRowsPerSecond - (System.nanoTime() - batchStarted);
+        try {
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, remaining));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.TaskStatusReport;
+import com.dts.case_manager_backend.model.TaskWeekReport;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TaskReportService {
+    List<TaskWeekReport> reportByWeek(String dateField, LocalDate from, LocalDate to);
+    List<TaskStatusReport> reportByStatus();
+}
@@ -0,0 +1,70 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.exception.InvalidDTOException;
+import com.dts.case_manager_backend.model.TaskStatusReport;
+import com.dts.case_manager_backend.model.TaskWeekReport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Reports are computed by TaskColumnarMirror, which only queries the task tables for tasks it cannot hold.
+@Service
+public class TaskReportServiceImpl implements TaskReportService {
+    private static final int MAX_WEEKS = 520;
+
+    @Autowired
+    TaskColumnarMirror taskColumnarMirror;
+
+    @Override
+    public List<TaskWeekReport> reportByWeek(String dateField, LocalDate from, LocalDate to) {
+        TaskColumnarMirror.DateColumn dateColumn = switch (dateField) {
+            case "dueDate" -> TaskColumnarMirror.DateColumn.DUE;
+            case "createdDate" -> TaskColumnarMirror.DateColumn.CREATED;
+            default -> throw new InvalidDTOException("Report cannot be produced because supplied date field is not valid.  Valid date fields are: [dueDate, createdDate]");
+        };
+
+        LocalDate firstWeek = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        long weeks = ChronoUnit.WEEKS.between(firstWeek, to) + 1;
+
+        if (to.isBefore(from) || weeks > MAX_WEEKS) {
+            throw new InvalidDTOException("Report cannot be produced because the supplied range must run forwards and span at most " + MAX_WEEKS + " weeks.");
+        }
+
+        List<String> statuses = taskColumnarMirror.statuses();
+        long[] counts = taskColumnarMirror.countByWeekAndStatus(dateColumn,
+                TaskColumnarMirror.week(firstWeek), (int) weeks, statuses.size());
+
+        List<TaskWeekReport> report = new ArrayList<>((int) weeks);
+        for (int week = 0; week < weeks; week++) {
+            Map<String, Long> countsByStatus = new LinkedHashMap<>();
+            for (int status = 0; status < statuses.size(); status++) {
+                countsByStatus.put(statuses.get(status), counts[week * statuses.size() + status]);
+            }
+            report.add(new TaskWeekReport(firstWeek.plusWeeks(week), countsByStatus));
+        }
+
+        return report;
+    }
+
+    @Override
+    public List<TaskStatusReport> reportByStatus() {
+        List<String> statuses = taskColumnarMirror.statuses();
+        long[][] counts = taskColumnarMirror.countByStatusAndOverdue(TaskColumnarMirror.epochSeconds(LocalDateTime.now()), statuses.size());
+
+        List<TaskStatusReport> report = new ArrayList<>(statuses.size());
+        for (int status = 0; status < statuses.size(); status++) {
+            report.add(new TaskStatusReport(statuses.get(status), counts[0][status], counts[1][status]));
+        }
+
+        return report;
+    }
+}
@@ -2,14 +2,29 @@ package com.dts.case_manager_backend.service;
 
 import com.dts.case_manager_backend.model.StatusDTO;
 import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskCalendarDay;
 import com.dts.case_manager_backend.model.TaskDTO;
+import com.dts.case_manager_backend.model.TaskFieldsLookupResult;
+import com.dts.case_manager_backend.model.TaskLookupResult;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 public interface TaskService {
     Task createTask(TaskDTO taskDTO);
     Task retrieveTaskById(Long id);
+    Map<String, Object> retrieveTaskById(Long id, List<String> fields);
+    String retrieveTaskDescription(Long id);
     List<Task> retrieveAllTasks();
+    List<Map<String, Object>> retrieveAllTasks(List<String> fields);
+    List<Task> retrieveAllTasksIncludingArchived();
+    List<Map<String, Object>> retrieveAllTasksIncludingArchived(List<String> fields);
+    TaskLookupResult retrieveTasksByIds(List<Long> ids);
+    TaskFieldsLookupResult retrieveTasksByIds(List<Long> ids, List<String> fields);
+    List<TaskCalendarDay> retrieveCalendar(LocalDate from, LocalDate to);
     Task updateTaskStatus(Long id, StatusDTO statusDTO);
     void deleteTask(Long id);
+    void validateTaskDTO(TaskDTO taskDTO);
+    Task taskDTOToTask(TaskDTO taskDTO);
 }
@@ -2,79 +2,308 @@ package com.dts.case_manager_backend.service;
 
 import com.dts.case_manager_backend.exception.InvalidDTOException;
 import com.dts.case_manager_backend.exception.TaskNotFoundException;
+import com.dts.case_manager_backend.model.ArchivedTask;
 import com.dts.case_manager_backend.model.StatusDTO;
 import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskCalendarDay;
+import com.dts.case_manager_backend.model.TaskDescription;
 import com.dts.case_manager_backend.model.TaskDTO;
+import com.dts.case_manager_backend.model.TaskFieldsLookupResult;
+import com.dts.case_manager_backend.model.TaskLookupResult;
+import com.dts.case_manager_backend.repository.ArchivedTaskRepository;
+import com.dts.case_manager_backend.repository.TaskDescriptionRepository;
 import com.dts.case_manager_backend.repository.TaskRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 public class TaskServiceImpl implements TaskService {
     @Autowired
     TaskRepository taskRepository;
 
+    @Autowired
+    TaskDescriptionRepository taskDescriptionRepository;
+
+    @Autowired
+    ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired(required = false)
+    TaskDueDateIndex taskDueDateIndex;
+
+    @Autowired(required = false)
+    TaskStatusHistoryWriter taskStatusHistoryWriter;
+
+    @Autowired(required = false)
+    TaskStatusGroupCommitter taskStatusGroupCommitter;
+
+    private static final int MAX_CALENDAR_DAYS = 366;
+    private static final int MAX_LOOKUP_IDS = 1000;
+    private static final int LOOKUP_CHUNK_SIZE = 500;
+    private static final String CLIENT_ID_HEADER = "X-Client-Id";
+    private static final String UNKNOWN_ACTOR = "unknown";
+
     private List<String> validStatuses = List.of("Not yet started", "In progress", "Complete");
 
+    private List<String> validFields = List.of("id", "title", "description", "status", "createdDate", "dueDate");
+
     @Override
+    @Transactional
     public Task createTask(TaskDTO taskDTO) {
 
-        if (containsNullFields(taskDTO)) {
-            throw new InvalidDTOException("Task could not be created because a mandatory field was not supplied.");
-        }
+        validateTaskDTO(taskDTO);
 
-        if (containsEmptyFields(taskDTO)) {
-            throw new InvalidDTOException("Task could not be created because mandatory fields cannot be empty.");
-        }
+        Task taskToCreate = taskDTOToTask(taskDTO);
+        String description = taskToCreate.getDescription();
 
-        if (!isValidStatus(taskDTO.status())) {
-            throw new InvalidDTOException("Task cannot be updated because supplied status is not valid.  Valid statuses are: ".concat(validStatuses.toString()));
+        Task createdTask = taskRepository.save(taskToCreate);
+        if (!description.isEmpty()) {
+            taskDescriptionRepository.save(TaskDescription.of(createdTask.getId(), description));
         }
+        createdTask.setDescription(description);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.CREATED, createdTask));
 
-        return taskRepository.save(taskDTOToTask(taskDTO));
+        return createdTask;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Task retrieveTaskById(Long id) {
-        return taskRepository.findById(id).orElseThrow( () -> new TaskNotFoundException("Task cannot be retrieved because no task could be found with the supplied id"));
+        Task task = taskRepository.findById(id)
+                .or(() -> archivedTaskRepository.findById(id).map(ArchivedTask::toTask))
+                .orElseThrow( () -> new TaskNotFoundException("Task cannot be retrieved because no task could be found with the supplied id"));
+        task.setDescription(loadDescription(id));
+
+        return task;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String retrieveTaskDescription(Long id) {
+        if (!taskRepository.existsById(id) && !archivedTaskRepository.existsById(id)) {
+            throw new TaskNotFoundException("Task description cannot be retrieved because no task could be found with the supplied id");
+        }
+
+        return loadDescription(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> retrieveTaskById(Long id, List<String> fields) {
+        List<String> requestedFields = validatedFields(fields);
+
+        return taskRepository.findFieldsById(id, requestedFields)
+                .or(() -> archivedTaskRepository.findById(id).map(archived -> fieldsOf(archived.toTask(), requestedFields, loadDescription(id))))
+                .orElseThrow( () -> new TaskNotFoundException("Task cannot be retrieved because no task could be found with the supplied id"));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Task> retrieveAllTasks() {
 
         List<Task> tasks = new ArrayList<>();
         taskRepository.findAll().forEach(tasks::add);
+        setDescriptions(tasks);
 
         return tasks;
     }
 
     @Override
-    public Task updateTaskStatus(Long id, StatusDTO statusDTO) {
-        Task taskToUpdate = taskRepository.findById(id).orElseThrow(() -> new TaskNotFoundException("Task cannot be updated because no task could be found with the supplied id"));
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> retrieveAllTasks(List<String> fields) {
+        return taskRepository.findAllFields(validatedFields(fields));
+    }
 
-        String status = statusDTO.status();
+    @Override
+    @Transactional(readOnly = true)
+    public List<Task> retrieveAllTasksIncludingArchived() {
+        List<Task> tasks = retrieveAllTasks();
+        List<Task> archived = new ArrayList<>();
+        archivedTaskRepository.findAll().forEach(archivedTask -> archived.add(archivedTask.toTask()));
+        setDescriptions(archived);
+        tasks.addAll(archived);
+        tasks.sort(Comparator.comparing(Task::getId));
 
-        if (!isValidStatus(status)) {
-            throw new InvalidDTOException("Task cannot be updated because supplied status is not valid.  Valid statuses are: ".concat(validStatuses.toString()));
+        return tasks;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> retrieveAllTasksIncludingArchived(List<String> fields) {
+        List<String> requestedFields = validatedFields(fields);
+        List<Map<String, Object>> tasks = new ArrayList<>(taskRepository.findAllFields(requestedFields));
+
+        List<Task> archived = new ArrayList<>();
+        archivedTaskRepository.findAll().forEach(archivedTask -> archived.add(archivedTask.toTask()));
+        Map<Long, String> descriptions = requestedFields.contains("description")
+                ? loadDescriptions(archived.stream().map(Task::getId).toList())
+                : Map.of();
+        for (Task task : archived) {
+            tasks.add(fieldsOf(task, requestedFields, descriptions.getOrDefault(task.getId(), "")));
+        }
+
+        return tasks;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskLookupResult retrieveTasksByIds(List<Long> ids) {
+        return lookupTasksByIds(ids, true);
+    }
+
+    // task_descriptions is only read when description is among the fields.
+    @Override
+    @Transactional(readOnly = true)
+    public TaskFieldsLookupResult retrieveTasksByIds(List<Long> ids, List<String> fields) {
+        List<String> requestedFields = validatedFields(fields);
+        TaskLookupResult found = lookupTasksByIds(ids, requestedFields.contains("description"));
+
+        return new TaskFieldsLookupResult(
+                found.tasks().stream().map(task -> fieldsOf(task, requestedFields, task.getDescription())).toList(),
+                found.missingIds());
+    }
+
+    private TaskLookupResult lookupTasksByIds(List<Long> ids, boolean withDescriptions) {
+        List<Long> requestedIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+
+        if (requestedIds.isEmpty() || requestedIds.size() > MAX_LOOKUP_IDS) {
+            throw new InvalidDTOException("Tasks cannot be retrieved because between 1 and " + MAX_LOOKUP_IDS + " ids must be supplied.");
+        }
+
+        Map<Long, Task> found = new HashMap<>();
+        List<Long> uncached = new ArrayList<>();
+        for (Long id : requestedIds) {
+            Optional<Task> cached = taskDueDateIndex != null && taskDueDateIndex.isReady() ? taskDueDateIndex.findById(id) : Optional.empty();
+            cached.ifPresentOrElse(task -> found.put(id, task), () -> uncached.add(id));
         }
+        for (List<Long> chunk : chunks(uncached)) {
+            taskRepository.findAllById(chunk).forEach(task -> found.put(task.getId(), task));
+        }
+        for (List<Long> chunk : chunks(uncached.stream().filter(id -> !found.containsKey(id)).toList())) {
+            archivedTaskRepository.findAllById(chunk).forEach(archived -> found.put(archived.getId(), archived.toTask()));
+        }
+
+        List<Long> foundIds = requestedIds.stream().filter(found::containsKey).toList();
+        Map<Long, String> descriptions = withDescriptions ? loadDescriptions(foundIds) : Map.of();
+
+        List<Task> tasks = new ArrayList<>(foundIds.size());
+        for (Long id : foundIds) {
+            Task task = found.get(id);
+            if (withDescriptions) {
+                task.setDescription(descriptions.getOrDefault(id, ""));
+            }
+            tasks.add(task);
+        }
+
+        return new TaskLookupResult(tasks, requestedIds.stream().filter(id -> !found.containsKey(id)).toList());
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskCalendarDay> retrieveCalendar(LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_CALENDAR_DAYS) {
+            throw new InvalidDTOException("Calendar cannot be retrieved because the supplied range must run forwards and span at most " + MAX_CALENDAR_DAYS + " days.");
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        List<Task> tasks = taskDueDateIndex != null && taskDueDateIndex.isReady()
+                ? taskDueDateIndex.findDueBetween(start, end)
+                : taskRepository.findAllDueBetween(start, end);
+        setDescriptions(tasks);
+
+        Map<LocalDate, List<Task>> tasksByDay = new LinkedHashMap<>();
+        tasks.forEach(task -> tasksByDay.computeIfAbsent(task.getDueDate().toLocalDate(), day -> new ArrayList<>()).add(task));
+
+        return tasksByDay.entrySet().stream().map(day -> new TaskCalendarDay(day.getKey(), day.getValue())).toList();
+    }
+
+    // Commits inside, so that a synchronous status history wait comes after the commit and can fail the request.
+    @Override
+    public Task updateTaskStatus(Long id, StatusDTO statusDTO) {
+        String status = statusDTO.status();
+        checkStatusUpdate(status);
+
+        return withStatusHistory(reservation -> transactionTemplate.execute(transactionStatus -> applyStatusUpdate(id, status, reservation)));
+    }
+
+    private Task applyStatusUpdate(Long id, String status, TaskStatusHistoryWriter.Reservation reservation) {
+        // Updating an archived task brings it back into the tasks table; the archiver moves it again once it qualifies.
+        Task taskToUpdate = taskRepository.findById(id)
+                .or(() -> restoreFromArchive(id))
+                .orElseThrow(() -> new TaskNotFoundException("Task cannot be updated because no task could be found with the supplied id"));
+
+        String previousStatus = taskToUpdate.getStatus();
         taskToUpdate.setStatus(status);
 
-        return taskRepository.save(taskToUpdate);
+        Task updatedTask = taskRepository.save(taskToUpdate);
+        updatedTask.setDescription(loadDescription(id));
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, updatedTask));
+        eventPublisher.publishEvent(new TaskStatusChangedEvent(id, previousStatus, status, requestActor(), LocalDateTime.now(), reservation));
+
+        return updatedTask;
+    }
+
+    // updateTaskStatus through TaskStatusGroupCommitter, which applies it together with concurrent updates in one
+    // transaction. Not transactional itself: the caller holds no connection while it waits for the batch to commit.
+    public Task updateTaskStatusGroupCommitted(Long id, StatusDTO statusDTO) {
+        String status = statusDTO.status();
+        checkStatusUpdate(status);
+
+        return withStatusHistory(reservation -> taskStatusGroupCommitter.updateStatus(id, status, requestActor(), reservation));
     }
 
     @Override
+    @Transactional
     public void deleteTask(Long id) {
-        if (taskRepository.findById(id).isEmpty()) {
-            throw new TaskNotFoundException("Task could not be deleted because no task could be found with the supplied id");
+        // Live tasks are only tombstoned here; TaskPurger removes their rows and descriptions in the background.
+        if (taskRepository.markDeleted(id, LocalDateTime.now()) == 0) {
+            archivedTaskRepository.findById(id).orElseThrow(() -> new TaskNotFoundException("Task could not be deleted because no task could be found with the supplied id"));
+            taskDescriptionRepository.deleteById(id);
+            archivedTaskRepository.deleteById(id);
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.DELETED, Task.builder().id(id).build()));
+    }
+
+    @Override
+    public void validateTaskDTO(TaskDTO taskDTO) {
+        if (containsNullFields(taskDTO)) {
+            throw new InvalidDTOException("Task could not be created because a mandatory field was not supplied.");
+        }
+
+        if (containsEmptyFields(taskDTO)) {
+            throw new InvalidDTOException("Task could not be created because mandatory fields cannot be empty.");
+        }
+
+        if (!isValidStatus(taskDTO.status())) {
+            throw new InvalidDTOException("Task cannot be updated because supplied status is not valid.  Valid statuses are: ".concat(validStatuses.toString()));
         }
-        taskRepository.deleteById(id);
     }
 
+    @Override
     public Task taskDTOToTask(TaskDTO taskDTO) {
         return Task.builder()
                 .title(taskDTO.title())
@@ -85,6 +314,74 @@ public class TaskServiceImpl implements TaskService {
                 .build();
     }
 
+    private String loadDescription(Long id) {
+        return taskDescriptionRepository.findById(id).map(TaskDescription::text).orElse("");
+    }
+
+    private void setDescriptions(List<Task> tasks) {
+        Map<Long, String> descriptions = loadDescriptions(tasks.stream().map(Task::getId).toList());
+        tasks.forEach(task -> task.setDescription(descriptions.getOrDefault(task.getId(), "")));
+    }
+
+    private Map<Long, String> loadDescriptions(List<Long> ids) {
+        Map<Long, String> descriptions = new HashMap<>();
+        for (List<Long> chunk : chunks(ids)) {
+            taskDescriptionRepository.findAllById(chunk).forEach(description -> descriptions.put(description.getTaskId(), description.text()));
+        }
+        return descriptions;
+    }
+
+    private void checkStatusUpdate(String status) {
+        if (!isValidStatus(status)) {
+            throw new InvalidDTOException("Task cannot be updated because supplied status is not valid.  Valid statuses are: ".concat(validStatuses.toString()));
+        }
+    }
+
+    private Task withStatusHistory(Function<TaskStatusHistoryWriter.Reservation, Task> change) {
+        return taskStatusHistoryWriter == null ? change.apply(null) : taskStatusHistoryWriter.withReservation(change);
+    }
+
+    private Optional<Task> restoreFromArchive(Long id) {
+        if (archivedTaskRepository.copyToTasks(id) == 0) {
+            return Optional.empty();
+        }
+        archivedTaskRepository.deleteById(id);
+        return taskRepository.findById(id);
+    }
+
+    // The calling client as identified for rate limiting, falling back to its address.
+    private static String requestActor() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            String clientId = attributes.getRequest().getHeader(CLIENT_ID_HEADER);
+            return clientId == null || clientId.isBlank() ? attributes.getRequest().getRemoteAddr() : clientId;
+        }
+        return UNKNOWN_ACTOR;
+    }
+
+    private static Map<String, Object> fieldsOf(Task task, List<String> fields, String description) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            values.put(field, switch (field) {
+                case "id" -> task.getId();
+                case "title" -> task.getTitle();
+                case "description" -> description;
+                case "status" -> task.getStatus();
+                case "createdDate" -> task.getCreatedDate();
+                case "dueDate" -> task.getDueDate();
+                default -> throw new IllegalArgumentException("Unknown task field " + field);
+            });
+        }
+        return values;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
     private boolean containsNullFields(TaskDTO taskDTO) {
         try {
             return taskDTO.title() == null ||
@@ -101,6 +398,16 @@ public class TaskServiceImpl implements TaskService {
                 taskDTO.status().isEmpty();
     }
 
+    private List<String> validatedFields(List<String> fields) {
+        List<String> requestedFields = fields.stream().map(String::trim).filter(field -> !field.isEmpty()).distinct().toList();
+
+        if (requestedFields.isEmpty() || !validFields.containsAll(requestedFields)) {
+            throw new InvalidDTOException("Tasks cannot be retrieved because supplied fields are not valid.  Valid fields are: ".concat(validFields.toString()));
+        }
+
+        return requestedFields;
+    }
+
     private boolean isValidStatus(String status) {
         return validStatuses.contains(status);
     }
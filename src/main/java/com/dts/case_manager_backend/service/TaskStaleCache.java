@@ -0,0 +1,139 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.circuitbreaker.CircuitBreaker;
+import com.dts.case_manager_backend.exception.TaskNotFoundException;
+import com.dts.case_manager_backend.model.Task;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Last successfully read value of each recently requested task (least recently used evicted first) and of the
+// full task list, served while the database circuit breaker is open. Cached tasks follow TaskChangedEvents;
+// once the breaker closes again every cached entry is re-read in the background.
+@Slf4j
+@Component
+public class TaskStaleCache {
+    public record Cached<T>(T value, Instant asOf) {
+    }
+
+    @Autowired
+    TaskServiceImpl taskService;
+
+    @Autowired
+    CircuitBreaker taskDatabaseCircuitBreaker;
+
+    private final Map<Long, Cached<Task>> tasks;
+    private volatile Cached<List<Task>> allTasks;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-stale-cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TaskStaleCache(@Value("${tasks.circuit-breaker.stale-cache.max-tasks:10000}") int maxTasks) {
+        tasks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Cached<Task>> eldest) {
+                return size() > maxTasks;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void registerRecoveryListener() {
+        taskDatabaseCircuitBreaker.onRecovery(() -> refresher.execute(this::refresh));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    public void putTask(Task task) {
+        Cached<Task> cached = new Cached<>(copyOf(task, task.getDescription()), Instant.now());
+        synchronized (tasks) {
+            tasks.put(task.getId(), cached);
+        }
+    }
+
+    public Optional<Cached<Task>> findTask(Long id) {
+        Cached<Task> cached;
+        synchronized (tasks) {
+            cached = tasks.get(id);
+        }
+        return Optional.ofNullable(cached).map(entry -> new Cached<>(copyOf(entry.value(), entry.value().getDescription()), entry.asOf()));
+    }
+
+    public void putAllTasks(List<Task> all) {
+        allTasks = new Cached<>(List.copyOf(all), Instant.now());
+    }
+
+    public Optional<Cached<List<Task>>> findAllTasks() {
+        return Optional.ofNullable(allTasks);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Task task = event.task();
+        synchronized (tasks) {
+            if (event.type() == TaskChangedEvent.Type.DELETED) {
+                tasks.remove(task.getId());
+                return;
+            }
+            Cached<Task> previous = tasks.get(task.getId());
+            if (previous != null) {
+                // Events carry the description only on creation, so the cached one is kept otherwise.
+                String description = task.getDescription() != null ? task.getDescription() : previous.value().getDescription();
+                tasks.put(task.getId(), new Cached<>(copyOf(task, description), Instant.now()));
+            }
+        }
+    }
+
+    void refresh() {
+        List<Long> ids;
+        synchronized (tasks) {
+            ids = new ArrayList<>(tasks.keySet());
+        }
+        try {
+            for (Long id : ids) {
+                try {
+                    putTask(taskService.retrieveTaskById(id));
+                } catch (TaskNotFoundException e) {
+                    synchronized (tasks) {
+                        tasks.remove(id);
+                    }
+                }
+            }
+            if (allTasks != null) {
+                putAllTasks(taskService.retrieveAllTasks());
+            }
+            log.info("Refreshed {} cached tasks after the database recovered", ids.size());
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh cached tasks after the database recovered, keeping the previous values", e);
+        }
+    }
+
+    private static Task copyOf(Task task, String description) {
+        return Task.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(description)
+                .status(task.getStatus())
+                .createdDate(task.getCreatedDate())
+                .dueDate(task.getDueDate())
+                .build();
+    }
+}
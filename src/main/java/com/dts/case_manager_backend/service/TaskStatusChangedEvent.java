@@ -0,0 +1,14 @@
+package com.dts.case_manager_backend.service;
+
+import java.time.LocalDateTime;
+
+// Published by every status transition, in the transaction that makes it; recorded in the status history once
+// that transaction commits. fromStatus is null when the previous status is not known. reservation is the queue slot
+// TaskStatusHistoryWriter.withReservation() took for the change, or null when there is none.
+public record TaskStatusChangedEvent(Long taskId, String fromStatus, String toStatus, String actor, LocalDateTime changedAt,
+                                     TaskStatusHistoryWriter.Reservation reservation) {
+
+    public TaskStatusChangedEvent(Long taskId, String fromStatus, String toStatus, String actor, LocalDateTime changedAt) {
+        this(taskId, fromStatus, toStatus, actor, changedAt, null);
+    }
+}
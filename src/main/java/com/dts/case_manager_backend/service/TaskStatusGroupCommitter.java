@@ -0,0 +1,297 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.bulkhead.TaskBulkheads;
+import com.dts.case_manager_backend.deadline.RequestDeadline;
+import com.dts.case_manager_backend.exception.BulkheadFullException;
+import com.dts.case_manager_backend.exception.DeadlineExceededException;
+import com.dts.case_manager_backend.exception.TaskNotFoundException;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskGroupCommitStats;
+import com.dts.case_manager_backend.repository.ArchivedTaskRepository;
+import com.dts.case_manager_backend.repository.TaskDescriptionRepository;
+import com.dts.case_manager_backend.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Group commit for status updates: concurrent updates are queued and a single committer thread applies them in
+// batches, one transaction and one batched UPDATE per batch on the write bulkhead, so a burst of updates shares
+// commits instead of each paying for its own. A batch is whatever arrives within the window after its first
+// update, up to max-batch-size. Each batch holds at most one update per task; a second one waits for the next
+// batch, so every caller gets back the task exactly as its own update left it. A task that cannot be found fails
+// only its own caller, and if a batch fails as a whole its updates are retried one by one.
+@Slf4j
+@Component
+@Profile("!memory")
+@ConditionalOnProperty(name = "tasks.status-updates.group-commit.enabled", havingValue = "true")
+public class TaskStatusGroupCommitter {
+    private static final String UPDATE_STATUS = "update tasks set status = ? where id = ? and deleted_date is null";
+    private static final long POLL_MILLIS = 100;
+
+    private record Applied(Task task, String previousStatus) {
+    }
+
+    private record Pending(Long taskId, String status, String actor, TaskStatusHistoryWriter.Reservation reservation,
+                           CompletableFuture<Applied> applied) {
+    }
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    TaskDescriptionRepository taskDescriptionRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    TaskBulkheads taskBulkheads;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    private final Duration window;
+    private final int maxBatchSize;
+    private final BlockingQueue<Pending> queue;
+    private final Deque<Pending> deferred = new ArrayDeque<>();
+    private final Thread committer = new Thread(this::run, "task-status-group-commit");
+    private volatile boolean running;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder updates = new LongAdder();
+    private final AtomicInteger largestBatch = new AtomicInteger();
+
+    public TaskStatusGroupCommitter(@Value("${tasks.status-updates.group-commit.window:PT0.002S}") Duration window,
+                                    @Value("${tasks.status-updates.group-commit.max-batch-size:200}") int maxBatchSize,
+                                    @Value("${tasks.status-updates.group-commit.queue-capacity:2000}") int queueCapacity) {
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.committer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        committer.start();
+    }
+
+    // Not interrupted: an interrupt mid-statement can close the database's file channel.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        committer.join();
+    }
+
+    // Waits for the batch holding the update to commit, at most until the request deadline. An update abandoned at
+    // its deadline is dropped if no batch has taken it yet, and otherwise still commits. Its status history entry
+    // is published here, on the caller's thread with its reservation, or by the committer if the caller has stopped
+    // waiting, by which time the reservation has been given back.
+    public Task updateStatus(Long taskId, String status, String actor, TaskStatusHistoryWriter.Reservation reservation) {
+        Pending pending = new Pending(taskId, status, actor, reservation, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new BulkheadFullException("Request rejected because too many status updates are waiting to be committed.");
+        }
+        Applied applied;
+        try {
+            applied = pending.applied().get(Math.max(0, RequestDeadline.remainingNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (pending.applied().cancel(false)) {
+                throw new DeadlineExceededException("Request abandoned because its deadline passed waiting for a group commit.");
+            }
+            // Committed as the deadline passed, so the result is already there.
+            if (pending.applied().state() == Future.State.FAILED) {
+                throw rethrow(pending.applied().exceptionNow());
+            }
+            applied = pending.applied().resultNow();
+        } catch (InterruptedException e) {
+            pending.applied().cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a group commit", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+        publishStatusChanged(pending, applied);
+        return applied.task();
+    }
+
+    public TaskGroupCommitStats stats() {
+        long batchCount = batches.sum();
+        long updateCount = updates.sum();
+        return new TaskGroupCommitStats(batchCount, updateCount, batchCount == 0 ? 0 : (double) updateCount / batchCount,
+                largestBatch.get(), queue.size(), window.toNanos() / 1_000_000.0, maxBatchSize);
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty() || !deferred.isEmpty()) {
+            try {
+                List<Pending> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    commit(batch);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Status update group commit failed", e);
+            }
+        }
+    }
+
+    private List<Pending> nextBatch() throws InterruptedException {
+        List<Pending> batch = new ArrayList<>();
+        Set<Long> taskIds = new HashSet<>();
+        // Updates deferred from the previous batch go first, still one per task.
+        int carried = deferred.size();
+        for (int i = 0; i < carried; i++) {
+            add(deferred.poll(), batch, taskIds);
+        }
+        if (batch.isEmpty()) {
+            Pending first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return batch;
+            }
+            add(first, batch, taskIds);
+        }
+
+        long windowEnd = System.nanoTime() + window.toNanos();
+        while (batch.size() < maxBatchSize) {
+            Pending next = queue.poll(Math.max(0, windowEnd - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            add(next, batch, taskIds);
+        }
+        return batch;
+    }
+
+    private void add(Pending pending, List<Pending> batch, Set<Long> taskIds) {
+        if (pending.applied().isDone()) {
+            return;
+        }
+        if (!taskIds.add(pending.taskId())) {
+            deferred.add(pending);
+            return;
+        }
+        batch.add(pending);
+    }
+
+    private void commit(List<Pending> batch) {
+        Map<Pending, Applied> applied;
+        try {
+            applied = taskBulkheads.getWrite().call(() -> transactionTemplate.execute(transactionStatus -> apply(batch)));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).applied().completeExceptionally(e);
+                return;
+            }
+            log.warn("Group commit of {} status updates failed, retrying them one by one", batch.size(), e);
+            batch.forEach(pending -> commit(List.of(pending)));
+            return;
+        }
+
+        batches.increment();
+        updates.add(applied.size());
+        largestBatch.accumulateAndGet(batch.size(), Math::max);
+        for (Pending pending : batch) {
+            Applied result = applied.get(pending);
+            if (result == null) {
+                pending.applied().completeExceptionally(new TaskNotFoundException("Task cannot be updated because no task could be found with the supplied id"));
+            } else if (!pending.applied().complete(result)) {
+                publishStatusChanged(pending, result);
+            }
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        return failure instanceof RuntimeException runtimeException ? runtimeException : new IllegalStateException(failure);
+    }
+
+    private void publishStatusChanged(Pending pending, Applied applied) {
+        eventPublisher.publishEvent(new TaskStatusChangedEvent(pending.taskId(), applied.previousStatus(), pending.status(),
+                pending.actor(), LocalDateTime.now(), pending.reservation()));
+    }
+
+    private Map<Pending, Applied> apply(List<Pending> batch) {
+        Map<Long, Task> tasks = new HashMap<>();
+        taskRepository.findAllById(batch.stream().map(Pending::taskId).toList()).forEach(task -> tasks.put(task.getId(), task));
+        // Updating an archived task brings it back into the tasks table, as it does outside a group commit.
+        for (Pending pending : batch) {
+            if (!tasks.containsKey(pending.taskId()) && archivedTaskRepository.copyToTasks(pending.taskId()) > 0) {
+                archivedTaskRepository.deleteById(pending.taskId());
+                taskRepository.findById(pending.taskId()).ifPresent(task -> tasks.put(task.getId(), task));
+            }
+        }
+
+        List<Pending> loaded = batch.stream().filter(pending -> tasks.containsKey(pending.taskId())).toList();
+        int[][] rowCounts = jdbcTemplate.batchUpdate(UPDATE_STATUS, loaded, loaded.size(), (statement, pending) -> {
+            statement.setString(1, pending.status());
+            statement.setLong(2, pending.taskId());
+        });
+        // A task deleted since it was loaded is left out of the UPDATE by its deleted_date check, and is not found.
+        List<Pending> found = new ArrayList<>(loaded.size());
+        int next = 0;
+        for (int[] chunk : rowCounts) {
+            for (int rowCount : chunk) {
+                if (rowCount != 0) {
+                    found.add(loaded.get(next));
+                }
+                next++;
+            }
+        }
+
+        Map<Long, String> descriptions = new HashMap<>();
+        taskDescriptionRepository.findAllById(found.stream().map(Pending::taskId).toList())
+                .forEach(description -> descriptions.put(description.getTaskId(), description.text()));
+
+        Map<Pending, Applied> applied = new HashMap<>();
+        for (Pending pending : found) {
+            Task previous = tasks.get(pending.taskId());
+            // A copy: the loaded entity is left untouched so that it is not flushed over the batched UPDATE.
+            Task updated = Task.builder()
+                    .id(previous.getId())
+                    .title(previous.getTitle())
+                    .description(descriptions.getOrDefault(pending.taskId(), ""))
+                    .status(pending.status())
+                    .createdDate(previous.getCreatedDate())
+                    .dueDate(previous.getDueDate())
+                    .build();
+            eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, updated));
+            applied.put(pending, new Applied(updated, previous.getStatus()));
+        }
+        return applied;
+    }
+}
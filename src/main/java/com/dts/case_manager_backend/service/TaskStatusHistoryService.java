@@ -0,0 +1,9 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.TaskStatusChange;
+
+import java.util.List;
+
+public interface TaskStatusHistoryService {
+    List<TaskStatusChange> retrieveStatusHistory(Long taskId);
+}
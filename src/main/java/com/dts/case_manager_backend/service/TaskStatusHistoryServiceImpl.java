@@ -0,0 +1,35 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.exception.TaskNotFoundException;
+import com.dts.case_manager_backend.model.TaskStatusChange;
+import com.dts.case_manager_backend.repository.ArchivedTaskRepository;
+import com.dts.case_manager_backend.repository.TaskRepository;
+import com.dts.case_manager_backend.repository.TaskStatusHistoryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class TaskStatusHistoryServiceImpl implements TaskStatusHistoryService {
+    @Autowired
+    TaskStatusHistoryRepository taskStatusHistoryRepository;
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    ArchivedTaskRepository archivedTaskRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskStatusChange> retrieveStatusHistory(Long taskId) {
+        List<TaskStatusChange> history = taskStatusHistoryRepository.findByTaskIdOrderByChangedAtAscIdAsc(taskId);
+        if (history.isEmpty() && !taskRepository.existsById(taskId) && !archivedTaskRepository.existsById(taskId)) {
+            throw new TaskNotFoundException("Task history cannot be retrieved because no task could be found with the supplied id");
+        }
+
+        return history;
+    }
+}
@@ -0,0 +1,259 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.deadline.RequestDeadline;
+import com.dts.case_manager_backend.exception.BulkheadFullException;
+import com.dts.case_manager_backend.exception.DeadlineExceededException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// Feeds task_status_history from committed TaskStatusChangedEvents without putting an insert on the status
+// update path: entries go into a bounded queue, and a single writer thread drains it in JDBC batches of up to
+// batch-size rows, one transaction per batch. Status changes run inside withReservation(), which takes a queue
+// slot before the change, so a full queue turns into 503s rather than lost entries. The change's event carries the
+// slot to the queue, where it stays taken until the entry is written; a slot no entry claimed is given back. With
+// GROUP_COMMITTED durability the update returns as soon as its entry is queued, so entries still queued are lost
+// on a crash. With SYNCHRONOUS durability withReservation() also waits, once the change has committed, for the
+// batch holding its entry; concurrent updates share that commit, and an update whose entry is not written within
+// its wait fails with 504 although its change stays committed. Only a change published without a reservation,
+// such as a group committed update whose caller stopped waiting, can still be dropped, after waiting
+// enqueue-timeout for a slot.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.status-history.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskStatusHistoryWriter {
+    public enum Durability { SYNCHRONOUS, GROUP_COMMITTED }
+
+    private static final String INSERT = "insert into task_status_history (task_id, actor, from_status, to_status, changed_at) values (?, ?, ?, ?, ?)";
+    private static final long POLL_MILLIS = 100;
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    // A queue slot taken for one status change, passed to its TaskStatusChangedEvent.
+    public static final class Reservation {
+        private static final int HELD = 0;
+        private static final int CLAIMED = 1;
+        private static final int RELEASED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(HELD);
+        private final CompletableFuture<Void> written = new CompletableFuture<>();
+
+        private Reservation() {
+        }
+
+        private static Reservation claimed() {
+            Reservation reservation = new Reservation();
+            reservation.state.set(CLAIMED);
+            return reservation;
+        }
+    }
+
+    private record Pending(TaskStatusChangedEvent change, CompletableFuture<Void> written) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Durability durability;
+    private final int batchSize;
+    private final Duration enqueueTimeout;
+    private final Duration syncTimeout;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Semaphore slots;
+    private final Thread writer;
+    private volatile boolean running;
+
+    public TaskStatusHistoryWriter(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${tasks.status-history.durability:group-committed}") Durability durability,
+                                   @Value("${tasks.status-history.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${tasks.status-history.batch-size:500}") int batchSize,
+                                   @Value("${tasks.status-history.enqueue-timeout:PT1S}") Duration enqueueTimeout,
+                                   @Value("${tasks.status-history.sync-timeout:PT5S}") Duration syncTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.durability = durability;
+        this.batchSize = batchSize;
+        this.enqueueTimeout = enqueueTimeout;
+        this.syncTimeout = syncTimeout;
+        this.slots = new Semaphore(queueCapacity);
+        this.writer = new Thread(this::run, "task-status-history-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer.start();
+    }
+
+    // Not interrupted: an interrupt mid-statement can close the database's file channel.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join();
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    // Runs a status change with a queue slot reserved for it, throwing BulkheadFullException before the change if
+    // there is none. The change passes the reservation to its TaskStatusChangedEvent and should commit inside, so
+    // that a SYNCHRONOUS wait follows the commit and its failure reaches the caller. Inside a transaction of the
+    // caller's there is nothing committed to wait for yet, and an unclaimed slot is given back when it completes.
+    public <T> T withReservation(Function<Reservation, T> change) {
+        if (!slots.tryAcquire()) {
+            throw new BulkheadFullException("Request rejected because the status history queue is full.");
+        }
+        Reservation reservation = new Reservation();
+        try {
+            T result = change.apply(reservation);
+            if (durability == Durability.SYNCHRONOUS && !TransactionSynchronizationManager.isSynchronizationActive()
+                    && reservation.state.get() == Reservation.CLAIMED) {
+                awaitWritten(reservation);
+            }
+            return result;
+        } finally {
+            releaseWhenDone(reservation);
+        }
+    }
+
+    // Runs after the change commits. Only queues the entry: anything thrown here would not reach the caller.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(TaskStatusChangedEvent event) {
+        Reservation reservation = event.reservation();
+        if (reservation == null || !reservation.state.compareAndSet(Reservation.HELD, Reservation.CLAIMED)) {
+            reservation = Reservation.claimed();
+            if (!acquireUnreserved()) {
+                log.error("Status history queue stayed full, dropping unreserved {} -> {} of task {}", event.fromStatus(), event.toStatus(), event.taskId());
+                return;
+            }
+        }
+        queue.add(new Pending(event, reservation.written));
+    }
+
+    private boolean acquireUnreserved() {
+        try {
+            return slots.tryAcquire(enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void awaitWritten(Reservation reservation) {
+        try {
+            reservation.written.get(Math.max(0, Math.min(syncTimeout.toNanos(), RequestDeadline.remainingNanos())), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("Status was changed, but its history entry was not written within the wait. It stays queued.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a status history entry", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Status history writer failed", e.getCause());
+        }
+    }
+
+    // Within a caller's transaction the event listeners claim the slot on commit, so it is given back only after
+    // them: this synchronization is registered after theirs and ordered last.
+    private void releaseWhenDone(Reservation reservation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(reservation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                release(reservation);
+            }
+        });
+    }
+
+    private void release(Reservation reservation) {
+        if (reservation.state.compareAndSet(Reservation.HELD, Reservation.RELEASED)) {
+            slots.release();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            List<Pending> batch = new ArrayList<>(batchSize);
+            try {
+                Pending first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            writeUntilDone(batch);
+        }
+    }
+
+    // The history must not skip entries, so a failing batch is retried until it goes in or the writer is stopped.
+    private void writeUntilDone(List<Pending> batch) {
+        while (true) {
+            try {
+                write(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Could not write {} status history entries, retrying in {} ms", batch.size(), RETRY_DELAY_MILLIS, e);
+            }
+            try {
+                Thread.sleep(RETRY_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!running) {
+                // Handed back so stop() makes a last attempt at them.
+                batch.forEach(queue::offer);
+                return;
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        transactionTemplate.executeWithoutResult(transactionStatus ->
+                jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), (statement, pending) -> {
+                    TaskStatusChangedEvent change = pending.change();
+                    statement.setLong(1, change.taskId());
+                    statement.setString(2, change.actor());
+                    statement.setString(3, change.fromStatus());
+                    statement.setString(4, change.toStatus());
+                    statement.setTimestamp(5, Timestamp.valueOf(change.changedAt()));
+                }));
+        slots.release(batch.size());
+        batch.forEach(pending -> pending.written().complete(null));
+    }
+}
@@ -0,0 +1,159 @@
+package com.dts.case_manager_backend.service;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32;
+
+// Layout: magic, version, then one record per task, then an end marker, the record count and a CRC32 of
+// everything before the count. Descriptions are copied as stored in task_descriptions, so deflated ones stay deflated.
+// Version 2 ends each record with the archived date of a task in tasks_archive; version 1 files, which hold only
+// tasks, are still read.
+final class TaskTableSnapshotFormat {
+    private static final int MAGIC = 0x54534E50;
+    private static final short VERSION = 2;
+    private static final short TASKS_ONLY_VERSION = 1;
+    private static final byte ROW = 1;
+    private static final byte END = 0;
+    private static final int TRAILER_BYTES = Long.BYTES * 2;
+
+    private TaskTableSnapshotFormat() {
+    }
+
+    // archivedDate is null for a task in tasks.
+    record Row(long id, String title, String status, LocalDateTime createdDate, LocalDateTime dueDate,
+               boolean descriptionCompressed, byte[] description, LocalDateTime archivedDate) {
+    }
+
+    static final class Writer implements Closeable {
+        private final DataOutputStream out;
+        private final CRC32 crc = new CRC32();
+        private final ByteBuffer scratch = ByteBuffer.allocate(64);
+        private long count;
+
+        Writer(DataOutputStream out) throws IOException {
+            this.out = out;
+            scratch.putInt(MAGIC).putShort(VERSION);
+            flushScratch();
+        }
+
+        void write(Row row) throws IOException {
+            scratch.put(ROW).putLong(row.id());
+            flushScratch();
+            writeBytes(row.title().getBytes(StandardCharsets.UTF_8));
+            writeBytes(row.status().getBytes(StandardCharsets.UTF_8));
+            scratch.putLong(row.createdDate().toEpochSecond(ZoneOffset.UTC)).putInt(row.createdDate().getNano())
+                    .putLong(row.dueDate().toEpochSecond(ZoneOffset.UTC)).putInt(row.dueDate().getNano())
+                    .put((byte) (row.description() == null ? 0 : row.descriptionCompressed() ? 2 : 1));
+            flushScratch();
+            if (row.description() != null) {
+                writeBytes(row.description());
+            }
+            if (row.archivedDate() == null) {
+                scratch.put((byte) 0);
+            } else {
+                scratch.put((byte) 1).putLong(row.archivedDate().toEpochSecond(ZoneOffset.UTC)).putInt(row.archivedDate().getNano());
+            }
+            flushScratch();
+            count++;
+        }
+
+        void finish() throws IOException {
+            scratch.put(END);
+            flushScratch();
+            out.writeLong(count);
+            out.writeLong(crc.getValue());
+            out.flush();
+        }
+
+        long count() {
+            return count;
+        }
+
+        private void writeBytes(byte[] bytes) throws IOException {
+            scratch.putInt(bytes.length);
+            flushScratch();
+            out.write(bytes);
+            crc.update(bytes);
+        }
+
+        private void flushScratch() throws IOException {
+            scratch.flip();
+            out.write(scratch.array(), 0, scratch.limit());
+            crc.update(scratch.array(), 0, scratch.limit());
+            scratch.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    static final class Reader {
+        private final ByteBuffer buffer;
+        private final short version;
+        private final long count;
+
+        // The checksum is verified up front so a damaged file is rejected before any row is loaded.
+        Reader(ByteBuffer buffer) throws IOException {
+            if (buffer.limit() < Integer.BYTES + Short.BYTES + 1 + TRAILER_BYTES) {
+                throw new IOException("Task snapshot is truncated");
+            }
+            int bodyEnd = buffer.limit() - TRAILER_BYTES;
+            this.count = buffer.getLong(bodyEnd);
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate().position(0).limit(bodyEnd));
+            if (crc.getValue() != buffer.getLong(bodyEnd + Long.BYTES)) {
+                throw new IOException("Task snapshot checksum does not match");
+            }
+            this.version = buffer.getShort(Integer.BYTES);
+            if (buffer.getInt(0) != MAGIC || (version != VERSION && version != TASKS_ONLY_VERSION)) {
+                throw new IOException("Task snapshot has an unknown format");
+            }
+
+            this.buffer = buffer.duplicate().position(Integer.BYTES + Short.BYTES).limit(bodyEnd);
+        }
+
+        long count() {
+            return count;
+        }
+
+        Row next() {
+            if (buffer.get() == END) {
+                return null;
+            }
+
+            long id = buffer.getLong();
+            String title = readString();
+            String status = readString();
+            LocalDateTime createdDate = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            LocalDateTime dueDate = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            byte descriptionKind = buffer.get();
+            byte[] description = descriptionKind == 0 ? null : readBytes();
+            LocalDateTime archivedDate = version == TASKS_ONLY_VERSION || buffer.get() == 0
+                    ? null
+                    : LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+
+            return new Row(id, title, status, createdDate, dueDate, descriptionKind == 2, description, archivedDate);
+        }
+
+        private String readString() {
+            int length = buffer.getInt();
+            String value = StandardCharsets.UTF_8.decode(buffer.slice(buffer.position(), length)).toString();
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+
+        private byte[] readBytes() {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return bytes;
+        }
+    }
+}
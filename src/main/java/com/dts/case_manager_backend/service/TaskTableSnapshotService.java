@@ -0,0 +1,199 @@
+package com.dts.case_manager_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Warm start for the in-memory H2 profile: the tasks, tasks_archive and task_descriptions tables are periodically
+// dumped to a compact binary file (see TaskTableSnapshotFormat) and bulk-loaded back once the schema exists, before
+// the web server starts accepting requests.
+@Slf4j
+@Service
+@Profile("!memory")
+@ConditionalOnProperty(name = "tasks.snapshot.enabled", havingValue = "true")
+public class TaskTableSnapshotService implements SmartInitializingSingleton {
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final String SELECT_TASKS = """
+            select t.id, t.title, t.status, t.created_date, t.due_date, d.compressed, d.content, cast(null as timestamp) archived_date
+            from tasks t left join task_descriptions d on d.task_id = t.id
+            where t.deleted_date is null
+            union all
+            select a.id, a.title, a.status, a.created_date, a.due_date, d.compressed, d.content, a.archived_date
+            from tasks_archive a left join task_descriptions d on d.task_id = a.id
+            order by id""";
+    private static final String INSERT_TASK = "insert into tasks (id, title, status, created_date, due_date) values (?, ?, ?, ?, ?)";
+    private static final String INSERT_ARCHIVED_TASK = "insert into tasks_archive (id, title, status, created_date, due_date, archived_date) values (?, ?, ?, ?, ?, ?)";
+    private static final String MAX_ID = "select greatest(coalesce((select max(id) from tasks), 0), coalesce((select max(id) from tasks_archive), 0))";
+    private static final String INSERT_DESCRIPTION = "insert into task_descriptions (task_id, compressed, content) values (?, ?, ?)";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Value("${tasks.snapshot.path:data/tasks.snapshot}")
+    Path snapshotPath;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!Files.exists(snapshotPath)) {
+            log.info("No task snapshot at {}, starting empty", snapshotPath);
+            return;
+        }
+        if (jdbcTemplate.queryForObject("select (select count(*) from tasks) + (select count(*) from tasks_archive)", Long.class) > 0) {
+            log.info("Task tables are not empty, ignoring snapshot at {}", snapshotPath);
+            return;
+        }
+
+        long started = System.nanoTime();
+        long loaded;
+        try {
+            loaded = load();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not load task snapshot " + snapshotPath + ", move it aside to start empty", e);
+        }
+        log.info("Loaded {} tasks from {} in {} ms", loaded, snapshotPath, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.snapshot.interval:PT1M}", initialDelayString = "${tasks.snapshot.interval:PT1M}")
+    public void writeIfDirty() throws IOException {
+        if (dirty.getAndSet(false)) {
+            try {
+                write();
+            } catch (IOException | RuntimeException e) {
+                dirty.set(true);
+                throw e;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void writeOnShutdown() throws IOException {
+        writeIfDirty();
+    }
+
+    public synchronized long write() throws IOException {
+        long started = System.nanoTime();
+        Path directory = snapshotPath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, snapshotPath.getFileName().toString(), ".tmp");
+
+        long written;
+        try {
+            try (FileOutputStream file = new FileOutputStream(temporary.toFile());
+                 TaskTableSnapshotFormat.Writer writer = new TaskTableSnapshotFormat.Writer(new DataOutputStream(new BufferedOutputStream(file, 1 << 16)))) {
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SELECT_TASKS);
+                    statement.setFetchSize(LOAD_BATCH_SIZE);
+                    return statement;
+                }, resultSet -> {
+                    try {
+                        Timestamp archivedDate = resultSet.getTimestamp(8);
+                        writer.write(new TaskTableSnapshotFormat.Row(
+                                resultSet.getLong(1),
+                                resultSet.getString(2),
+                                resultSet.getString(3),
+                                resultSet.getTimestamp(4).toLocalDateTime(),
+                                resultSet.getTimestamp(5).toLocalDateTime(),
+                                resultSet.getBoolean(6),
+                                resultSet.getBytes(7),
+                                archivedDate == null ? null : archivedDate.toLocalDateTime()));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.finish();
+                written = writer.count();
+                file.getChannel().force(true);
+            }
+            // Readers only ever see a complete previous snapshot or a complete new one.
+            Files.move(temporary, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+
+        log.info("Wrote {} tasks to {} in {} ms", written, snapshotPath, (System.nanoTime() - started) / 1_000_000);
+        return written;
+    }
+
+    private long load() throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            TaskTableSnapshotFormat.Reader reader = new TaskTableSnapshotFormat.Reader(buffer);
+
+            List<TaskTableSnapshotFormat.Row> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+            TaskTableSnapshotFormat.Row row;
+            while ((row = reader.next()) != null) {
+                batch.add(row);
+                if (batch.size() == LOAD_BATCH_SIZE) {
+                    insert(batch);
+                    batch.clear();
+                }
+            }
+            insert(batch);
+
+            // Archived tasks keep their ids, so a new task must not reuse one of theirs either.
+            long maxId = jdbcTemplate.queryForObject(MAX_ID, Long.class);
+            jdbcTemplate.execute("alter table tasks alter column id restart with " + (maxId + 1));
+            return reader.count();
+        }
+    }
+
+    private void insert(List<TaskTableSnapshotFormat.Row> rows) {
+        List<TaskTableSnapshotFormat.Row> hot = rows.stream().filter(row -> row.archivedDate() == null).toList();
+        jdbcTemplate.batchUpdate(INSERT_TASK, hot, hot.size(), (statement, row) -> {
+            statement.setLong(1, row.id());
+            statement.setString(2, row.title());
+            statement.setString(3, row.status());
+            statement.setTimestamp(4, Timestamp.valueOf(row.createdDate()));
+            statement.setTimestamp(5, Timestamp.valueOf(row.dueDate()));
+        });
+
+        List<TaskTableSnapshotFormat.Row> archived = rows.stream().filter(row -> row.archivedDate() != null).toList();
+        jdbcTemplate.batchUpdate(INSERT_ARCHIVED_TASK, archived, archived.size(), (statement, row) -> {
+            statement.setLong(1, row.id());
+            statement.setString(2, row.title());
+            statement.setString(3, row.status());
+            statement.setTimestamp(4, Timestamp.valueOf(row.createdDate()));
+            statement.setTimestamp(5, Timestamp.valueOf(row.dueDate()));
+            statement.setTimestamp(6, Timestamp.valueOf(row.archivedDate()));
+        });
+
+        List<TaskTableSnapshotFormat.Row> described = rows.stream().filter(row -> row.description() != null).toList();
+        jdbcTemplate.batchUpdate(INSERT_DESCRIPTION, described, described.size(), (statement, row) -> {
+            statement.setLong(1, row.id());
+            statement.setBoolean(2, row.descriptionCompressed());
+            statement.setBytes(3, row.description());
+        });
+    }
+}
@@ -0,0 +1,121 @@
+package com.dts.case_manager_backend.bulkhead;
+
+import com.dts.case_manager_backend.deadline.RequestDeadline;
+import com.dts.case_manager_backend.exception.BulkheadFullException;
+import com.dts.case_manager_backend.exception.DeadlineExceededException;
+import com.dts.case_manager_backend.exception.TaskNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    private final Bulkhead bulkhead = new Bulkhead("test", 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.set(null);
+        bulkhead.shutdown();
+    }
+
+    @Test
+    @DisplayName("call runs the work on a bulkhead thread that knows its bulkhead")
+    void runsOnBulkheadThread() {
+        //Act
+        String name = bulkhead.call(Bulkhead::current);
+
+        //Assert
+        assertEquals("test", name);
+        assertNull(Bulkhead.current());
+    }
+
+    @Test
+    @DisplayName("call is refused with BulkheadFullException once threads and queue are both in use")
+    void rejectsWhenFull() throws Exception {
+        //Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> bulkhead.call(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> bulkhead.call(() -> null));
+        while (bulkhead.stats().queued() == 0) {
+            Thread.onSpinWait();
+        }
+
+        //Act & Assert
+        assertThrows(BulkheadFullException.class, () -> bulkhead.call(() -> null));
+        assertEquals(1, bulkhead.stats().rejected());
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("A call made from a bulkhead thread runs inline instead of waiting on the pool it is holding")
+    void nestedCallRunsInline() {
+        //Act
+        String thread = bulkhead.call(() -> bulkhead.call(() -> Thread.currentThread().getName()));
+
+        //Assert
+        assertEquals("bulkhead-test-1", thread);
+    }
+
+    @Test
+    @DisplayName("Exceptions thrown by the work reach the caller unwrapped")
+    void propagatesExceptions() {
+        //Act & Assert
+        assertThrows(TaskNotFoundException.class, () -> bulkhead.call(() -> {
+            throw new TaskNotFoundException("Task not found");
+        }));
+    }
+
+    @Test
+    @DisplayName("Work still queued when the caller's deadline passes is abandoned and never runs")
+    void queuedWorkPastDeadlineNeverRuns() throws Exception {
+        //Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> bulkhead.call(() -> release.await(5, TimeUnit.SECONDS)));
+        while (bulkhead.stats().active() == 0) {
+            Thread.onSpinWait();
+        }
+        AtomicBoolean ran = new AtomicBoolean();
+        RequestDeadline.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50));
+
+        //Act & Assert
+        assertThrows(DeadlineExceededException.class, () -> bulkhead.call(() -> ran.getAndSet(true)));
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        RequestDeadline.set(null);
+        // The abandoned work holds the only queue slot until the thread takes it off the queue and skips it.
+        while (bulkhead.stats().queued() > 0) {
+            Thread.onSpinWait();
+        }
+        bulkhead.call(() -> null);
+        assertFalse(ran.get());
+        assertEquals(1, bulkhead.stats().deadlineExceeded());
+    }
+
+    @Test
+    @DisplayName("The caller's deadline is visible to the work on the bulkhead thread")
+    void deadlineTravelsWithWork() {
+        //Arrange
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        RequestDeadline.set(deadline);
+
+        //Act
+        Long seen = bulkhead.call(RequestDeadline::current);
+
+        //Assert
+        assertEquals(deadline, seen);
+    }
+}
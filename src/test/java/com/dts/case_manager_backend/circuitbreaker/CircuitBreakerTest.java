@@ -0,0 +1,79 @@
+package com.dts.case_manager_backend.circuitbreaker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(3, 10_000, now::get);
+
+    @Test
+    @DisplayName("The breaker opens after the threshold of consecutive failures and refuses calls until the open duration passes")
+    void opensAfterConsecutiveFailures() {
+        //Act
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+        boolean closedBeforeThreshold = breaker.isClosed();
+        breaker.onFailure();
+
+        //Assert
+        assertTrue(closedBeforeThreshold);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(10, breaker.retryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("After the open duration a single trial call is allowed, and its success closes the breaker and runs recovery listeners")
+    void halfOpenTrialSuccessCloses() {
+        //Arrange
+        AtomicInteger recoveries = new AtomicInteger();
+        breaker.onRecovery(recoveries::incrementAndGet);
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure();
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        //Act
+        boolean trial = breaker.tryAcquire();
+        boolean concurrent = breaker.tryAcquire();
+        breaker.onSuccess();
+
+        //Assert
+        assertTrue(trial);
+        assertFalse(concurrent);
+        assertTrue(breaker.isClosed());
+        assertTrue(breaker.tryAcquire());
+        assertEquals(1, recoveries.get());
+    }
+
+    @Test
+    @DisplayName("A failed trial call opens the breaker again for a full open duration")
+    void halfOpenTrialFailureReopens() {
+        //Arrange
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure();
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertTrue(breaker.tryAcquire());
+
+        //Act
+        breaker.onFailure();
+
+        //Assert
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        now.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        assertFalse(breaker.tryAcquire());
+    }
+}
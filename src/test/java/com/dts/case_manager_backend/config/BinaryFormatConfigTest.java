@@ -0,0 +1,89 @@
+package com.dts.case_manager_backend.config;
+
+import com.dts.case_manager_backend.model.TaskDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+// Through the application's own converters rather than standalone MockMvc's defaults, so that the dates show
+// whether the CBOR and Smile mappers were built from Boot's builder as the JSON one is.
+@AutoConfigureMockMvc
+@SpringBootTest
+class BinaryFormatConfigTest {
+    private static final TaskDTO TASK = new TaskDTO("Binary", "Task read back in a binary encoding", "In progress",
+            LocalDateTime.of(2025, Month.JANUARY, 1, 9, 30), LocalDateTime.of(2025, Month.FEBRUARY, 2, 17, 0));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("A CBOR request body is read and a CBOR response is written with ISO dates, as in JSON")
+    void cborNegotiated() throws Exception {
+        //Arrange
+        CBORMapper cborMapper = new CBORMapper();
+        cborMapper.registerModule(new JavaTimeModule());
+
+        //Act
+        MvcResult created = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(TASK)))
+                .andReturn();
+        JsonNode createdTask = cborMapper.readTree(created.getResponse().getContentAsByteArray());
+        MvcResult read = mockMvc.perform(get("/api/v1/tasks/" + createdTask.get("id").asLong())
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        //Assert
+        assertEquals(201, created.getResponse().getStatus());
+        assertTrue(MediaType.APPLICATION_CBOR.isCompatibleWith(MediaType.parseMediaType(read.getResponse().getContentType())));
+        assertMatchesJson(createdTask.get("id").asLong(), cborMapper.readTree(read.getResponse().getContentAsByteArray()));
+    }
+
+    @Test
+    @DisplayName("A Smile response is written with ISO dates, as in JSON")
+    void smileNegotiated() throws Exception {
+        //Arrange
+        MvcResult created = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(TASK)))
+                .andReturn();
+        long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        //Act
+        MvcResult read = mockMvc.perform(get("/api/v1/tasks/" + id).accept(BinaryFormatConfig.APPLICATION_SMILE)).andReturn();
+
+        //Assert
+        assertEquals(200, read.getResponse().getStatus());
+        assertTrue(BinaryFormatConfig.APPLICATION_SMILE.isCompatibleWith(MediaType.parseMediaType(read.getResponse().getContentType())));
+        assertMatchesJson(id, new SmileMapper().readTree(read.getResponse().getContentAsByteArray()));
+    }
+
+    private void assertMatchesJson(long id, JsonNode decoded) throws Exception {
+        JsonNode json = objectMapper.readTree(mockMvc.perform(get("/api/v1/tasks/" + id).accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString());
+        assertAll(
+                () -> assertEquals("Binary", decoded.get("title").asText()),
+                () -> assertTrue(decoded.get("createdDate").isTextual(), () -> "createdDate " + decoded.get("createdDate")),
+                () -> assertEquals(json, decoded));
+    }
+}
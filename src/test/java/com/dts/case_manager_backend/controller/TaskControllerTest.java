@@ -1,14 +1,25 @@
 package com.dts.case_manager_backend.controller;
 
+import com.dts.case_manager_backend.circuitbreaker.CircuitBreaker;
+import com.dts.case_manager_backend.exception.DatabaseUnavailableException;
 import com.dts.case_manager_backend.exception.GlobalExceptionHandler;
 import com.dts.case_manager_backend.exception.InvalidDTOException;
 import com.dts.case_manager_backend.exception.TaskNotFoundException;
 import com.dts.case_manager_backend.model.StatusDTO;
 import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskCalendarDay;
 import com.dts.case_manager_backend.model.TaskDTO;
+import com.dts.case_manager_backend.model.TaskFieldsLookupResult;
+import com.dts.case_manager_backend.model.TaskLookupResult;
+import com.dts.case_manager_backend.service.StaleRead;
+import com.dts.case_manager_backend.service.TaskChangeWaiters;
+import com.dts.case_manager_backend.service.TaskListSnapshot;
+import com.dts.case_manager_backend.service.TaskListSnapshotCache;
 import com.dts.case_manager_backend.service.TaskService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,17 +31,25 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,6 +60,15 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskListSnapshotCache taskListSnapshotCache;
+
+    @Mock
+    private CircuitBreaker taskDatabaseCircuitBreaker;
+
+    @Mock
+    private TaskChangeWaiters taskChangeWaiters;
+
     @InjectMocks
     private TaskController taskController;
 
@@ -53,7 +81,7 @@ class TaskControllerTest {
     @BeforeEach
     public void setup() {
         mockMvcController = MockMvcBuilders.standaloneSetup(taskController)
-                .setControllerAdvice(new GlobalExceptionHandler())
+                .setControllerAdvice(new GlobalExceptionHandler(), new StaleResponseAdvice())
                 .build();
         mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
@@ -416,6 +444,87 @@ class TaskControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("getTaskById returns the task's version in the X-Task-Version header")
+    void getTaskByIdVersionHeader() throws Exception {
+        //Arrange
+        when(taskChangeWaiters.version(1L)).thenReturn(7L);
+        when(taskService.retrieveTaskById(1L)).thenReturn(Task.builder().id(1L).build());
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks/1"));
+
+        //Assert
+        response
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Task-Version", "7"));
+    }
+
+    @Test
+    @DisplayName("waitForTaskChange returns OK (200) straight away when the task's version is already past the one supplied")
+    void waitForTaskChangeAlreadyChanged() throws Exception {
+        //Arrange
+        when(taskChangeWaiters.version(1L)).thenReturn(7L);
+        when(taskService.retrieveTaskById(1L)).thenReturn(Task.builder().id(1L).status("Complete").build());
+
+        //Act
+        MvcResult started = mockMvcController.perform(get("/api/v1/tasks/1?waitForVersionAfter=6&timeout=10s")).andReturn();
+
+        //Assert
+        mockMvcController.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Task-Version", "7"))
+                .andExpect(jsonPath("$.status").value("Complete"));
+        verify(taskChangeWaiters, never()).awaitChangeAfter(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("waitForTaskChange parks the request until the task changes, then returns OK (200) and the reloaded task")
+    void waitForTaskChangeWakesOnChange() throws Exception {
+        //Arrange
+        CompletableFuture<TaskChangeWaiters.Change> waiter = new CompletableFuture<>();
+        when(taskChangeWaiters.version(1L)).thenReturn(7L);
+        when(taskChangeWaiters.awaitChangeAfter(1L, 7L)).thenReturn(waiter);
+        when(taskService.retrieveTaskById(1L)).thenReturn(Task.builder().id(1L).status("In progress").build());
+
+        //Act
+        MvcResult started = mockMvcController.perform(get("/api/v1/tasks/1?waitForVersionAfter=7"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        waiter.complete(new TaskChangeWaiters.Change(8L, Task.builder().id(1L).status("Complete").build()));
+
+        //Assert
+        mockMvcController.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Task-Version", "8"))
+                .andExpect(jsonPath("$.status").value("Complete"));
+    }
+
+    @Test
+    @DisplayName("waitForTaskChange returns NOT_FOUND (404) without waiting when the task does not exist")
+    void waitForTaskChangeDoesNotExist() throws Exception {
+        //Arrange
+        when(taskService.retrieveTaskById(1L)).thenThrow(TaskNotFoundException.class);
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks/1?waitForVersionAfter=7"));
+
+        //Assert
+        response.andExpect(status().isNotFound());
+        verify(taskChangeWaiters, never()).awaitChangeAfter(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("waitForTaskChange returns UNPROCESSABLE_ENTITY (422) when the timeout is not a duration")
+    void waitForTaskChangeInvalidTimeout() throws Exception {
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks/1?waitForVersionAfter=7&timeout=soon"));
+
+        //Assert
+        response.andExpect(status().isUnprocessableEntity());
+        verifyNoInteractions(taskService);
+    }
+
     @Test
     @DisplayName("getTaskById returns NOT_FOUND (404) when passed id which is not in database")
     void getTaskByIdDoesNotExist() throws Exception {
@@ -720,4 +829,472 @@ class TaskControllerTest {
         //Assert
         response.andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("postTask accepts a CBOR TaskDTO and returns a CBOR Task when CBOR is requested")
+    void postTaskCbor() throws Exception {
+        //Arrange
+        CBORMapper cborMapper = new CBORMapper();
+        cborMapper.registerModule(new JavaTimeModule());
+
+        TaskDTO inputTaskDTO = new TaskDTO(
+                "test title",
+                "test description",
+                "In progress",
+                LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1),
+                LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2));
+
+        Task expectedTask = Task.builder()
+                .id(1L)
+                .title("test title")
+                .description("test description")
+                .status("In progress")
+                .createdDate(LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1))
+                .dueDate(LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2))
+                .build();
+
+        when(taskService.createTask(inputTaskDTO)).thenReturn(expectedTask);
+
+        //Act
+        ResultActions response = mockMvcController.perform(
+                post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(inputTaskDTO))
+        );
+
+        //Assert
+        response
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+
+        Task returnedTask = cborMapper.readValue(response.andReturn().getResponse().getContentAsByteArray(), Task.class);
+
+        assertAll(
+                () -> assertEquals(expectedTask.getId(), returnedTask.getId()),
+                () -> assertEquals(expectedTask.getTitle(), returnedTask.getTitle()),
+                () -> assertEquals(expectedTask.getStatus(), returnedTask.getStatus()),
+                () -> assertEquals(expectedTask.getDueDate(), returnedTask.getDueDate()));
+    }
+
+    @Test
+    @DisplayName("patchTaskStatus accepts a Smile StatusDTO")
+    void patchTaskStatusSmile() throws Exception {
+        //Arrange
+        SmileMapper smileMapper = new SmileMapper();
+        StatusDTO statusDto = new StatusDTO("Complete");
+
+        Task expectedTask = Task.builder()
+                .id(1L)
+                .title("test title")
+                .description("test description")
+                .status("Complete")
+                .createdDate(LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1))
+                .dueDate(LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2))
+                .build();
+
+        when(taskService.updateTaskStatus(1L, statusDto)).thenReturn(expectedTask);
+
+        //Act
+        ResultActions response = mockMvcController.perform(patch("/api/v1/tasks/1")
+                .contentType("application/x-jackson-smile")
+                .content(smileMapper.writeValueAsBytes(statusDto)));
+
+        //Assert
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Complete"));
+    }
+
+    @Test
+    @DisplayName("getAllTasks CBOR and Smile payloads are smaller than the JSON payload")
+    void getAllTasksBinaryPayloadSize() throws Exception {
+        //Arrange
+        List<Task> expectedTasks = new ArrayList<>();
+        for (long i = 1; i <= 100; i++) {
+            expectedTasks.add(Task.builder()
+                    .id(i)
+                    .title("test title " + i)
+                    .description("test description " + i)
+                    .status("In progress")
+                    .createdDate(LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1))
+                    .dueDate(LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2))
+                    .build());
+        }
+
+        when(taskService.retrieveAllTasks()).thenReturn(expectedTasks);
+
+        //Act
+        int jsonSize = mockMvcController.perform(get("/api/v1/tasks").accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsByteArray().length;
+        int cborSize = mockMvcController.perform(get("/api/v1/tasks").accept(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray().length;
+        int smileSize = mockMvcController.perform(get("/api/v1/tasks").accept("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray().length;
+
+        //Assert
+        assertAll(
+                () -> assertTrue(cborSize < jsonSize, "CBOR " + cborSize + " bytes vs JSON " + jsonSize + " bytes"),
+                () -> assertTrue(smileSize < jsonSize, "Smile " + smileSize + " bytes vs JSON " + jsonSize + " bytes"));
+    }
+
+    @Test
+    @DisplayName("getAllTasks serves the pre-serialized snapshot with its ETag when one is published")
+    void getAllTasksSnapshot() throws Exception {
+        //Arrange
+        byte[] body = "[{\"id\":1,\"title\":\"test title\"}]".getBytes();
+        TaskListSnapshot snapshot = new TaskListSnapshot(1L, "abc", body, new byte[] {1, 2, 3});
+
+        when(taskListSnapshotCache.current()).thenReturn(snapshot);
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks"));
+
+        //Assert
+        response.andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].title").value("test title"));
+        verify(taskService, never()).retrieveAllTasks();
+    }
+
+    @Test
+    @DisplayName("getAllTasks serves the gzip snapshot variant when gzip is accepted")
+    void getAllTasksSnapshotGzip() throws Exception {
+        //Arrange
+        byte[] gzipBody = new byte[] {1, 2, 3};
+        TaskListSnapshot snapshot = new TaskListSnapshot(1L, "abc", "[]".getBytes(), gzipBody);
+
+        when(taskListSnapshotCache.current()).thenReturn(snapshot);
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks").header("Accept-Encoding", "gzip, deflate"));
+
+        //Assert
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("ETag", "\"abc-gzip\""))
+                .andExpect(content().bytes(gzipBody));
+    }
+
+    @Test
+    @DisplayName("getAllTasks serves the identity snapshot when gzip is refused with any spelling of q=0")
+    void getAllTasksSnapshotGzipRefused() throws Exception {
+        //Arrange
+        byte[] body = "[]".getBytes();
+        TaskListSnapshot snapshot = new TaskListSnapshot(1L, "abc", body, new byte[] {1, 2, 3});
+
+        when(taskListSnapshotCache.current()).thenReturn(snapshot);
+
+        for (String acceptEncoding : List.of("gzip;q=0", "gzip;q=0.0", "gzip; q=0.000", "*;q=0", "gzip;q=0, *", "deflate")) {
+            //Act
+            ResultActions response = mockMvcController.perform(get("/api/v1/tasks").header("Accept-Encoding", acceptEncoding));
+
+            //Assert
+            response.andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("Content-Encoding"))
+                    .andExpect(header().string("ETag", "\"abc\""))
+                    .andExpect(content().bytes(body));
+        }
+    }
+
+    @Test
+    @DisplayName("getAllTasks serves the gzip snapshot variant when gzip is accepted through a wildcard or a non-zero q-value")
+    void getAllTasksSnapshotGzipQuality() throws Exception {
+        //Arrange
+        byte[] gzipBody = new byte[] {1, 2, 3};
+        TaskListSnapshot snapshot = new TaskListSnapshot(1L, "abc", "[]".getBytes(), gzipBody);
+
+        when(taskListSnapshotCache.current()).thenReturn(snapshot);
+
+        for (String acceptEncoding : List.of("*", "GZIP;Q=0.5", "deflate, gzip ; q=0.001", "*;q=0.1, deflate")) {
+            //Act
+            ResultActions response = mockMvcController.perform(get("/api/v1/tasks").header("Accept-Encoding", acceptEncoding));
+
+            //Assert
+            response.andExpect(status().isOk())
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andExpect(content().bytes(gzipBody));
+        }
+    }
+
+    @Test
+    @DisplayName("getAllTasks serves the snapshot only when JSON is the most preferred type by q-value and specificity")
+    void getAllTasksSnapshotAcceptQuality() throws Exception {
+        //Arrange
+        TaskListSnapshot snapshot = new TaskListSnapshot(1L, "abc", "[]".getBytes(), new byte[] {1, 2, 3});
+
+        when(taskListSnapshotCache.current()).thenReturn(snapshot);
+        when(taskService.retrieveAllTasks()).thenReturn(List.of());
+
+        for (String accept : List.of("application/cbor;q=0.5, application/json", "*/*;q=0.1, application/json",
+                "application/json, application/cbor;q=0")) {
+            //Act
+            ResultActions response = mockMvcController.perform(get("/api/v1/tasks").header("Accept", accept));
+
+            //Assert
+            response.andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"abc\""));
+        }
+        for (String accept : List.of("application/json;q=0.5, application/cbor", "*/*, application/cbor",
+                "application/json;q=0, application/cbor")) {
+            //Act
+            ResultActions response = mockMvcController.perform(get("/api/v1/tasks").header("Accept", accept));
+
+            //Assert
+            response.andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("ETag"))
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+        }
+    }
+
+    @Test
+    @DisplayName("getAllTasks returns NOT_MODIFIED (304) when If-None-Match matches the snapshot ETag")
+    void getAllTasksSnapshotNotModified() throws Exception {
+        //Arrange
+        TaskListSnapshot snapshot = new TaskListSnapshot(1L, "abc", "[]".getBytes(), new byte[] {1, 2, 3});
+
+        when(taskListSnapshotCache.current()).thenReturn(snapshot);
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks").header("If-None-Match", "\"abc\""));
+
+        //Assert
+        response.andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("getAllTasks with fields returns only the requested fields")
+    void getAllTasksFields() throws Exception {
+        //Arrange
+        List<Map<String, Object>> expectedTasks = List.of(Map.of("id", 1L, "title", "test title"));
+
+        when(taskService.retrieveAllTasks(List.of("id", "title"))).thenReturn(expectedTasks);
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks?fields=id,title"));
+
+        //Assert
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].title").value("test title"))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+        verify(taskListSnapshotCache, never()).current();
+    }
+
+    @Test
+    @DisplayName("getAllTasks with includeArchived bypasses the snapshot and includes archived tasks")
+    void getAllTasksIncludingArchived() throws Exception {
+        //Arrange
+        List<Task> expectedTasks = List.of(
+                Task.builder().id(1L).title("archived").status("Complete").build(),
+                Task.builder().id(2L).title("hot").status("In progress").build());
+        List<Map<String, Object>> expectedFields = List.of(Map.of("id", 1L), Map.of("id", 2L));
+
+        when(taskService.retrieveAllTasksIncludingArchived()).thenReturn(expectedTasks);
+        when(taskService.retrieveAllTasksIncludingArchived(List.of("id"))).thenReturn(expectedFields);
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks?includeArchived=true"));
+        ResultActions fieldsResponse = mockMvcController.perform(get("/api/v1/tasks?includeArchived=true&fields=id"));
+
+        //Assert
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("archived"))
+                .andExpect(jsonPath("$[1].title").value("hot"));
+        fieldsResponse.andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].id").value(2));
+        verify(taskListSnapshotCache, never()).current();
+        verify(taskService, never()).retrieveAllTasks();
+    }
+
+    @Test
+    @DisplayName("getTaskById with fields returns only the requested fields")
+    void getTaskByIdFields() throws Exception {
+        //Arrange
+        when(taskService.retrieveTaskById(1L, List.of("status"))).thenReturn(Map.of("status", "Complete"));
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks/1?fields=status"));
+
+        //Assert
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Complete"))
+                .andExpect(jsonPath("$.id").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("getAllTasks returns UNPROCESSABLE (422) when passed unknown fields")
+    void getAllTasksInvalidFields() throws Exception {
+        //Arrange
+        when(taskService.retrieveAllTasks(List.of("password"))).thenThrow(InvalidDTOException.class);
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks?fields=password"));
+
+        //Assert
+        response.andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("getTaskDescription returns OK (200) and the description as plain text")
+    void getTaskDescription() throws Exception {
+        //Arrange
+        when(taskService.retrieveTaskDescription(1L)).thenReturn("test description");
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks/1/description"));
+
+        //Assert
+        response.andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string("test description"));
+    }
+
+    @Test
+    @DisplayName("getTaskDescription returns NOT_FOUND (404) when passed id which is not in database")
+    void getTaskDescriptionDoesNotExist() throws Exception {
+        //Arrange
+        when(taskService.retrieveTaskDescription(1L)).thenThrow(TaskNotFoundException.class);
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks/1/description"));
+
+        //Assert
+        response.andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("getCalendar returns OK (200) and the tasks grouped by due day")
+    void getCalendar() throws Exception {
+        //Arrange
+        Task task = Task.builder()
+                .id(1L)
+                .title("test title")
+                .status("In progress")
+                .createdDate(LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1))
+                .dueDate(LocalDateTime.of(2025, Month.MARCH, 3, 9, 0))
+                .build();
+
+        when(taskService.retrieveCalendar(LocalDate.of(2025, Month.MARCH, 1), LocalDate.of(2025, Month.MARCH, 31)))
+                .thenReturn(List.of(new TaskCalendarDay(LocalDate.of(2025, Month.MARCH, 3), List.of(task))));
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks/calendar?from=2025-03-01&to=2025-03-31"));
+
+        //Assert
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].date[2]").value(3))
+                .andExpect(jsonPath("$[0].tasks[0].id").value(1))
+                .andExpect(jsonPath("$[0].tasks[0].title").value("test title"));
+    }
+
+    @Test
+    @DisplayName("getCalendar returns UNPROCESSABLE_ENTITY (422) when the range is invalid")
+    void getCalendarInvalidRange() throws Exception {
+        //Arrange
+        when(taskService.retrieveCalendar(LocalDate.of(2025, Month.MARCH, 31), LocalDate.of(2025, Month.MARCH, 1))).thenThrow(InvalidDTOException.class);
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks/calendar?from=2025-03-31&to=2025-03-01"));
+
+        //Assert
+        response.andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("getAllTasks with ids returns OK (200) with the found tasks and the missing ids")
+    void getAllTasksByIds() throws Exception {
+        //Arrange
+        Task task = Task.builder().id(2L).title("test title").status("In progress").build();
+
+        when(taskService.retrieveTasksByIds(List.of(2L, 5L))).thenReturn(new TaskLookupResult(List.of(task), List.of(5L)));
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks?ids=2,5"));
+
+        //Assert
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].id").value(2))
+                .andExpect(jsonPath("$.missingIds[0]").value(5));
+        verify(taskListSnapshotCache, never()).current();
+    }
+
+    @Test
+    @DisplayName("getAllTasks with ids and fields returns OK (200) with only the requested fields of the found tasks")
+    void getAllTasksByIdsFields() throws Exception {
+        //Arrange
+        when(taskService.retrieveTasksByIds(List.of(2L, 5L), List.of("id", "title")))
+                .thenReturn(new TaskFieldsLookupResult(List.of(Map.of("id", 2L, "title", "test title")), List.of(5L)));
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks?ids=2,5&fields=id,title"));
+
+        //Assert
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].id").value(2))
+                .andExpect(jsonPath("$.tasks[0].title").value("test title"))
+                .andExpect(jsonPath("$.tasks[0].status").doesNotExist())
+                .andExpect(jsonPath("$.missingIds[0]").value(5));
+        verify(taskService, never()).retrieveTasksByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("getTaskById answered from last-known data returns OK (200) with the stale Warning and Age headers")
+    void getTaskByIdStale() throws Exception {
+        //Arrange
+        Task task = Task.builder().id(1L).title("test title").status("In progress").build();
+
+        when(taskService.retrieveTaskById(1L)).thenAnswer(invocation -> {
+            StaleRead.mark(Instant.now().minusSeconds(30));
+            return task;
+        });
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks/1"));
+
+        //Assert
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(header().string("Warning", "110 - \"Response is Stale\""))
+                .andExpect(header().string("Age", "30"));
+    }
+
+    @Test
+    @DisplayName("getAllTasks marks the snapshot as stale while the database circuit breaker is open")
+    void getAllTasksSnapshotWhileBreakerOpen() throws Exception {
+        //Arrange
+        TaskListSnapshot snapshot = new TaskListSnapshot(1L, "abc", "[]".getBytes(), new byte[] {1, 2, 3});
+
+        when(taskListSnapshotCache.lastPublished()).thenReturn(snapshot);
+        when(taskDatabaseCircuitBreaker.getState()).thenReturn(CircuitBreaker.State.OPEN);
+
+        //Act
+        ResultActions response = mockMvcController.perform(get("/api/v1/tasks"));
+
+        //Assert
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Warning", "110 - \"Response is Stale\""))
+                .andExpect(header().doesNotExist("Age"));
+        verify(taskListSnapshotCache, never()).current();
+    }
+
+    @Test
+    @DisplayName("patchTaskStatus returns SERVICE_UNAVAILABLE (503) with Retry-After when the database is unavailable")
+    void patchTaskStatusDatabaseUnavailable() throws Exception {
+        //Arrange
+        StatusDTO statusDTO = new StatusDTO("Completed");
+
+        when(taskService.updateTaskStatus(1L, statusDTO)).thenThrow(new DatabaseUnavailableException("Request rejected because the database is unavailable.", 7));
+
+        //Act
+        ResultActions response = mockMvcController.perform(patch("/api/v1/tasks/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(statusDTO)));
+
+        //Assert
+        response.andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "7"));
+        verify(taskService).updateTaskStatus(1L, statusDTO);
+    }
+}
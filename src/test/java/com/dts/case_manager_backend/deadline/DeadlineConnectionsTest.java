@@ -0,0 +1,79 @@
+package com.dts.case_manager_backend.deadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineConnectionsTest {
+
+    private static final String URL = "jdbc:h2:mem:deadline-connections-test";
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.set(null);
+    }
+
+    @Test
+    @DisplayName("Statements get the time left before the request deadline as their query timeout, rounded up to seconds")
+    void statementsGetRemainingTimeAsQueryTimeout() throws Exception {
+        //Arrange
+        RequestDeadline.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2500));
+
+        //Act
+        try (Connection connection = DeadlineConnections.getConnection(() -> DriverManager.getConnection(URL));
+             PreparedStatement statement = connection.prepareStatement("select 1")) {
+
+            //Assert
+            assertEquals(3, statement.getQueryTimeout());
+        }
+    }
+
+    @Test
+    @DisplayName("Without a request deadline connections and statements are left untouched")
+    void noDeadlineNoTimeout() throws Exception {
+        //Act
+        try (Connection connection = DeadlineConnections.getConnection(() -> DriverManager.getConnection(URL));
+             PreparedStatement statement = connection.prepareStatement("select 1")) {
+
+            //Assert
+            assertEquals(0, statement.getQueryTimeout());
+        }
+    }
+
+    @Test
+    @DisplayName("No connection is requested once the request deadline has passed")
+    void expiredDeadlineRequestsNoConnection() {
+        //Arrange
+        RequestDeadline.set(System.nanoTime() - 1);
+
+        //Act & Assert
+        assertThrows(SQLTimeoutException.class, () -> DeadlineConnections.getConnection(() -> fail("connection requested")));
+    }
+
+    @Test
+    @DisplayName("Waiting for a connection is interrupted when the request deadline passes")
+    void waitForConnectionEndsAtDeadline() {
+        //Arrange
+        RequestDeadline.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100));
+
+        //Act & Assert
+        assertThrows(SQLTimeoutException.class, () -> DeadlineConnections.getConnection(() -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new java.sql.SQLException("Interrupted during connection acquisition", e);
+            }
+            return null;
+        }));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+}
@@ -0,0 +1,53 @@
+package com.dts.case_manager_backend.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = 2_000_000;
+    private static final long SLOW = 200_000_000;
+
+    @Test
+    @DisplayName("tryAcquire refuses requests beyond the current limit without queueing them")
+    void refusesBeyondLimit() {
+        //Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 2, 10);
+
+        //Act & Assert
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("The limit grows while latency stays at its baseline and shrinks when latency rises well above it")
+    void adaptsToLatency() {
+        //Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 4, 100);
+
+        //Act
+        for (int i = 0; i < 500; i++) {
+            while (limiter.tryAcquire()) {
+                // saturate so the limit is fully in use
+            }
+            limiter.release(FAST);
+        }
+        int grown = limiter.getLimit();
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW);
+        }
+        int shrunk = limiter.getLimit();
+
+        //Assert
+        assertAll(
+                () -> assertEquals(100, grown),
+                () -> assertTrue(shrunk < 20, "limit was " + shrunk),
+                () -> assertTrue(shrunk >= 2));
+    }
+}
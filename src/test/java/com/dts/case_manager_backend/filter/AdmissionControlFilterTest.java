@@ -0,0 +1,80 @@
+package com.dts.case_manager_backend.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlFilterTest {
+
+    private AdmissionControlFilter admissionControlFilter;
+    private AtomicLong clock;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        admissionControlFilter = new AdmissionControlFilter();
+        admissionControlFilter.objectMapper = new ObjectMapper().findAndRegisterModules();
+        admissionControlFilter.afterPropertiesSet();
+        clock = new AtomicLong(1_000_000_000L);
+        admissionControlFilter.clientRateLimiter = new ClientRateLimiter(10, 3, clock::get);
+    }
+
+    @Test
+    @DisplayName("Requests over a client's burst get TOO_MANY_REQUESTS (429) with Retry-After until tokens refill")
+    void rateLimitsPerClient() throws Exception {
+        //Act
+        int[] statuses = new int[4];
+        for (int i = 0; i < 4; i++) {
+            statuses[i] = perform("GET", "alice").getStatus();
+        }
+        MockHttpServletResponse limited = perform("GET", "alice");
+        MockHttpServletResponse otherClient = perform("GET", "bob");
+        clock.addAndGet(100_000_000L);
+        MockHttpServletResponse refilled = perform("GET", "alice");
+
+        //Assert
+        assertAll(
+                () -> assertArrayEquals(new int[] {200, 200, 200, 429}, statuses),
+                () -> assertEquals(429, limited.getStatus()),
+                () -> assertEquals("1", limited.getHeader("Retry-After")),
+                () -> assertTrue(limited.getContentAsString().contains("\"statusCode\":429")),
+                () -> assertEquals(200, otherClient.getStatus()),
+                () -> assertEquals(200, refilled.getStatus()));
+    }
+
+    @Test
+    @DisplayName("Writes get SERVICE_UNAVAILABLE (503) with Retry-After once the write limit is in use, while reads still pass")
+    void shedsWritesAtCapacity() throws Exception {
+        //Arrange
+        admissionControlFilter.clientRateLimiter = new ClientRateLimiter(1_000_000, 1_000_000, clock::get);
+        admissionControlFilter.writeLimiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+        assertTrue(admissionControlFilter.writeLimiter.tryAcquire());
+
+        //Act
+        MockHttpServletResponse write = perform("PATCH", "alice");
+        MockHttpServletResponse read = perform("GET", "alice");
+
+        //Assert
+        assertAll(
+                () -> assertEquals(503, write.getStatus()),
+                () -> assertEquals("1", write.getHeader("Retry-After")),
+                () -> assertEquals(200, read.getStatus()));
+    }
+
+    private MockHttpServletResponse perform(String method, String client) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/tasks/1");
+        request.addHeader(AdmissionControlFilter.CLIENT_ID_HEADER, client);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain filterChain = new MockFilterChain();
+        admissionControlFilter.doFilter(request, response, filterChain);
+        return response;
+    }
+}
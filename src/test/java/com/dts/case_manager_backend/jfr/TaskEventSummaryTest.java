@@ -0,0 +1,75 @@
+package com.dts.case_manager_backend.jfr;
+
+import com.dts.case_manager_backend.jfr.TaskEventSummary.OperationLatency;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventSummaryTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("summarize groups events by operation and reports nearest-rank percentiles")
+    void summarizeGroupsByOperation() throws Exception {
+        //Arrange
+        Path file = directory.resolve("rec.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TaskRequestEvent.class).withThreshold(java.time.Duration.ZERO);
+            recording.enable(TaskRepositoryEvent.class).withThreshold(java.time.Duration.ZERO);
+            recording.start();
+            for (int i = 1; i <= 10; i++) {
+                request("GET", "/api/v1/tasks/{id}", i);
+            }
+            request("POST", "/api/v1/tasks", 0);
+            repository("TaskRepository", "findById", 2);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        //Act
+        List<OperationLatency> summary = TaskEventSummary.summarize(file);
+
+        //Assert
+        assertEquals(3, summary.size());
+        OperationLatency get = find(summary, "GET /api/v1/tasks/{id}");
+        assertAll(
+                () -> assertEquals("TaskRequest", get.event()),
+                () -> assertEquals(10, get.count()),
+                () -> assertTrue(get.p50Millis() >= 5, () -> "p50 " + get.p50Millis()),
+                () -> assertTrue(get.p90Millis() >= 9, () -> "p90 " + get.p90Millis()),
+                () -> assertTrue(get.p50Millis() <= get.p90Millis() && get.p90Millis() <= get.p99Millis()),
+                () -> assertEquals(get.p99Millis(), get.maxMillis()),
+                () -> assertEquals(1, find(summary, "POST /api/v1/tasks").count()),
+                () -> assertEquals("TaskRepository", find(summary, "TaskRepository.findById").event()));
+    }
+
+    private static void request(String method, String path, int millis) throws InterruptedException {
+        TaskRequestEvent event = new TaskRequestEvent();
+        event.begin();
+        Thread.sleep(millis);
+        event.method = method;
+        event.path = path;
+        event.status = 200;
+        event.commit();
+    }
+
+    private static void repository(String repository, String operation, int millis) throws InterruptedException {
+        TaskRepositoryEvent event = new TaskRepositoryEvent();
+        event.begin();
+        Thread.sleep(millis);
+        event.repository = repository;
+        event.operation = operation;
+        event.commit();
+    }
+
+    private static OperationLatency find(List<OperationLatency> summary, String operation) {
+        return summary.stream().filter(latency -> latency.operation().equals(operation)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,83 @@
+package com.dts.case_manager_backend.jfr;
+
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskDTO;
+import com.dts.case_manager_backend.service.TaskService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+class TaskJfrEventsTest {
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    @DisplayName("getTaskById records the request, the service call and the repository call of the task")
+    void getTaskByIdRecordsEvents() throws Exception {
+        //Arrange
+        Task task = taskService.createTask(new TaskDTO("Recorded", "Task read while recording", "In progress", LocalDateTime.now(), LocalDateTime.now().plusDays(1)));
+        Path file = directory.resolve("rec.jfr");
+
+        //Act
+        try (Recording recording = new Recording()) {
+            recording.enable(TaskRequestEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(TaskServiceEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(TaskRepositoryEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            mockMvc.perform(get("/api/v1/tasks/" + task.getId())).andExpect(status().isOk());
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getLong("taskId") == task.getId())
+                .toList();
+
+        //Assert
+        RecordedEvent request = find(events, "TaskRequest");
+        RecordedEvent service = find(events, "TaskService");
+        RecordedEvent repository = find(events, "TaskRepository");
+        assertAll(
+                () -> assertEquals("GET", request.getString("method")),
+                () -> assertEquals("/api/v1/tasks/{id}", request.getString("path")),
+                () -> assertEquals(200, request.getInt("status")),
+                () -> assertEquals("retrieveTaskById", service.getString("operation")),
+                () -> assertEquals("In progress", service.getString("status")),
+                () -> assertEquals(1, service.getLong("rows")),
+                () -> assertNull(service.getString("failure")),
+                () -> assertEquals("TaskRepository", repository.getString("repository")),
+                () -> assertEquals("findById", repository.getString("operation")),
+                () -> assertEquals(1, repository.getLong("rows")),
+                () -> assertNotNull(repository.getStackTrace()));
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.dts.case_manager_backend." + name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event in " + events));
+    }
+}
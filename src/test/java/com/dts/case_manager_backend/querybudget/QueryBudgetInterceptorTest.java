@@ -0,0 +1,68 @@
+package com.dts.case_manager_backend.querybudget;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(OutputCaptureExtension.class)
+class QueryBudgetInterceptorTest {
+
+    private final QueryBudgetInterceptor queryBudgetInterceptor = new QueryBudgetInterceptor();
+
+    static class Handlers {
+        @QueryBudget(1)
+        void budgeted() {
+        }
+
+        void unbudgeted() {
+        }
+    }
+
+    @Test
+    @DisplayName("A request over its handler's budget is logged with the statements it ran")
+    void overBudgetIsLogged(CapturedOutput output) throws Exception {
+        //Arrange
+        HandlerMethod handler = new HandlerMethod(new Handlers(), Handlers.class.getDeclaredMethod("budgeted"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+
+        //Act
+        queryBudgetInterceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        QueryCounting.current().record("select * from tasks where id = ?");
+        QueryCounting.current().record("select * from tasks where id = ?");
+        queryBudgetInterceptor.afterCompletion(request, new MockHttpServletResponse(), handler, null);
+
+        //Assert
+        assertTrue(output.getOut().contains("GET /api/v1/tasks ran 2 statements, over its query budget of 1"));
+        assertTrue(output.getOut().contains("2 x select * from tasks where id = ?"));
+        assertNull(QueryCounting.current());
+    }
+
+    @Test
+    @DisplayName("Requests within budget, and handlers without one, are not logged or counted")
+    void withinBudgetNotLogged(CapturedOutput output) throws Exception {
+        //Arrange
+        HandlerMethod budgeted = new HandlerMethod(new Handlers(), Handlers.class.getDeclaredMethod("budgeted"));
+        HandlerMethod unbudgeted = new HandlerMethod(new Handlers(), Handlers.class.getDeclaredMethod("unbudgeted"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks/1");
+        MockHttpServletRequest other = new MockHttpServletRequest("GET", "/api/v1/tasks/2");
+
+        //Act
+        queryBudgetInterceptor.preHandle(request, new MockHttpServletResponse(), budgeted);
+        QueryCounting.current().record("select * from tasks where id = ?");
+        queryBudgetInterceptor.afterCompletion(request, new MockHttpServletResponse(), budgeted, null);
+        queryBudgetInterceptor.preHandle(other, new MockHttpServletResponse(), unbudgeted);
+        QueryCounter unbudgetedCounter = QueryCounting.current();
+        queryBudgetInterceptor.afterCompletion(other, new MockHttpServletResponse(), unbudgeted, null);
+
+        //Assert
+        assertFalse(output.getOut().contains("over its query budget"));
+        assertNull(unbudgetedCounter);
+    }
+}
@@ -0,0 +1,201 @@
+package com.dts.case_manager_backend.querybudget;
+
+import com.dts.case_manager_backend.model.ArchivedTask;
+import com.dts.case_manager_backend.repository.ArchivedTaskRepository;
+import com.dts.case_manager_backend.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+// Exact statement counts of the task endpoints against the real database, so a change that adds a query to one
+// of them fails here rather than in production. Handlers' @QueryBudget values are the worst case of these.
+@AutoConfigureMockMvc
+@SpringBootTest
+class QueryBudgetsTest {
+    private static final AtomicLong ARCHIVED_IDS = new AtomicLong(1_000_000);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    @DisplayName("postTask runs 2 statements, inserting the task and its description without reading either first")
+    void postTask() {
+        //Act
+        QueryCounter counter = count(post("/api/v1/tasks").contentType(MediaType.APPLICATION_JSON).content(TASK_JSON), 201);
+
+        //Assert
+        assertEquals(2, counter.count(), counter::toString);
+    }
+
+    @Test
+    @DisplayName("getTaskById runs 2 statements for a live task, 1 with fields and 3 for an archived task")
+    void getTaskById() {
+        //Arrange
+        long id = createTask();
+        long archivedId = createArchivedTask();
+
+        //Act
+        QueryCounter live = count(get("/api/v1/tasks/" + id), 200);
+        QueryCounter fields = count(get("/api/v1/tasks/" + id + "?fields=id,status"), 200);
+        QueryCounter archived = count(get("/api/v1/tasks/" + archivedId), 200);
+
+        //Assert
+        assertAll(
+                () -> assertEquals(2, live.count(), live::toString),
+                () -> assertEquals(1, fields.count(), fields::toString),
+                () -> assertEquals(3, archived.count(), archived::toString));
+    }
+
+    @Test
+    @DisplayName("patchTaskStatus runs 3 statements for a live task and 7 when it restores an archived task")
+    void patchTaskStatus() {
+        //Arrange
+        long id = createTask();
+        long archivedId = createArchivedTask();
+
+        //Act
+        QueryCounter live = count(patch("/api/v1/tasks/" + id).contentType(MediaType.APPLICATION_JSON).content(STATUS_JSON), 200);
+        QueryCounter archived = count(patch("/api/v1/tasks/" + archivedId).contentType(MediaType.APPLICATION_JSON).content(STATUS_JSON), 200);
+
+        //Assert
+        assertAll(
+                () -> assertEquals(3, live.count(), live::toString),
+                () -> assertEquals(7, archived.count(), archived::toString));
+    }
+
+    @Test
+    @DisplayName("deleteTask runs 1 statement for a live task and 4 for an archived task")
+    void deleteTask() {
+        //Arrange
+        long id = createTask();
+        long archivedId = createArchivedTask();
+
+        //Act
+        QueryCounter live = count(delete("/api/v1/tasks/" + id), 204);
+        QueryCounter archived = count(delete("/api/v1/tasks/" + archivedId), 204);
+
+        //Assert
+        assertAll(
+                () -> assertEquals(1, live.count(), live::toString),
+                () -> assertEquals(4, archived.count(), archived::toString));
+    }
+
+    @Test
+    @DisplayName("getAllTasks runs 1 statement with fields however many tasks there are, and an ids lookup 2 per 500 ids plus 1 for descriptions of any found")
+    void getAllTasks() {
+        //Arrange
+        long id = createTask();
+        createTask();
+        String ids = LongStream.range(id, id + 600).mapToObj(Long::toString).collect(Collectors.joining(","));
+
+        //Act
+        QueryCounter fields = count(get("/api/v1/tasks?fields=id,status"), 200);
+        // Ids past the end are neither live nor archived, so the due-date index cannot answer for them.
+        QueryCounter fewIds = count(get("/api/v1/tasks?ids=" + (id + 10_000) + "," + (id + 10_001)), 200);
+        QueryCounter manyIds = count(get("/api/v1/tasks?ids=" + ids), 200);
+
+        //Assert
+        assertAll(
+                () -> assertEquals(1, fields.count(), fields::toString),
+                () -> assertEquals(2, fewIds.count(), fewIds::toString),
+                () -> assertEquals(5, manyIds.count(), manyIds::toString));
+    }
+
+    @Test
+    @DisplayName("getStatusHistory runs 1 statement for a task with history")
+    void getStatusHistory() throws Exception {
+        //Arrange
+        long id = createTask();
+        mockMvc.perform(patch("/api/v1/tasks/" + id).contentType(MediaType.APPLICATION_JSON).content(STATUS_JSON));
+        awaitHistory(id);
+
+        //Act
+        QueryCounter counter = count(get("/api/v1/tasks/" + id + "/history"), 200);
+
+        //Assert
+        assertEquals(1, counter.count(), counter::toString);
+    }
+
+    @Test
+    @DisplayName("QueryCounting.count counts the statements of a single TaskService call")
+    void taskServiceCall() {
+        //Arrange
+        createTask();
+
+        //Act
+        QueryCounter counter = QueryCounting.count(() -> taskService.retrieveAllTasks(List.of("id", "status")));
+
+        //Assert
+        assertEquals(1, counter.count(), counter::toString);
+    }
+
+    private static final String TASK_JSON = """
+            {"title":"test title","description":"test description","status":"Not yet started",
+             "createdDate":"2025-01-01T01:01:01","dueDate":"2025-02-02T02:02:02"}""";
+    private static final String STATUS_JSON = """
+            {"status":"In progress"}""";
+
+    private QueryCounter count(RequestBuilder request, int expectedStatus) {
+        return QueryCounting.count(() -> {
+            try {
+                assertEquals(expectedStatus, mockMvc.perform(request).andReturn().getResponse().getStatus());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private long createTask() {
+        try {
+            MvcResult result = mockMvc.perform(post("/api/v1/tasks").contentType(MediaType.APPLICATION_JSON).content(TASK_JSON)).andReturn();
+            return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long createArchivedTask() {
+        long id = ARCHIVED_IDS.incrementAndGet();
+        LocalDateTime date = LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1);
+        archivedTaskRepository.save(new ArchivedTask(id, "test title", "Complete", date, date, date));
+        return id;
+    }
+
+    // The history is written in the background; wait for it so the count covers the usual case.
+    private void awaitHistory(long id) throws Exception {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            String history = mockMvc.perform(get("/api/v1/tasks/" + id + "/history")).andReturn().getResponse().getContentAsString();
+            if (!history.equals("[]")) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        fail("Status history for task " + id + " was not written");
+    }
+}
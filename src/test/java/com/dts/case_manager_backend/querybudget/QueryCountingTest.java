@@ -0,0 +1,78 @@
+package com.dts.case_manager_backend.querybudget;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCountingTest {
+
+    private static final String URL = "jdbc:h2:mem:query-counting-test";
+
+    @Test
+    @DisplayName("count records every statement run inside it, by SQL and with how often each ran")
+    void countsStatements() {
+        //Act
+        QueryCounter counter = QueryCounting.count(() -> {
+            try (Connection connection = QueryCounting.withStatementCounting(DriverManager.getConnection(URL));
+                 PreparedStatement prepared = connection.prepareStatement("select ?");
+                 Statement statement = connection.createStatement()) {
+                for (int i = 0; i < 3; i++) {
+                    prepared.setInt(1, i);
+                    prepared.executeQuery().close();
+                }
+                statement.execute("select  2");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        //Assert
+        assertEquals(4, counter.count());
+        assertEquals(Map.of("select ?", 3, "select 2", 1), counter.statements());
+    }
+
+    @Test
+    @DisplayName("Statements count towards every enclosing count")
+    void nestedCounts() {
+        //Arrange
+        QueryCounter[] inner = new QueryCounter[1];
+
+        //Act
+        QueryCounter outer = QueryCounting.count(() -> {
+            runSelect();
+            inner[0] = QueryCounting.count(QueryCountingTest::runSelect);
+        });
+
+        //Assert
+        assertEquals(2, outer.count());
+        assertEquals(1, inner[0].count());
+        assertNull(QueryCounting.current());
+    }
+
+    @Test
+    @DisplayName("Connections taken while nothing is counting are not wrapped")
+    void notCountingNotWrapped() throws Exception {
+        //Act
+        try (Connection connection = DriverManager.getConnection(URL)) {
+
+            //Assert
+            assertSame(connection, QueryCounting.withStatementCounting(connection));
+        }
+    }
+
+    private static void runSelect() {
+        try (Connection connection = QueryCounting.withStatementCounting(DriverManager.getConnection(URL));
+             Statement statement = connection.createStatement()) {
+            statement.execute("select 1");
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.dts.case_manager_backend.repository.memory;
+
+import com.dts.case_manager_backend.exception.TaskNotFoundException;
+import com.dts.case_manager_backend.model.StatusDTO;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskDTO;
+import com.dts.case_manager_backend.service.TaskService;
+import com.dts.case_manager_backend.service.TaskServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The memory profile as wired for requests, transactions included. Restarts replay a copy of the write-ahead log
+// into a new store, so the running context is left alone.
+@SpringBootTest
+@ActiveProfiles("memory")
+class InMemoryTaskServiceTest {
+    private static final Path WAL_DIRECTORY = temporaryDirectory();
+
+    @DynamicPropertySource
+    static void walPath(DynamicPropertyRegistry registry) {
+        registry.add("tasks.memory-store.wal-path", () -> WAL_DIRECTORY.resolve("tasks.wal").toString());
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskServiceImpl taskServiceImpl;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("createTask writes the task and its description in one log entry, and both survive a restart")
+    void createTaskIsAtomicAndDurable() throws IOException {
+        //Act
+        Task created = taskService.createTask(taskDTO("created", "x".repeat(5000)));
+
+        //Assert
+        List<TaskRecord> entries = logEntries(created.getId());
+        InMemoryTaskStore restarted = restart();
+        try {
+            assertAll(
+                    () -> assertEquals(1, entries.size()),
+                    () -> assertEquals("x".repeat(5000), entries.get(0).toTaskDescription().text()),
+                    () -> assertEquals("created", restarted.findById(created.getId(), TaskRecord::toTask).getTitle()),
+                    () -> assertEquals("x".repeat(5000), restarted.findById(created.getId(), TaskRecord::toTaskDescription).text()));
+        } finally {
+            restarted.close();
+        }
+    }
+
+    @Test
+    @DisplayName("updateTaskStatus keeps the description and deleteTask removes the task, both across a restart")
+    void updateAndDeleteAreDurable() throws IOException {
+        //Arrange
+        Task updated = taskService.createTask(taskDTO("updated", "kept description"));
+        Task deleted = taskService.createTask(taskDTO("deleted", "deleted description"));
+
+        //Act
+        Task returned = taskService.updateTaskStatus(updated.getId(), new StatusDTO("Complete"));
+        taskService.deleteTask(deleted.getId());
+
+        //Assert
+        InMemoryTaskStore restarted = restart();
+        try {
+            assertAll(
+                    () -> assertEquals("kept description", returned.getDescription()),
+                    () -> assertThrows(TaskNotFoundException.class, () -> taskService.retrieveTaskById(deleted.getId())),
+                    () -> assertEquals("Complete", restarted.findById(updated.getId(), TaskRecord::toTask).getStatus()),
+                    () -> assertEquals("kept description", restarted.findById(updated.getId(), TaskRecord::toTaskDescription).text()),
+                    () -> assertFalse(restarted.existsById(deleted.getId())));
+        } finally {
+            restarted.close();
+        }
+    }
+
+    @Test
+    @DisplayName("A transaction that fails after creating, updating and deleting tasks leaves the store as it was, also after a restart")
+    void rolledBackChangesAreUndone() throws IOException {
+        //Arrange
+        Task updated = taskService.createTask(taskDTO("updated in rolled back transaction", "updated description"));
+        Task deleted = taskService.createTask(taskDTO("deleted in rolled back transaction", "deleted description"));
+        List<Long> createdIds = new ArrayList<>();
+
+        //Act
+        assertThrows(TaskNotFoundException.class, () -> transactionTemplate.executeWithoutResult(transactionStatus -> {
+            createdIds.add(taskServiceImpl.createTask(taskDTO("created in rolled back transaction", "created description")).getId());
+            taskServiceImpl.updateTaskStatus(updated.getId(), new StatusDTO("Complete"));
+            taskServiceImpl.deleteTask(deleted.getId());
+            taskServiceImpl.updateTaskStatus(999_999L, new StatusDTO("Complete"));
+        }));
+
+        //Assert
+        InMemoryTaskStore restarted = restart();
+        try {
+            assertAll(
+                    () -> assertThrows(TaskNotFoundException.class, () -> taskService.retrieveTaskById(createdIds.get(0))),
+                    () -> assertEquals("In progress", taskService.retrieveTaskById(updated.getId()).getStatus()),
+                    () -> assertEquals("deleted description", taskService.retrieveTaskById(deleted.getId()).getDescription()),
+                    () -> assertFalse(restarted.existsById(createdIds.get(0))),
+                    () -> assertEquals("In progress", restarted.findById(updated.getId(), TaskRecord::toTask).getStatus()),
+                    () -> assertEquals("deleted description", restarted.findById(deleted.getId(), TaskRecord::toTaskDescription).text()));
+        } finally {
+            restarted.close();
+        }
+    }
+
+    private static InMemoryTaskStore restart() throws IOException {
+        return new InMemoryTaskStore(copyOfLog());
+    }
+
+    // Every put logged for the task, oldest first.
+    private static List<TaskRecord> logEntries(long id) throws IOException {
+        List<TaskRecord> entries = new ArrayList<>();
+        try (TaskWriteAheadLog writeAheadLog = new TaskWriteAheadLog(copyOfLog())) {
+            writeAheadLog.replay(record -> {
+                if (record.id() == id) {
+                    entries.add(record);
+                }
+            }, deletedId -> { });
+        }
+        return entries;
+    }
+
+    private static Path copyOfLog() throws IOException {
+        Path copy = Files.createTempDirectory(WAL_DIRECTORY, "restart").resolve("tasks.wal");
+        Files.copy(WAL_DIRECTORY.resolve("tasks.wal"), copy);
+        return copy;
+    }
+
+    private static Path temporaryDirectory() {
+        try {
+            return Files.createTempDirectory("in-memory-task-service");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static TaskDTO taskDTO(String title, String description) {
+        return new TaskDTO(title, description, "In progress",
+                LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1), LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2));
+    }
+}
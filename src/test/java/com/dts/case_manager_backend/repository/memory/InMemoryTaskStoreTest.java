@@ -0,0 +1,164 @@
+package com.dts.case_manager_backend.repository.memory;
+
+import com.dts.case_manager_backend.exception.InvalidDTOException;
+import com.dts.case_manager_backend.exception.TaskNotFoundException;
+import com.dts.case_manager_backend.model.StatusDTO;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskDTO;
+import com.dts.case_manager_backend.repository.ArchivedTaskRepository;
+import com.dts.case_manager_backend.service.TaskServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryTaskStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path walPath;
+    private InMemoryTaskStore taskStore;
+    private TaskServiceImpl taskServiceImpl;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        walPath = tempDir.resolve("tasks.wal");
+        open();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        taskStore.close();
+    }
+
+    @Test
+    @DisplayName("TaskServiceImpl creates, retrieves, updates and deletes tasks backed by the in-memory store")
+    void serviceRoundTrip() {
+        //Act
+        Task created = taskServiceImpl.createTask(taskDTO("test title", "test description", "Not yet started"));
+        Task updated = taskServiceImpl.updateTaskStatus(created.getId(), new StatusDTO("Complete"));
+        Task retrieved = taskServiceImpl.retrieveTaskById(created.getId());
+
+        //Assert
+        assertAll(
+                () -> assertEquals(1L, created.getId()),
+                () -> assertEquals("Complete", updated.getStatus()),
+                () -> assertEquals("test description", retrieved.getDescription()),
+                () -> assertEquals(LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2), retrieved.getDueDate()),
+                () -> assertEquals(List.of(Map.of("status", "Complete")), taskServiceImpl.retrieveAllTasks(List.of("status"))),
+                () -> assertThrows(InvalidDTOException.class, () -> taskServiceImpl.updateTaskStatus(created.getId(), new StatusDTO("hello"))),
+                () -> assertThrows(TaskNotFoundException.class, () -> taskServiceImpl.retrieveTaskById(99L)));
+
+        taskServiceImpl.deleteTask(created.getId());
+        assertAll(
+                () -> assertThrows(TaskNotFoundException.class, () -> taskServiceImpl.retrieveTaskById(created.getId())),
+                () -> assertThrows(TaskNotFoundException.class, () -> taskServiceImpl.deleteTask(created.getId())),
+                () -> assertTrue(taskServiceImpl.retrieveAllTasks().isEmpty()));
+    }
+
+    @Test
+    @DisplayName("Tasks, descriptions and deletes survive a restart through write-ahead log replay")
+    void replaysWriteAheadLog() throws IOException {
+        //Arrange
+        Task kept = taskServiceImpl.createTask(taskDTO("kept", "x".repeat(5000), "In progress"));
+        Task deleted = taskServiceImpl.createTask(taskDTO("deleted", "", "In progress"));
+        taskServiceImpl.updateTaskStatus(kept.getId(), new StatusDTO("Complete"));
+        taskServiceImpl.deleteTask(deleted.getId());
+
+        //Act
+        taskStore.close();
+        open();
+        Task next = taskServiceImpl.createTask(taskDTO("next", "", "In progress"));
+
+        //Assert
+        Task replayed = taskServiceImpl.retrieveTaskById(kept.getId());
+        assertAll(
+                () -> assertEquals("Complete", replayed.getStatus()),
+                () -> assertEquals("x".repeat(5000), replayed.getDescription()),
+                () -> assertFalse(taskStore.existsById(deleted.getId())),
+                () -> assertEquals(3L, next.getId()),
+                () -> assertEquals(List.of(kept.getId()), taskStore.findIdsByStatus("Complete")));
+    }
+
+    @Test
+    @DisplayName("A torn entry at the end of the write-ahead log is discarded on replay")
+    void discardsTornTail() throws IOException {
+        //Arrange
+        taskServiceImpl.createTask(taskDTO("test title", "", "In progress"));
+        taskStore.close();
+        Files.write(walPath, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        //Act
+        open();
+
+        //Assert
+        assertEquals(1L, taskStore.count());
+    }
+
+    @Test
+    @DisplayName("findIdsByDueDateBetween uses the due date index with inclusive bounds")
+    void dueDateIndex() {
+        //Arrange
+        for (int day = 1; day <= 5; day++) {
+            taskStore.save(Task.builder()
+                    .title("day " + day)
+                    .status("In progress")
+                    .createdDate(LocalDateTime.of(2025, Month.JANUARY, 1, 0, 0))
+                    .dueDate(LocalDateTime.of(2025, Month.MARCH, day, 12, 0))
+                    .build());
+        }
+
+        //Act
+        List<Long> ids = taskStore.findIdsByDueDateBetween(LocalDateTime.of(2025, Month.MARCH, 2, 12, 0), LocalDateTime.of(2025, Month.MARCH, 4, 12, 0));
+
+        //Assert
+        assertEquals(List.of(2L, 3L, 4L), ids.stream().sorted().toList());
+    }
+
+    private void open() throws IOException {
+        taskStore = new InMemoryTaskStore(walPath);
+        InMemoryTaskRepository taskRepository = new InMemoryTaskRepository();
+        taskRepository.taskStore = taskStore;
+        InMemoryTaskDescriptionRepository taskDescriptionRepository = new InMemoryTaskDescriptionRepository();
+        taskDescriptionRepository.taskStore = taskStore;
+
+        taskServiceImpl = new TaskServiceImpl();
+        ReflectionTestUtils.setField(taskServiceImpl, "taskRepository", taskRepository);
+        ReflectionTestUtils.setField(taskServiceImpl, "taskDescriptionRepository", taskDescriptionRepository);
+        ReflectionTestUtils.setField(taskServiceImpl, "archivedTaskRepository", mock(ArchivedTaskRepository.class));
+        ReflectionTestUtils.setField(taskServiceImpl, "eventPublisher", mock(ApplicationEventPublisher.class));
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        ReflectionTestUtils.setField(taskServiceImpl, "transactionTemplate", transactionTemplate);
+    }
+
+    private TaskDTO taskDTO(String title, String description, String status) {
+        return new TaskDTO(
+                title,
+                description,
+                status,
+                LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1),
+                LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2));
+    }
+}
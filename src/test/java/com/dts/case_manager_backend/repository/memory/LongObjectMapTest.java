@@ -0,0 +1,51 @@
+package com.dts.case_manager_backend.repository.memory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongObjectMapTest {
+
+    @Test
+    @DisplayName("LongObjectMap matches HashMap through random puts, removes and resizes")
+    void matchesHashMap() {
+        //Arrange
+        LongObjectMap<String> map = new LongObjectMap<>(4);
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        //Act
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+            }
+        }
+
+        //Assert
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 5_000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        Map<Long, String> iterated = new HashMap<>();
+        map.forEach((value, key) -> iterated.put(key, value));
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    @DisplayName("LongObjectMap rejects ids that are not positive")
+    void rejectsNonPositiveIds() {
+        //Arrange
+        LongObjectMap<String> map = new LongObjectMap<>(4);
+
+        //Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, "zero"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.circuitbreaker.CircuitBreaker;
+import com.dts.case_manager_backend.exception.DatabaseUnavailableException;
+import com.dts.case_manager_backend.exception.TaskNotFoundException;
+import com.dts.case_manager_backend.model.StatusDTO;
+import com.dts.case_manager_backend.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CircuitBreakerTaskServiceTest {
+
+    @Mock
+    private BulkheadTaskService mockBulkheadTaskService;
+
+    private CircuitBreakerTaskService circuitBreakerTaskService;
+
+    private Task task;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        circuitBreakerTaskService = new CircuitBreakerTaskService();
+        circuitBreakerTaskService.bulkheadTaskService = mockBulkheadTaskService;
+        circuitBreakerTaskService.taskDatabaseCircuitBreaker = new CircuitBreaker(2, 60_000, System::nanoTime);
+        circuitBreakerTaskService.taskStaleCache = new TaskStaleCache(100);
+        circuitBreakerTaskService.slowCallThreshold = Duration.ofSeconds(2);
+
+        task = Task.builder().id(1L).title("test title").description("test description").status("In progress").build();
+    }
+
+    @Test
+    @DisplayName("retrieveTaskById returns the last value read when the database fails")
+    void retrieveTaskByIdFallsBackToLastKnown() {
+        //Arrange
+        when(mockBulkheadTaskService.retrieveTaskById(1L))
+                .thenReturn(task)
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        circuitBreakerTaskService.retrieveTaskById(1L);
+
+        //Act
+        Task result = circuitBreakerTaskService.retrieveTaskById(1L);
+
+        //Assert
+        assertEquals(1L, result.getId());
+        assertEquals("test description", result.getDescription());
+        assertNotSame(task, result);
+    }
+
+    @Test
+    @DisplayName("retrieveTaskById throws DatabaseUnavailableException when the database fails and nothing is cached")
+    void retrieveTaskByIdWithoutLastKnown() {
+        //Arrange
+        when(mockBulkheadTaskService.retrieveTaskById(1L)).thenThrow(new CannotCreateTransactionException("timed out"));
+
+        //Act & Assert
+        assertThrows(DatabaseUnavailableException.class, () -> circuitBreakerTaskService.retrieveTaskById(1L));
+    }
+
+    @Test
+    @DisplayName("Once the breaker is open writes fail fast without reaching the database, and list reads are served from cache")
+    void openBreakerFailsWritesFast() {
+        //Arrange
+        when(mockBulkheadTaskService.retrieveAllTasks())
+                .thenReturn(List.of(task))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        circuitBreakerTaskService.retrieveAllTasks();
+        circuitBreakerTaskService.retrieveAllTasks();
+        circuitBreakerTaskService.retrieveAllTasks();
+
+        //Act & Assert
+        assertThrows(DatabaseUnavailableException.class, () -> circuitBreakerTaskService.updateTaskStatus(1L, new StatusDTO("Completed")));
+        assertEquals(1, circuitBreakerTaskService.retrieveAllTasks().size());
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerTaskService.taskDatabaseCircuitBreaker.getState());
+        verify(mockBulkheadTaskService, never()).updateTaskStatus(anyLong(), any());
+        verify(mockBulkheadTaskService, times(3)).retrieveAllTasks();
+    }
+
+    @Test
+    @DisplayName("Application errors such as a missing task do not count as database failures")
+    void applicationErrorsDoNotOpenBreaker() {
+        //Arrange
+        when(mockBulkheadTaskService.retrieveTaskById(9L)).thenThrow(new TaskNotFoundException("Task not found"));
+
+        //Act
+        for (int i = 0; i < 5; i++) {
+            assertThrows(TaskNotFoundException.class, () -> circuitBreakerTaskService.retrieveTaskById(9L));
+        }
+
+        //Assert
+        assertTrue(circuitBreakerTaskService.taskDatabaseCircuitBreaker.isClosed());
+    }
+}
@@ -0,0 +1,158 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.exception.BulkheadFullException;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.exception.TaskNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskChangeWaitersTest {
+
+    @Mock
+    private TaskService mockTaskService;
+
+    @InjectMocks
+    private TaskChangeWaiters taskChangeWaiters;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(mockTaskService.retrieveTaskById(1L)).thenReturn(Task.builder().id(1L).status("Complete").build());
+    }
+
+    @Test
+    @DisplayName("onTaskChanged moves the task's version past every earlier version, leaving other tasks alone")
+    void changesAdvanceVersion() {
+        //Arrange
+        long initial = taskChangeWaiters.version(1L);
+
+        //Act
+        taskChangeWaiters.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, Task.builder().id(1L).build()));
+
+        //Assert
+        assertTrue(taskChangeWaiters.version(1L) > initial);
+        assertEquals(initial, taskChangeWaiters.version(2L));
+    }
+
+    @Test
+    @DisplayName("awaitChangeAfter completes with the reloaded task when it changes, and not when another task or an archive does")
+    void awaitChangeAfterWakesOnChange() throws Exception {
+        //Arrange
+        long version = taskChangeWaiters.version(1L);
+        CompletableFuture<TaskChangeWaiters.Change> waiter = taskChangeWaiters.awaitChangeAfter(1L, version);
+
+        //Act
+        taskChangeWaiters.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, Task.builder().id(2L).build()));
+        taskChangeWaiters.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.ARCHIVED, Task.builder().id(1L).build()));
+        boolean doneBeforeChange = waiter.isDone();
+        taskChangeWaiters.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, Task.builder().id(1L).build()));
+
+        //Assert
+        assertFalse(doneBeforeChange);
+        TaskChangeWaiters.Change change = waiter.get(5, TimeUnit.SECONDS);
+        assertEquals(taskChangeWaiters.version(1L), change.version());
+        assertEquals("Complete", change.task().getStatus());
+        assertEquals(0, taskChangeWaiters.waiting());
+    }
+
+    @Test
+    @DisplayName("Every request waiting on a change is completed by one reload of the task")
+    void oneReloadPerChange() throws Exception {
+        //Arrange
+        long version = taskChangeWaiters.version(1L);
+        List<CompletableFuture<TaskChangeWaiters.Change>> waiters = IntStream.range(0, 200)
+                .mapToObj(i -> taskChangeWaiters.awaitChangeAfter(1L, version))
+                .toList();
+
+        //Act
+        taskChangeWaiters.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, Task.builder().id(1L).build()));
+
+        //Assert
+        TaskChangeWaiters.Change first = waiters.get(0).get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<TaskChangeWaiters.Change> waiter : waiters) {
+            assertSame(first, waiter.get(5, TimeUnit.SECONDS));
+        }
+        verify(mockTaskService, times(1)).retrieveTaskById(1L);
+    }
+
+    @Test
+    @DisplayName("A failed reload completes every waiter exceptionally with its exception")
+    void failedReloadFailsWaiters() {
+        //Arrange
+        when(mockTaskService.retrieveTaskById(2L)).thenThrow(new TaskNotFoundException("deleted"));
+        long version = taskChangeWaiters.version(2L);
+        CompletableFuture<TaskChangeWaiters.Change> waiter = taskChangeWaiters.awaitChangeAfter(2L, version);
+
+        //Act
+        taskChangeWaiters.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.DELETED, Task.builder().id(2L).build()));
+
+        //Assert
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TaskNotFoundException.class, failure.getCause());
+    }
+
+    @Test
+    @DisplayName("awaitChangeAfter completes without waiting for a change when the task's version is already past the one supplied")
+    void awaitChangeAfterAlreadyChanged() throws Exception {
+        //Arrange
+        long version = taskChangeWaiters.version(1L);
+
+        //Act
+        CompletableFuture<TaskChangeWaiters.Change> waiter = taskChangeWaiters.awaitChangeAfter(1L, version - 1);
+
+        //Assert
+        assertEquals(0, taskChangeWaiters.waiting());
+        assertEquals(version, waiter.get(5, TimeUnit.SECONDS).version());
+    }
+
+    @Test
+    @DisplayName("Only max-versions tasks keep their own version, and a dropped version still wakes a client holding an older one")
+    void versionsAreBounded() throws Exception {
+        //Arrange
+        taskChangeWaiters.maxVersions = 2;
+        long initial = taskChangeWaiters.version(1L);
+        taskChangeWaiters.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, Task.builder().id(1L).build()));
+        long held = taskChangeWaiters.version(1L);
+        taskChangeWaiters.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, Task.builder().id(1L).build()));
+        long dropped = taskChangeWaiters.version(1L);
+
+        //Act
+        taskChangeWaiters.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, Task.builder().id(2L).build()));
+        taskChangeWaiters.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, Task.builder().id(3L).build()));
+        CompletableFuture<TaskChangeWaiters.Change> waiter = taskChangeWaiters.awaitChangeAfter(1L, held);
+
+        //Assert
+        assertEquals(dropped, taskChangeWaiters.version(1L));
+        assertEquals(dropped, taskChangeWaiters.version(4L));
+        assertTrue(taskChangeWaiters.version(3L) > taskChangeWaiters.version(2L));
+        assertTrue(dropped > initial);
+        assertEquals(dropped, waiter.get(5, TimeUnit.SECONDS).version());
+    }
+
+    @Test
+    @DisplayName("awaitChangeAfter throws BulkheadFullException once max-waiters requests are waiting, and cancel frees a place")
+    void awaitChangeAfterMaxWaiters() {
+        //Arrange
+        taskChangeWaiters.maxWaiters = 1;
+        long version = taskChangeWaiters.version(1L);
+        CompletableFuture<TaskChangeWaiters.Change> waiter = taskChangeWaiters.awaitChangeAfter(1L, version);
+
+        //Act & Assert
+        assertThrows(BulkheadFullException.class, () -> taskChangeWaiters.awaitChangeAfter(2L, version));
+        taskChangeWaiters.cancel(1L, waiter);
+        assertDoesNotThrow(() -> taskChangeWaiters.awaitChangeAfter(2L, version));
+    }
+}
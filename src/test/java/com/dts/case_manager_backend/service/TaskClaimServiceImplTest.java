@@ -0,0 +1,162 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.exception.InvalidDTOException;
+import com.dts.case_manager_backend.exception.TaskClaimNotFoundException;
+import com.dts.case_manager_backend.model.ClaimDTO;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskClaim;
+import com.dts.case_manager_backend.model.TaskLease;
+import com.dts.case_manager_backend.repository.TaskClaimRepository;
+import com.dts.case_manager_backend.repository.TaskLeaseRepository;
+import com.dts.case_manager_backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskClaimServiceImplTest {
+
+    @Mock
+    private TaskClaimRepository mockTaskClaimRepository;
+
+    @Mock
+    private TaskLeaseRepository mockTaskLeaseRepository;
+
+    @Mock
+    private TaskRepository mockTaskRepository;
+
+    @Mock
+    private TransactionTemplate mockTransactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher mockEventPublisher;
+
+    @InjectMocks
+    private TaskClaimServiceImpl taskClaimServiceImpl;
+
+    private Task task;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(mockTransactionTemplate.execute(Mockito.any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doCallRealMethod().when(mockTransactionTemplate).executeWithoutResult(Mockito.any());
+        when(mockTaskLeaseRepository.save(Mockito.any(TaskLease.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        task = Task.builder()
+                .id(1L)
+                .title("test title")
+                .status("In progress")
+                .createdDate(LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1))
+                .dueDate(LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2))
+                .build();
+    }
+
+    @Test
+    @DisplayName("claimNextTask moves the next queued task to In progress and leases it to the worker")
+    void claimNextTask() {
+        //Arrange
+        when(mockTaskClaimRepository.claimNext("Not yet started", "In progress")).thenReturn(Optional.of(1L));
+        when(mockTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        //Act
+        LocalDateTime before = LocalDateTime.now();
+        Optional<TaskClaim> claim = taskClaimServiceImpl.claimNextTask(new ClaimDTO("worker-1", 60L));
+
+        //Assert
+        ArgumentCaptor<TaskLease> leaseCaptor = ArgumentCaptor.forClass(TaskLease.class);
+        verify(mockTaskLeaseRepository).save(leaseCaptor.capture());
+        assertAll(
+                () -> assertTrue(claim.isPresent()),
+                () -> assertEquals(task, claim.get().task()),
+                () -> assertEquals("worker-1", leaseCaptor.getValue().getWorker()),
+                () -> assertFalse(leaseCaptor.getValue().getExpiresAt().isBefore(before.plusSeconds(60))),
+                () -> assertEquals(leaseCaptor.getValue().getExpiresAt(), claim.get().leaseExpiresAt()));
+        verify(mockEventPublisher).publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, task));
+    }
+
+    @Test
+    @DisplayName("claimNextTask returns empty when no task is queued")
+    void claimNextTaskEmptyQueue() {
+        //Arrange
+        when(mockTaskClaimRepository.claimNext("Not yet started", "In progress")).thenReturn(Optional.empty());
+
+        //Act & Assert
+        assertTrue(taskClaimServiceImpl.claimNextTask(new ClaimDTO("worker-1", null)).isEmpty());
+        verify(mockTaskLeaseRepository, never()).save(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("claimNextTask throws InvalidDTOException without a worker or with a lease out of range")
+    void claimNextTaskInvalid() {
+        //Act & Assert
+        assertAll(
+                () -> assertThrows(InvalidDTOException.class, () -> taskClaimServiceImpl.claimNextTask(new ClaimDTO(" ", null))),
+                () -> assertThrows(InvalidDTOException.class, () -> taskClaimServiceImpl.claimNextTask(new ClaimDTO("worker-1", 0L))),
+                () -> assertThrows(InvalidDTOException.class, () -> taskClaimServiceImpl.claimNextTask(new ClaimDTO("worker-1", 3601L))));
+        verify(mockTaskClaimRepository, never()).claimNext(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("renewClaim throws TaskClaimNotFoundException when the worker holds no active lease")
+    void renewClaimNotHeld() {
+        //Arrange
+        when(mockTaskLeaseRepository.renew(eq(1L), eq("worker-2"), Mockito.any(), Mockito.any())).thenReturn(0);
+
+        //Act & Assert
+        assertThrows(TaskClaimNotFoundException.class, () -> taskClaimServiceImpl.renewClaim(1L, new ClaimDTO("worker-2", null)));
+    }
+
+    @Test
+    @DisplayName("releaseClaim puts the task back in the queue")
+    void releaseClaim() {
+        //Arrange
+        when(mockTaskLeaseRepository.release(1L, "worker-1")).thenReturn(1);
+        when(mockTaskClaimRepository.compareAndSetStatus(1L, "In progress", "Not yet started")).thenReturn(true);
+        when(mockTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        //Act
+        taskClaimServiceImpl.releaseClaim(1L, "worker-1");
+
+        //Assert
+        verify(mockTaskClaimRepository).compareAndSetStatus(1L, "In progress", "Not yet started");
+        verify(mockEventPublisher).publishEvent(Mockito.any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("reapExpiredClaims requeues expired leases and skips leases renewed in the meantime")
+    void reapExpiredClaims() {
+        //Arrange
+        TaskLease expired = new TaskLease(1L, "worker-1", LocalDateTime.now().minusMinutes(10), LocalDateTime.now().minusMinutes(5));
+        TaskLease renewed = new TaskLease(2L, "worker-2", LocalDateTime.now().minusMinutes(10), LocalDateTime.now().minusMinutes(5));
+
+        when(mockTaskLeaseRepository.findTop500ByExpiresAtBeforeOrderByExpiresAt(Mockito.any())).thenReturn(List.of(expired, renewed)).thenReturn(List.of());
+        when(mockTaskLeaseRepository.deleteIfExpired(eq(1L), Mockito.any())).thenReturn(1);
+        when(mockTaskLeaseRepository.deleteIfExpired(eq(2L), Mockito.any())).thenReturn(0);
+        when(mockTaskClaimRepository.compareAndSetStatus(1L, "In progress", "Not yet started")).thenReturn(true);
+        when(mockTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        //Act
+        int reaped = taskClaimServiceImpl.reapExpiredClaims();
+
+        //Assert
+        assertEquals(1, reaped);
+        verify(mockTaskClaimRepository, never()).compareAndSetStatus(eq(2L), Mockito.any(), Mockito.any());
+    }
+}
@@ -0,0 +1,62 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.Task;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskDueDateIndexTest {
+    private static final LocalDateTime DUE = LocalDateTime.of(2025, Month.MARCH, 3, 12, 0);
+
+    private final TaskDueDateIndex taskDueDateIndex = new TaskDueDateIndex();
+
+    @Test
+    @DisplayName("findDueBetween returns tasks in due date then id order, within the half-open range")
+    void findDueBetweenOrdersTasks() {
+        //Arrange
+        index(3L, DUE.plusHours(1));
+        index(2L, DUE);
+        index(1L, DUE);
+        index(4L, DUE.plusDays(1));
+
+        //Act
+        List<Task> tasks = taskDueDateIndex.findDueBetween(DUE, DUE.plusDays(1));
+
+        //Assert
+        assertEquals(List.of(1L, 2L, 3L), tasks.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Tasks returned by findDueBetween and findById are copies, so changing them leaves the index alone")
+    void returnedTasksAreCopies() {
+        //Arrange
+        index(1L, DUE);
+
+        //Act
+        Task inRange = taskDueDateIndex.findDueBetween(DUE, DUE.plusDays(1)).get(0);
+        inRange.setStatus("Complete");
+        inRange.setDescription("changed by a caller");
+        taskDueDateIndex.findById(1L).orElseThrow().setDueDate(DUE.plusDays(7));
+
+        //Assert
+        Task indexed = taskDueDateIndex.findDueBetween(DUE, DUE.plusDays(1)).get(0);
+        assertAll(
+                () -> assertEquals("In progress", indexed.getStatus()),
+                () -> assertNull(indexed.getDescription()),
+                () -> assertEquals(DUE, indexed.getDueDate()));
+    }
+
+    private void index(Long id, LocalDateTime dueDate) {
+        taskDueDateIndex.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.CREATED, Task.builder()
+                .id(id)
+                .title("task " + id)
+                .status("In progress")
+                .dueDate(dueDate)
+                .build()));
+    }
+}
@@ -0,0 +1,247 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.exception.InvalidDTOException;
+import com.dts.case_manager_backend.exception.TaskImportNotFoundException;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskImport;
+import com.dts.case_manager_backend.model.TaskImportFormat;
+import com.dts.case_manager_backend.model.TaskImportReject;
+import com.dts.case_manager_backend.model.TaskImportResult;
+import com.dts.case_manager_backend.repository.TaskBatchWriter;
+import com.dts.case_manager_backend.repository.TaskImportRejectRepository;
+import com.dts.case_manager_backend.repository.TaskImportRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+class TaskImportServiceImplTest {
+
+    @Mock
+    private TaskImportRepository mockTaskImportRepository;
+
+    @Mock
+    private TaskImportRejectRepository mockTaskImportRejectRepository;
+
+    @Mock
+    private TaskBatchWriter mockTaskBatchWriter;
+
+    @Mock
+    private TransactionTemplate mockTransactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher mockEventPublisher;
+
+    @Spy
+    private TaskServiceImpl taskService = new TaskServiceImpl();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @InjectMocks
+    private TaskImportServiceImpl taskImportServiceImpl;
+
+    private final List<Task> writtenTasks = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        when(mockTransactionTemplate.execute(Mockito.any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(mockTaskImportRepository.save(Mockito.any(TaskImport.class))).thenAnswer(invocation -> {
+            TaskImport taskImport = invocation.getArgument(0);
+            if (taskImport.getId() == null) {
+                taskImport.setId(1L);
+            }
+            return taskImport;
+        });
+        doAnswer(invocation -> {
+            writtenTasks.addAll(invocation.getArgument(0));
+            return null;
+        }).when(mockTaskBatchWriter).write(Mockito.anyList());
+    }
+
+    @Test
+    @DisplayName("startImport writes valid CSV rows and records invalid ones as rejects")
+    void startImportCsv() {
+        //Arrange
+        String csv = """
+                title,status,createdDate,dueDate,description
+                test title,In progress,2025-01-01T01:01:01,2025-02-02T02:02:02,"a description, with a comma"
+                ,In progress,2025-01-01T01:01:01,2025-02-02T02:02:02,
+                test title,hello,2025-01-01T01:01:01,2025-02-02T02:02:02,
+                test title,Complete,not a date,2025-02-02T02:02:02,
+
+                "multi
+                line title",Complete,2025-01-01T01:01:01,2025-02-02T02:02:02,""";
+
+        //Act
+        TaskImportResult result = taskImportServiceImpl.startImport(TaskImportFormat.CSV, upload(csv));
+
+        //Assert
+        assertAll(
+                () -> assertEquals(TaskImport.Status.COMPLETE, result.status()),
+                () -> assertEquals(5, result.rowsProcessed()),
+                () -> assertEquals(2, result.accepted()),
+                () -> assertEquals(3, result.rejected()),
+                () -> assertEquals(List.of(2L, 3L, 4L), result.rejects().stream().map(TaskImportReject::getRowNumber).toList()),
+                () -> assertEquals("a description, with a comma", writtenTasks.get(0).getDescription()),
+                () -> assertEquals(LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2), writtenTasks.get(0).getDueDate()),
+                () -> assertEquals("multi\nline title", writtenTasks.get(1).getTitle()),
+                () -> assertEquals("", writtenTasks.get(1).getDescription()));
+    }
+
+    @Test
+    @DisplayName("startImport reads NDJSON rows and rejects malformed lines")
+    void startImportNdjson() {
+        //Arrange
+        String ndjson = """
+                {"title":"test title","status":"Complete","createdDate":"2025-01-01T01:01:01","dueDate":"2025-02-02T02:02:02"}
+                {"title":"test title",
+                {"title":"test title","status":"Complete"}
+                """;
+
+        //Act
+        TaskImportResult result = taskImportServiceImpl.startImport(TaskImportFormat.NDJSON, upload(ndjson));
+
+        //Assert
+        assertAll(
+                () -> assertEquals(3, result.rowsProcessed()),
+                () -> assertEquals(1, result.accepted()),
+                () -> assertEquals(2, result.rejected()),
+                () -> assertEquals(1, writtenTasks.size()));
+    }
+
+    @Test
+    @DisplayName("startImport commits in fixed-size batches and publishes a TaskChangedEvent per imported task")
+    void startImportBatches() {
+        //Arrange
+        StringBuilder ndjson = new StringBuilder();
+        int rows = TaskImportServiceImpl.BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < rows; i++) {
+            ndjson.append("{\"title\":\"t").append(i).append("\",\"status\":\"Complete\",\"createdDate\":\"2025-01-01T01:01:01\",\"dueDate\":\"2025-02-02T02:02:02\"}\n");
+        }
+
+        //Act
+        TaskImportResult result = taskImportServiceImpl.startImport(TaskImportFormat.NDJSON, upload(ndjson.toString()));
+
+        //Assert
+        verify(mockTaskBatchWriter, times(3)).write(Mockito.anyList());
+        verify(mockEventPublisher, times(rows)).publishEvent(Mockito.any(TaskChangedEvent.class));
+        assertEquals(rows, result.accepted());
+    }
+
+    @Test
+    @DisplayName("startImport marks the import FAILED with the last committed row count when a batch fails to commit")
+    void startImportBatchCommitFails() {
+        //Arrange
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < TaskImportServiceImpl.BATCH_SIZE * 2; i++) {
+            ndjson.append("{\"title\":\"t").append(i).append("\",\"status\":\"Complete\",\"createdDate\":\"2025-01-01T01:01:01\",\"dueDate\":\"2025-02-02T02:02:02\"}\n");
+        }
+        doAnswer(invocation -> {
+            writtenTasks.addAll(invocation.getArgument(0));
+            return null;
+        }).doThrow(new DataAccessResourceFailureException("connection lost"))
+                .when(mockTaskBatchWriter).write(Mockito.anyList());
+        ArgumentCaptor<TaskImport> saved = ArgumentCaptor.forClass(TaskImport.class);
+
+        //Act
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> taskImportServiceImpl.startImport(TaskImportFormat.NDJSON, upload(ndjson.toString())));
+
+        //Assert
+        verify(mockTaskImportRepository, atLeastOnce()).save(saved.capture());
+        TaskImport failed = saved.getValue();
+        assertAll(
+                () -> assertEquals(TaskImport.Status.FAILED, failed.getStatus()),
+                () -> assertEquals(TaskImportServiceImpl.BATCH_SIZE, failed.getRowsProcessed()),
+                () -> assertEquals(TaskImportServiceImpl.BATCH_SIZE, failed.getAccepted()));
+    }
+
+    @Test
+    @DisplayName("resumeImport skips the rows committed by the earlier run")
+    void resumeImportSkipsCommittedRows() {
+        //Arrange
+        TaskImport failedImport = TaskImport.builder()
+                .id(1L)
+                .format(TaskImportFormat.CSV)
+                .status(TaskImport.Status.FAILED)
+                .rowsProcessed(2)
+                .accepted(2)
+                .build();
+        String csv = """
+                title,status,createdDate,dueDate
+                t1,Complete,2025-01-01T01:01:01,2025-02-02T02:02:02
+                t2,Complete,2025-01-01T01:01:01,2025-02-02T02:02:02
+                t3,Complete,2025-01-01T01:01:01,2025-02-02T02:02:02
+                """;
+
+        when(mockTaskImportRepository.findById(1L)).thenReturn(Optional.of(failedImport));
+
+        //Act
+        TaskImportResult result = taskImportServiceImpl.resumeImport(1L, TaskImportFormat.CSV, upload(csv));
+
+        //Assert
+        assertAll(
+                () -> assertEquals(TaskImport.Status.COMPLETE, result.status()),
+                () -> assertEquals(3, result.rowsProcessed()),
+                () -> assertEquals(3, result.accepted()),
+                () -> assertEquals(List.of("t3"), writtenTasks.stream().map(Task::getTitle).toList()));
+    }
+
+    @Test
+    @DisplayName("resumeImport throws InvalidDTOException when the upload format differs from the original")
+    void resumeImportDifferentFormat() {
+        //Arrange
+        TaskImport failedImport = TaskImport.builder().id(1L).format(TaskImportFormat.CSV).status(TaskImport.Status.FAILED).build();
+
+        when(mockTaskImportRepository.findById(1L)).thenReturn(Optional.of(failedImport));
+
+        //Act & Assert
+        assertThrows(InvalidDTOException.class, () -> taskImportServiceImpl.resumeImport(1L, TaskImportFormat.NDJSON, upload("")));
+    }
+
+    @Test
+    @DisplayName("startImport throws InvalidDTOException when the CSV header is missing a mandatory column")
+    void startImportInvalidHeader() {
+        //Act & Assert
+        assertThrows(InvalidDTOException.class, () -> taskImportServiceImpl.startImport(TaskImportFormat.CSV, upload("title,status\n")));
+    }
+
+    @Test
+    @DisplayName("retrieveImport throws TaskImportNotFoundException when input id is not found in database")
+    void retrieveImportNotFound() {
+        //Arrange
+        when(mockTaskImportRepository.findById(1L)).thenReturn(Optional.empty());
+
+        //Act & Assert
+        assertThrows(TaskImportNotFoundException.class, () -> taskImportServiceImpl.retrieveImport(1L));
+    }
+
+    private ByteArrayInputStream upload(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,109 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.StatusDTO;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskDTO;
+import com.dts.case_manager_backend.model.TaskInvalidationStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Plays a second node by changing tasks and appending log entries directly, as that node's TaskInvalidationLog would.
+@SpringBootTest(properties = {"tasks.invalidation-log.enabled=true", "tasks.invalidation-log.poll-interval=PT0.05S"})
+class TaskInvalidationLogTest {
+    private static final String OTHER_NODE = "other-node";
+
+    @Autowired
+    private TaskInvalidationLog taskInvalidationLog;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskDueDateIndex taskDueDateIndex;
+
+    @Autowired
+    private TaskChangeWaiters taskChangeWaiters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Local changes are logged once each with this node as origin and are not applied again")
+    void localChangesAreLoggedNotApplied() throws InterruptedException {
+        //Arrange
+        long applied = taskInvalidationLog.stats().applied();
+
+        //Act
+        Task task = createTask();
+        taskService.updateTaskStatus(task.getId(), new StatusDTO("Complete"));
+        Thread.sleep(300);
+
+        //Assert
+        List<String> logged = jdbcTemplate.queryForList(
+                "select type from task_invalidation_log where task_id = ? and origin = ? order by id", String.class,
+                task.getId(), taskInvalidationLog.stats().nodeId());
+        assertEquals(List.of("CREATED", "UPDATED"), logged);
+        assertEquals(applied, taskInvalidationLog.stats().applied());
+    }
+
+    @Test
+    @DisplayName("Another node's change is applied to this node's in-process copies and its lag is reported")
+    void remoteChangeIsApplied() {
+        //Arrange
+        Task task = createTask();
+        long version = taskChangeWaiters.version(task.getId());
+
+        //Act
+        jdbcTemplate.update("update tasks set status = 'Complete' where id = ?", task.getId());
+        jdbcTemplate.update("insert into task_invalidation_log (task_id, type, origin, logged_at) values (?, 'UPDATED', ?, localtimestamp)",
+                task.getId(), OTHER_NODE);
+
+        //Assert
+        // Listeners are called one after another, and the stats updated after them, so each is awaited rather than checked once.
+        awaitTrue(() -> taskDueDateIndex.findById(task.getId()).map(Task::getStatus).orElse("").equals("Complete"));
+        awaitTrue(() -> taskChangeWaiters.version(task.getId()) > version);
+        awaitTrue(() -> taskInvalidationLog.stats().applied() >= 1);
+        TaskInvalidationStats stats = taskInvalidationLog.stats();
+        assertAll(
+                () -> assertTrue(stats.maxLagMillis() >= stats.lagP99Millis()),
+                () -> assertEquals(0, stats.pendingGaps()));
+    }
+
+    @Test
+    @DisplayName("Another node's delete removes the task from this node's in-process copies")
+    void remoteDeleteIsApplied() {
+        //Arrange
+        Task task = createTask();
+        awaitTrue(() -> taskDueDateIndex.findById(task.getId()).isPresent());
+
+        //Act
+        jdbcTemplate.update("update tasks set deleted_date = localtimestamp where id = ?", task.getId());
+        jdbcTemplate.update("insert into task_invalidation_log (task_id, type, origin, logged_at) values (?, 'DELETED', ?, localtimestamp)",
+                task.getId(), OTHER_NODE);
+
+        //Assert
+        awaitTrue(() -> taskDueDateIndex.findById(task.getId()).isEmpty());
+    }
+
+    private Task createTask() {
+        return taskService.createTask(new TaskDTO("Shared", "Task changed on two nodes", "In progress",
+                LocalDateTime.now(), LocalDateTime.now().plusDays(3)));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within 5 s");
+            Thread.onSpinWait();
+        }
+    }
+}
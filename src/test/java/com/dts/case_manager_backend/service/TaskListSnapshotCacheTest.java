@@ -0,0 +1,74 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskListSnapshotCacheTest {
+
+    @Mock
+    private TaskServiceImpl mockTaskService;
+
+    private TaskListSnapshotCache taskListSnapshotCache;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        taskListSnapshotCache = new TaskListSnapshotCache();
+        taskListSnapshotCache.taskService = mockTaskService;
+        taskListSnapshotCache.objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    @DisplayName("mutations only mark the snapshot stale, and the next read rebuilds it once")
+    void rebuildsOnceOnNextRead() {
+        //Arrange
+        when(mockTaskService.retrieveAllTasks()).thenReturn(List.of(Task.builder().id(1L).build()));
+        TaskListSnapshot first = taskListSnapshotCache.current();
+
+        //Act
+        taskListSnapshotCache.onTaskChanged(updated());
+        taskListSnapshotCache.onTaskChanged(updated());
+        taskListSnapshotCache.onTaskChanged(updated());
+        verify(mockTaskService, times(1)).retrieveAllTasks();
+        TaskListSnapshot second = taskListSnapshotCache.current();
+        TaskListSnapshot third = taskListSnapshotCache.current();
+
+        //Assert
+        assertNotSame(first, second);
+        assertSame(second, third);
+        verify(mockTaskService, times(2)).retrieveAllTasks();
+    }
+
+    @Test
+    @DisplayName("a failed rebuild returns null from current but keeps the last snapshot for lastPublished")
+    void failedRebuildKeepsLastPublished() {
+        //Arrange
+        when(mockTaskService.retrieveAllTasks())
+                .thenReturn(List.of())
+                .thenThrow(new IllegalStateException("database down"));
+        TaskListSnapshot first = taskListSnapshotCache.current();
+
+        //Act
+        taskListSnapshotCache.onTaskChanged(updated());
+        TaskListSnapshot rebuilt = taskListSnapshotCache.current();
+
+        //Assert
+        assertNull(rebuilt);
+        assertSame(first, taskListSnapshotCache.lastPublished());
+    }
+
+    private static TaskChangedEvent updated() {
+        return new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, Task.builder().id(1L).build());
+    }
+}
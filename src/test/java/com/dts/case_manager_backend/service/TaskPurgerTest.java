@@ -0,0 +1,96 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.TaskPurgeStats;
+import com.dts.case_manager_backend.repository.TaskTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskPurgerTest {
+
+    @Mock
+    private TaskTombstoneRepository mockTaskTombstoneRepository;
+
+    @Mock
+    private TransactionTemplate mockTransactionTemplate;
+
+    @InjectMocks
+    private TaskPurger taskPurger;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(mockTransactionTemplate.execute(Mockito.any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        taskPurger.batchSize = 2;
+        taskPurger.maxRowsPerSecond = 1000;
+    }
+
+    @Test
+    @DisplayName("purgeTombstones deletes tombstoned tasks and their descriptions batch by batch until a batch comes up short")
+    void purgeTombstonesInBatches() {
+        //Arrange
+        when(mockTaskTombstoneRepository.findTombstonedIds(2)).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(mockTaskTombstoneRepository.deleteTombstoned(List.of(1L, 2L))).thenReturn(2);
+        when(mockTaskTombstoneRepository.deleteTombstoned(List.of(3L))).thenReturn(1);
+
+        //Act
+        long purged = taskPurger.purgeTombstones();
+        TaskPurgeStats stats = taskPurger.stats();
+
+        //Assert
+        assertEquals(3L, purged);
+        verify(mockTaskTombstoneRepository).deleteDescriptions(List.of(1L, 2L));
+        verify(mockTaskTombstoneRepository).deleteDescriptions(List.of(3L));
+        verify(mockTransactionTemplate, times(2)).execute(Mockito.any());
+        assertAll(
+                () -> assertEquals(3L, stats.purged()),
+                () -> assertEquals(3L, stats.lastRunPurged()),
+                () -> assertNotNull(stats.lastRunAt()));
+    }
+
+    @Test
+    @DisplayName("purgeTombstones paces full batches to the configured rate")
+    void purgeTombstonesRateLimited() {
+        //Arrange
+        taskPurger.maxRowsPerSecond = 20;
+        when(mockTaskTombstoneRepository.findTombstonedIds(2)).thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of());
+        when(mockTaskTombstoneRepository.deleteTombstoned(Mockito.anyList())).thenReturn(2);
+
+        //Act
+        long started = System.nanoTime();
+        long purged = taskPurger.purgeTombstones();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        //Assert
+        assertEquals(4L, purged);
+        assertTrue(elapsedMillis >= 200, "two full batches of 2 at 20 rows/s take at least 200 ms, took " + elapsedMillis);
+    }
+
+    @Test
+    @DisplayName("stats reports the tombstone backlog")
+    void statsBacklog() {
+        //Arrange
+        when(mockTaskTombstoneRepository.countTombstoned()).thenReturn(42L);
+        when(mockTaskTombstoneRepository.findOldestDeletedDate()).thenReturn(Optional.empty());
+
+        //Act
+        TaskPurgeStats stats = taskPurger.stats();
+
+        //Assert
+        assertEquals(42L, stats.backlog());
+        assertNull(stats.oldestDeletedDate());
+    }
+}
@@ -0,0 +1,150 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.exception.InvalidDTOException;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskStatusReport;
+import com.dts.case_manager_backend.model.TaskWeekReport;
+import com.dts.case_manager_backend.model.ArchivedTask;
+import com.dts.case_manager_backend.repository.ArchivedTaskRepository;
+import com.dts.case_manager_backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskReportServiceImplTest {
+
+    @Mock
+    private TaskRepository mockTaskRepository;
+
+    @Mock
+    private ArchivedTaskRepository mockArchivedTaskRepository;
+
+    @InjectMocks
+    private TaskColumnarMirror taskColumnarMirror;
+
+    private TaskReportServiceImpl taskReportServiceImpl;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        taskReportServiceImpl = new TaskReportServiceImpl();
+        taskReportServiceImpl.taskColumnarMirror = taskColumnarMirror;
+
+        when(mockTaskRepository.findAllFields(anyList())).thenReturn(List.of(
+                Map.of("id", 1L, "status", "In progress", "createdDate", date(Month.JANUARY, 1), "dueDate", date(Month.MARCH, 3)),
+                Map.of("id", 2L, "status", "Complete", "createdDate", date(Month.JANUARY, 1), "dueDate", date(Month.MARCH, 9))));
+        taskColumnarMirror.load();
+    }
+
+    @Test
+    @DisplayName("reportByWeek counts tasks per status in Monday-based due date weeks")
+    void reportByWeekDueDate() {
+        //Arrange
+        taskColumnarMirror.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.CREATED, task(3L, "In progress", date(Month.MARCH, 10))));
+
+        //Act
+        List<TaskWeekReport> report = taskReportServiceImpl.reportByWeek("dueDate", LocalDate.of(2025, Month.MARCH, 5), LocalDate.of(2025, Month.MARCH, 16));
+
+        //Assert
+        assertEquals(List.of(
+                new TaskWeekReport(LocalDate.of(2025, Month.MARCH, 3), Map.of("In progress", 1L, "Complete", 1L)),
+                new TaskWeekReport(LocalDate.of(2025, Month.MARCH, 10), Map.of("In progress", 1L, "Complete", 0L))), report);
+    }
+
+    @Test
+    @DisplayName("The mirror applies updates and deletes published by the task service")
+    void appliesTaskChangedEvents() {
+        //Act
+        taskColumnarMirror.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, task(1L, "Complete", date(Month.MARCH, 3))));
+        taskColumnarMirror.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.DELETED, task(2L, "Complete", date(Month.MARCH, 9))));
+
+        //Assert
+        assertEquals(1L, taskColumnarMirror.count());
+        assertEquals(List.of(new TaskStatusReport("In progress", 0L, 0L), new TaskStatusReport("Complete", 1L, 1L)), taskReportServiceImpl.reportByStatus());
+        verify(mockTaskRepository, times(1)).findAllFields(anyList());
+    }
+
+    @Test
+    @DisplayName("The mirror keeps archived tasks, loading the archive on startup and ignoring ARCHIVED events")
+    void keepsArchivedTasks() {
+        //Arrange
+        when(mockArchivedTaskRepository.findAll()).thenReturn(List.of(
+                new ArchivedTask(4L, "test title", "Complete", date(Month.JANUARY, 1), date(Month.FEBRUARY, 1), date(Month.JUNE, 1))));
+
+        //Act
+        taskColumnarMirror.load();
+        taskColumnarMirror.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.ARCHIVED, task(2L, "Complete", date(Month.MARCH, 9))));
+
+        //Assert
+        assertEquals(3L, taskColumnarMirror.count());
+        assertEquals(List.of(new TaskStatusReport("In progress", 1L, 1L), new TaskStatusReport("Complete", 2L, 2L)), taskReportServiceImpl.reportByStatus());
+    }
+
+    @Test
+    @DisplayName("A task id too large for the mirror sends reports to the repository until that task is deleted")
+    void outOfRangeIdReadsRepository() {
+        //Arrange
+        Task large = task(Integer.MAX_VALUE + 1L, "Blocked", null);
+        when(mockTaskRepository.findAllFields(anyList())).thenReturn(List.of(
+                Map.of("id", 1L, "status", "In progress", "createdDate", date(Month.JANUARY, 1), "dueDate", date(Month.MARCH, 3)),
+                Map.of("id", 2L, "status", "Complete", "createdDate", date(Month.JANUARY, 1), "dueDate", date(Month.MARCH, 9)),
+                Map.of("id", large.getId(), "status", "Blocked", "createdDate", date(Month.JANUARY, 1))));
+
+        //Act
+        taskColumnarMirror.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.CREATED, large));
+        List<TaskStatusReport> withLargeId = taskReportServiceImpl.reportByStatus();
+        List<TaskWeekReport> byWeek = taskReportServiceImpl.reportByWeek("createdDate", LocalDate.of(2024, Month.DECEMBER, 30), LocalDate.of(2024, Month.DECEMBER, 30));
+        taskColumnarMirror.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.DELETED, large));
+        List<TaskStatusReport> afterDelete = taskReportServiceImpl.reportByStatus();
+
+        //Assert
+        assertAll(
+                () -> assertEquals(List.of(new TaskStatusReport("In progress", 1L, 1L), new TaskStatusReport("Complete", 1L, 1L),
+                        new TaskStatusReport("Blocked", 1L, 0L)), withLargeId),
+                () -> assertEquals(List.of(new TaskWeekReport(LocalDate.of(2024, Month.DECEMBER, 30),
+                        Map.of("In progress", 1L, "Complete", 1L, "Blocked", 1L))), byWeek),
+                () -> assertEquals(List.of(new TaskStatusReport("In progress", 1L, 1L), new TaskStatusReport("Complete", 1L, 1L),
+                        new TaskStatusReport("Blocked", 0L, 0L)), afterDelete),
+                () -> verify(mockTaskRepository, times(3)).findAllFields(anyList()));
+    }
+
+    @Test
+    @DisplayName("reportByWeek buckets by created date when asked")
+    void reportByWeekCreatedDate() {
+        //Act
+        List<TaskWeekReport> report = taskReportServiceImpl.reportByWeek("createdDate", LocalDate.of(2024, Month.DECEMBER, 30), LocalDate.of(2024, Month.DECEMBER, 30));
+
+        //Assert
+        assertEquals(List.of(new TaskWeekReport(LocalDate.of(2024, Month.DECEMBER, 30), Map.of("In progress", 1L, "Complete", 1L))), report);
+    }
+
+    @Test
+    @DisplayName("reportByWeek throws InvalidDTOException for an unknown date field or an invalid range")
+    void reportByWeekInvalid() {
+        //Act & Assert
+        assertAll(
+                () -> assertThrows(InvalidDTOException.class, () -> taskReportServiceImpl.reportByWeek("title", LocalDate.of(2025, Month.MARCH, 1), LocalDate.of(2025, Month.MARCH, 2))),
+                () -> assertThrows(InvalidDTOException.class, () -> taskReportServiceImpl.reportByWeek("dueDate", LocalDate.of(2025, Month.MARCH, 2), LocalDate.of(2025, Month.MARCH, 1))),
+                () -> assertThrows(InvalidDTOException.class, () -> taskReportServiceImpl.reportByWeek("dueDate", LocalDate.of(2000, Month.MARCH, 1), LocalDate.of(2025, Month.MARCH, 1))));
+    }
+
+    private static LocalDateTime date(Month month, int day) {
+        return LocalDateTime.of(2025, month, day, 9, 0);
+    }
+
+    private static Task task(Long id, String status, LocalDateTime dueDate) {
+        return Task.builder().id(id).title("test title").status(status).createdDate(date(Month.JANUARY, 1)).dueDate(dueDate).build();
+    }
+}
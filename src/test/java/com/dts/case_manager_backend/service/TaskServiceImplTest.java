@@ -1,17 +1,30 @@
 package com.dts.case_manager_backend.service;
 
+import com.dts.case_manager_backend.exception.BulkheadFullException;
 import com.dts.case_manager_backend.exception.InvalidDTOException;
 import com.dts.case_manager_backend.exception.TaskNotFoundException;
+import com.dts.case_manager_backend.model.ArchivedTask;
 import com.dts.case_manager_backend.model.StatusDTO;
 import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskCalendarDay;
+import com.dts.case_manager_backend.model.TaskDescription;
 import com.dts.case_manager_backend.model.TaskDTO;
+import com.dts.case_manager_backend.model.TaskFieldsLookupResult;
+import com.dts.case_manager_backend.model.TaskLookupResult;
+import com.dts.case_manager_backend.repository.ArchivedTaskRepository;
+import com.dts.case_manager_backend.repository.TaskDescriptionRepository;
 import com.dts.case_manager_backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -19,11 +32,18 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @DataJpaTest
@@ -32,9 +52,35 @@ class TaskServiceImplTest {
     @Mock
     private TaskRepository mockTaskRepository;
 
+    @Mock
+    private TaskDescriptionRepository mockTaskDescriptionRepository;
+
+    @Mock
+    private ArchivedTaskRepository mockArchivedTaskRepository;
+
+    @Mock
+    private ApplicationEventPublisher mockEventPublisher;
+
+    @Mock
+    private TaskDueDateIndex mockTaskDueDateIndex;
+
+    @Mock
+    private TaskStatusHistoryWriter mockTaskStatusHistoryWriter;
+
+    @Mock
+    private TransactionTemplate mockTransactionTemplate;
+
     @InjectMocks
     private TaskServiceImpl taskServiceImpl;
 
+    @BeforeEach
+    void setup() {
+        when(mockTransactionTemplate.execute(Mockito.any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(mockTaskStatusHistoryWriter.withReservation(Mockito.any())).thenAnswer(invocation ->
+                invocation.<Function<TaskStatusHistoryWriter.Reservation, ?>>getArgument(0).apply(null));
+    }
+
     @Test
     @DisplayName("createTask returns created task when passed valid TaskDTO")
     void createTaskValidDTO() {
@@ -299,6 +345,7 @@ class TaskServiceImplTest {
                 .build();
 
         when(mockTaskRepository.findById(1L)).thenReturn(Optional.of(expectedTask));
+        when(mockTaskDescriptionRepository.findById(1L)).thenReturn(Optional.of(TaskDescription.of(1L, "test description")));
 
         //Act
         Task returnedTask = taskServiceImpl.retrieveTaskById(1L);
@@ -519,6 +566,17 @@ class TaskServiceImplTest {
                 () -> assertThrows(InvalidDTOException.class, () -> taskServiceImpl.updateTaskStatus(1L, statusDTO7)));
     }
 
+    @Test
+    @DisplayName("updateTaskStatus rejects an invalid status without reading the task")
+    void updateTaskStatusInvalidStatusSkipsDatabase() {
+        //Arrange
+        StatusDTO statusDTO = new StatusDTO("hello");
+
+        //Act & Assert
+        assertThrows(InvalidDTOException.class, () -> taskServiceImpl.updateTaskStatus(1L, statusDTO));
+        verifyNoInteractions(mockTaskRepository);
+    }
+
     @Test
     @DisplayName("updateTaskStatus throws TaskNotFoundException when passed id which does not exist in database")
     void updateTaskStatusIdDoesNotExist() {
@@ -553,12 +611,28 @@ class TaskServiceImplTest {
                 .build();
 
         when(mockTaskRepository.findById(1L)).thenReturn(Optional.of(taskToDelete));
-        doNothing().when(mockTaskRepository).deleteById(1L);
+        when(mockTaskRepository.markDeleted(Mockito.eq(1L), Mockito.any(LocalDateTime.class))).thenReturn(1);
 
         //Act & Assert
         assertDoesNotThrow(() -> taskServiceImpl.deleteTask(1L));
     }
 
+    @Test
+    @DisplayName("deleteTask tombstones the task in one statement without reading or deleting any row")
+    void deleteTaskTombstones() {
+        //Arrange
+        when(mockTaskRepository.markDeleted(Mockito.eq(1L), Mockito.any(LocalDateTime.class))).thenReturn(1);
+
+        //Act
+        taskServiceImpl.deleteTask(1L);
+
+        //Assert
+        verify(mockTaskRepository, never()).findById(1L);
+        verify(mockTaskRepository, never()).deleteById(1L);
+        verify(mockTaskDescriptionRepository, never()).deleteById(1L);
+        verifyNoInteractions(mockArchivedTaskRepository);
+    }
+
     @Test
     @DisplayName("deleteTask throws TaskNotFoundException id does not exist in database")
     void deleteTaskIdDoesNotExist() {
@@ -568,4 +642,431 @@ class TaskServiceImplTest {
         //Act & Assert
         assertThrows(TaskNotFoundException.class, () -> taskServiceImpl.deleteTask(1L));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("createTask, updateTaskStatus and deleteTask publish a TaskChangedEvent for the affected task")
+    void mutationsPublishTaskChangedEvents() {
+        //Arrange
+        Task task = Task.builder()
+                .id(1L)
+                .title("test title")
+                .description("test description")
+                .status("Not yet started")
+                .createdDate(LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1))
+                .dueDate(LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2))
+                .build();
+
+        TaskDTO inputTaskDTO = new TaskDTO(
+                "test title",
+                "test description",
+                "Not yet started",
+                LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1),
+                LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2));
+
+        when(mockTaskRepository.save(Mockito.any(Task.class))).thenReturn(task);
+        when(mockTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(mockTaskRepository.markDeleted(Mockito.eq(1L), Mockito.any(LocalDateTime.class))).thenReturn(1);
+
+        //Act
+        taskServiceImpl.createTask(inputTaskDTO);
+        taskServiceImpl.updateTaskStatus(1L, new StatusDTO("Complete"));
+        taskServiceImpl.deleteTask(1L);
+
+        //Assert
+        verify(mockEventPublisher).publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.CREATED, task));
+        verify(mockEventPublisher).publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, task));
+        verify(mockEventPublisher).publishEvent(Mockito.<Object>argThat(event ->
+                event instanceof TaskChangedEvent changed
+                        && changed.type() == TaskChangedEvent.Type.DELETED
+                        && changed.taskId().equals(1L)));
+    }
+
+    @Test
+    @DisplayName("updateTaskStatus publishes a TaskStatusChangedEvent with the previous and new status")
+    void updateTaskStatusPublishesStatusChange() {
+        //Arrange
+        Task task = Task.builder()
+                .id(1L)
+                .title("test title")
+                .status("Not yet started")
+                .build();
+
+        when(mockTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(mockTaskRepository.save(task)).thenReturn(task);
+
+        //Act
+        taskServiceImpl.updateTaskStatus(1L, new StatusDTO("Complete"));
+
+        //Assert
+        verify(mockEventPublisher).publishEvent(Mockito.<Object>argThat(event ->
+                event instanceof TaskStatusChangedEvent change
+                        && change.taskId().equals(1L)
+                        && change.fromStatus().equals("Not yet started")
+                        && change.toStatus().equals("Complete")
+                        && change.actor() != null
+                        && change.changedAt() != null));
+    }
+
+    @Test
+    @DisplayName("updateTaskStatus changes nothing when the status history queue is full")
+    void updateTaskStatusHistoryQueueFull() {
+        //Arrange
+        Task task = Task.builder()
+                .id(1L)
+                .title("test title")
+                .status("Not yet started")
+                .build();
+
+        when(mockTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+        Mockito.doThrow(new BulkheadFullException("full")).when(mockTaskStatusHistoryWriter).withReservation(Mockito.any());
+
+        //Act & Assert
+        assertThrows(BulkheadFullException.class, () -> taskServiceImpl.updateTaskStatus(1L, new StatusDTO("Complete")));
+        verify(mockTaskRepository, never()).save(Mockito.any(Task.class));
+        verify(mockEventPublisher, never()).publishEvent(Mockito.any(Object.class));
+    }
+
+    @Test
+    @DisplayName("updateTaskStatus does not publish a TaskChangedEvent when the status is invalid")
+    void updateTaskStatusInvalidStatusPublishesNothing() {
+        //Arrange
+        Task task = Task.builder()
+                .id(1L)
+                .title("test title")
+                .status("Not yet started")
+                .build();
+
+        when(mockTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        //Act & Assert
+        assertThrows(InvalidDTOException.class, () -> taskServiceImpl.updateTaskStatus(1L, new StatusDTO("hello")));
+        verify(mockEventPublisher, never()).publishEvent(Mockito.any(Object.class));
+    }
+
+    @Test
+    @DisplayName("retrieveAllTasks with fields returns the projection for the trimmed, de-duplicated fields")
+    void retrieveAllTasksFields() {
+        //Arrange
+        List<Map<String, Object>> expectedTasks = List.of(Map.of("id", 1L, "title", "test title"));
+
+        when(mockTaskRepository.findAllFields(List.of("id", "title"))).thenReturn(expectedTasks);
+
+        //Act
+        List<Map<String, Object>> returnedTasks = taskServiceImpl.retrieveAllTasks(List.of("id", " title", "id"));
+
+        //Assert
+        assertEquals(expectedTasks, returnedTasks);
+    }
+
+    @Test
+    @DisplayName("retrieveAllTasks and retrieveTaskById throw InvalidDTOException when passed unknown or no fields")
+    void retrieveTasksInvalidFields() {
+        //Act & Assert
+        assertAll(
+                () -> assertThrows(InvalidDTOException.class, () -> taskServiceImpl.retrieveAllTasks(List.of("id", "password"))),
+                () -> assertThrows(InvalidDTOException.class, () -> taskServiceImpl.retrieveAllTasks(List.of())),
+                () -> assertThrows(InvalidDTOException.class, () -> taskServiceImpl.retrieveTaskById(1L, List.of(""))));
+    }
+
+    @Test
+    @DisplayName("retrieveTaskById with fields throws TaskNotFoundException when input id is not found in database")
+    void retrieveTaskByIdFieldsNotFound() {
+        //Arrange
+        when(mockTaskRepository.findFieldsById(1L, List.of("title"))).thenReturn(Optional.empty());
+
+        //Act & Assert
+        assertThrows(TaskNotFoundException.class, () -> taskServiceImpl.retrieveTaskById(1L, List.of("title")));
+    }
+
+    @Test
+    @DisplayName("createTask stores descriptions over the threshold compressed and returns them uncompressed")
+    void createTaskLargeDescriptionCompressed() {
+        //Arrange
+        String largeDescription = "test description ".repeat(500);
+        TaskDTO inputTaskDTO = new TaskDTO(
+                "test title",
+                largeDescription,
+                "In progress",
+                LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1),
+                LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2));
+
+        when(mockTaskRepository.save(Mockito.any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(1L);
+            return task;
+        });
+
+        //Act
+        Task returnedTask = taskServiceImpl.createTask(inputTaskDTO);
+
+        //Assert
+        ArgumentCaptor<TaskDescription> storedDescription = ArgumentCaptor.forClass(TaskDescription.class);
+        verify(mockTaskDescriptionRepository).save(storedDescription.capture());
+
+        assertAll(
+                () -> assertEquals(largeDescription, returnedTask.getDescription()),
+                () -> assertEquals(1L, storedDescription.getValue().getTaskId()),
+                () -> assertTrue(storedDescription.getValue().isCompressed()),
+                () -> assertTrue(storedDescription.getValue().getContent().length < largeDescription.length()),
+                () -> assertEquals(largeDescription, storedDescription.getValue().text()));
+    }
+
+    @Test
+    @DisplayName("createTask does not store a description row for an empty description")
+    void createTaskEmptyDescriptionNotStored() {
+        //Arrange
+        TaskDTO inputTaskDTO = new TaskDTO(
+                "test title",
+                null,
+                "In progress",
+                LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1),
+                LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2));
+
+        when(mockTaskRepository.save(Mockito.any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        //Act
+        taskServiceImpl.createTask(inputTaskDTO);
+
+        //Assert
+        verify(mockTaskDescriptionRepository, never()).save(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("retrieveTaskDescription returns the stored description, or an empty one when none is stored")
+    void retrieveTaskDescription() {
+        //Arrange
+        when(mockTaskRepository.existsById(1L)).thenReturn(true);
+        when(mockTaskRepository.existsById(2L)).thenReturn(true);
+        when(mockTaskDescriptionRepository.findById(1L)).thenReturn(Optional.of(TaskDescription.of(1L, "test description")));
+        when(mockTaskDescriptionRepository.findById(2L)).thenReturn(Optional.empty());
+
+        //Act & Assert
+        assertAll(
+                () -> assertEquals("test description", taskServiceImpl.retrieveTaskDescription(1L)),
+                () -> assertEquals("", taskServiceImpl.retrieveTaskDescription(2L)));
+    }
+
+    @Test
+    @DisplayName("retrieveTaskDescription throws TaskNotFoundException when input id is not found in database")
+    void retrieveTaskDescriptionNotFound() {
+        //Arrange
+        when(mockTaskRepository.existsById(1L)).thenReturn(false);
+
+        //Act & Assert
+        assertThrows(TaskNotFoundException.class, () -> taskServiceImpl.retrieveTaskDescription(1L));
+    }
+
+    @Test
+    @DisplayName("retrieveCalendar groups tasks from the due date index by day")
+    void retrieveCalendarFromIndex() {
+        //Arrange
+        Task first = Task.builder().id(1L).title("first").status("In progress").dueDate(LocalDateTime.of(2025, Month.MARCH, 3, 9, 0)).build();
+        Task second = Task.builder().id(2L).title("second").status("In progress").dueDate(LocalDateTime.of(2025, Month.MARCH, 3, 17, 0)).build();
+        Task third = Task.builder().id(3L).title("third").status("Complete").dueDate(LocalDateTime.of(2025, Month.MARCH, 5, 9, 0)).build();
+
+        when(mockTaskDueDateIndex.isReady()).thenReturn(true);
+        when(mockTaskDueDateIndex.findDueBetween(LocalDateTime.of(2025, Month.MARCH, 1, 0, 0), LocalDateTime.of(2025, Month.APRIL, 1, 0, 0))).thenReturn(List.of(first, second, third));
+
+        //Act
+        List<TaskCalendarDay> calendar = taskServiceImpl.retrieveCalendar(LocalDate.of(2025, Month.MARCH, 1), LocalDate.of(2025, Month.MARCH, 31));
+
+        //Assert
+        assertEquals(List.of(
+                new TaskCalendarDay(LocalDate.of(2025, Month.MARCH, 3), List.of(first, second)),
+                new TaskCalendarDay(LocalDate.of(2025, Month.MARCH, 5), List.of(third))), calendar);
+        verify(mockTaskRepository, never()).findAllDueBetween(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("retrieveCalendar falls back to the due date range query while the index is not ready")
+    void retrieveCalendarFallback() {
+        //Arrange
+        Task task = Task.builder().id(1L).title("first").status("In progress").dueDate(LocalDateTime.of(2025, Month.MARCH, 3, 9, 0)).build();
+
+        when(mockTaskDueDateIndex.isReady()).thenReturn(false);
+        when(mockTaskRepository.findAllDueBetween(LocalDateTime.of(2025, Month.MARCH, 3, 0, 0), LocalDateTime.of(2025, Month.MARCH, 4, 0, 0))).thenReturn(List.of(task));
+
+        //Act
+        List<TaskCalendarDay> calendar = taskServiceImpl.retrieveCalendar(LocalDate.of(2025, Month.MARCH, 3), LocalDate.of(2025, Month.MARCH, 3));
+
+        //Assert
+        assertEquals(List.of(new TaskCalendarDay(LocalDate.of(2025, Month.MARCH, 3), List.of(task))), calendar);
+    }
+
+    @Test
+    @DisplayName("retrieveAllTasks, retrieveCalendar and updateTaskStatus return tasks with their descriptions, read in one IN query")
+    void fullTasksIncludeDescriptions() {
+        //Arrange
+        LocalDateTime due = LocalDateTime.of(2025, Month.MARCH, 3, 9, 0);
+        Task first = Task.builder().id(1L).title("first").status("In progress").dueDate(due).build();
+        Task second = Task.builder().id(2L).title("second").status("In progress").dueDate(due).build();
+
+        when(mockTaskRepository.findAll()).thenReturn(List.of(first, second));
+        when(mockTaskDescriptionRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(TaskDescription.of(1L, "first description")));
+        when(mockTaskDueDateIndex.isReady()).thenReturn(true);
+        when(mockTaskDueDateIndex.findDueBetween(Mockito.any(), Mockito.any())).thenReturn(List.of(
+                Task.builder().id(1L).title("first").status("In progress").dueDate(due).build(),
+                Task.builder().id(2L).title("second").status("In progress").dueDate(due).build()));
+        when(mockTaskRepository.findById(1L)).thenReturn(Optional.of(first));
+        when(mockTaskRepository.save(first)).thenReturn(first);
+        when(mockTaskDescriptionRepository.findById(1L)).thenReturn(Optional.of(TaskDescription.of(1L, "first description")));
+
+        //Act
+        List<Task> all = taskServiceImpl.retrieveAllTasks();
+        List<Task> calendar = taskServiceImpl.retrieveCalendar(due.toLocalDate(), due.toLocalDate()).get(0).tasks();
+        Task updated = taskServiceImpl.updateTaskStatus(1L, new StatusDTO("Complete"));
+
+        //Assert
+        assertAll(
+                () -> assertEquals(List.of("first description", ""), all.stream().map(Task::getDescription).toList()),
+                () -> assertEquals(List.of("first description", ""), calendar.stream().map(Task::getDescription).toList()),
+                () -> assertEquals("first description", updated.getDescription()));
+        verify(mockTaskDescriptionRepository, times(2)).findAllById(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("retrieveCalendar throws InvalidDTOException when the range runs backwards or is longer than a year")
+    void retrieveCalendarInvalidRange() {
+        //Act & Assert
+        assertAll(
+                () -> assertThrows(InvalidDTOException.class, () -> taskServiceImpl.retrieveCalendar(LocalDate.of(2025, Month.MARCH, 3), LocalDate.of(2025, Month.MARCH, 2))),
+                () -> assertThrows(InvalidDTOException.class, () -> taskServiceImpl.retrieveCalendar(LocalDate.of(2025, Month.MARCH, 3), LocalDate.of(2026, Month.MARCH, 4))));
+    }
+
+    @Test
+    @DisplayName("retrieveTasksByIds resolves cached tasks first, loads the rest in one query and keeps request order")
+    void retrieveTasksByIds() {
+        //Arrange
+        Task cached = Task.builder().id(2L).title("cached").status("In progress").build();
+        Task loaded = Task.builder().id(1L).title("loaded").status("Complete").build();
+
+        when(mockTaskDueDateIndex.isReady()).thenReturn(true);
+        when(mockTaskDueDateIndex.findById(2L)).thenReturn(Optional.of(cached));
+        when(mockTaskDueDateIndex.findById(1L)).thenReturn(Optional.empty());
+        when(mockTaskDueDateIndex.findById(3L)).thenReturn(Optional.empty());
+        when(mockTaskRepository.findAllById(List.of(1L, 3L))).thenReturn(List.of(loaded));
+        when(mockTaskDescriptionRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(TaskDescription.of(1L, "test description")));
+
+        //Act
+        TaskLookupResult result = taskServiceImpl.retrieveTasksByIds(List.of(2L, 1L, 3L, 2L));
+
+        //Assert
+        assertAll(
+                () -> assertEquals(List.of(2L, 1L), result.tasks().stream().map(Task::getId).toList()),
+                () -> assertEquals("", result.tasks().get(0).getDescription()),
+                () -> assertEquals("test description", result.tasks().get(1).getDescription()),
+                () -> assertEquals(List.of(3L), result.missingIds()));
+    }
+
+    @Test
+    @DisplayName("retrieveTasksByIds with fields returns only those fields and reads no descriptions unless asked for")
+    void retrieveTasksByIdsFields() {
+        //Arrange
+        Task loaded = Task.builder().id(1L).title("loaded").status("Complete").build();
+
+        when(mockTaskRepository.findAllById(List.of(1L, 3L))).thenReturn(List.of(loaded));
+
+        //Act
+        TaskFieldsLookupResult result = taskServiceImpl.retrieveTasksByIds(List.of(1L, 3L), List.of("title", "id"));
+
+        //Assert
+        assertAll(
+                () -> assertEquals(List.of(Map.of("title", "loaded", "id", 1L)), result.tasks()),
+                () -> assertEquals(List.of("title", "id"), List.copyOf(result.tasks().get(0).keySet())),
+                () -> assertEquals(List.of(3L), result.missingIds()),
+                () -> assertThrows(InvalidDTOException.class, () -> taskServiceImpl.retrieveTasksByIds(List.of(1L), List.of("owner"))));
+        verifyNoInteractions(mockTaskDescriptionRepository);
+    }
+
+    @Test
+    @DisplayName("retrieveTasksByIds throws InvalidDTOException when no ids or too many ids are supplied")
+    void retrieveTasksByIdsInvalid() {
+        //Act & Assert
+        assertAll(
+                () -> assertThrows(InvalidDTOException.class, () -> taskServiceImpl.retrieveTasksByIds(List.of())),
+                () -> assertThrows(InvalidDTOException.class, () -> taskServiceImpl.retrieveTasksByIds(LongStream.rangeClosed(1, 1001).boxed().toList())));
+    }
+
+    @Test
+    @DisplayName("retrieveTaskById falls through to the archive when the task is not in the tasks table")
+    void retrieveTaskByIdArchived() {
+        //Arrange
+        ArchivedTask archivedTask = new ArchivedTask(1L, "test title", "Complete",
+                LocalDateTime.of(2024, Month.JANUARY, 1, 1, 1, 1),
+                LocalDateTime.of(2024, Month.FEBRUARY, 2, 2, 2, 2),
+                LocalDateTime.of(2024, Month.JUNE, 1, 0, 0));
+
+        when(mockTaskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(mockArchivedTaskRepository.findById(1L)).thenReturn(Optional.of(archivedTask));
+        when(mockTaskDescriptionRepository.findById(1L)).thenReturn(Optional.of(TaskDescription.of(1L, "test description")));
+
+        //Act
+        Task returnedTask = taskServiceImpl.retrieveTaskById(1L);
+        Map<String, Object> returnedFields = taskServiceImpl.retrieveTaskById(1L, List.of("title", "description"));
+
+        //Assert
+        assertAll(
+                () -> assertEquals(1L, returnedTask.getId()),
+                () -> assertEquals("Complete", returnedTask.getStatus()),
+                () -> assertEquals("test description", returnedTask.getDescription()),
+                () -> assertEquals(archivedTask.getDueDate(), returnedTask.getDueDate()),
+                () -> assertEquals(Map.of("title", "test title", "description", "test description"), returnedFields));
+    }
+
+    @Test
+    @DisplayName("retrieveTasksByIds looks up ids missing from the tasks table in the archive")
+    void retrieveTasksByIdsArchived() {
+        //Arrange
+        Task hot = Task.builder().id(1L).title("hot").status("In progress").build();
+        ArchivedTask archived = new ArchivedTask(2L, "archived", "Complete", null, null, LocalDateTime.of(2024, Month.JUNE, 1, 0, 0));
+
+        when(mockTaskRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(hot));
+        when(mockArchivedTaskRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(archived));
+
+        //Act
+        TaskLookupResult result = taskServiceImpl.retrieveTasksByIds(List.of(1L, 2L, 3L));
+
+        //Assert
+        assertAll(
+                () -> assertEquals(List.of(1L, 2L), result.tasks().stream().map(Task::getId).toList()),
+                () -> assertEquals("archived", result.tasks().get(1).getTitle()),
+                () -> assertEquals(List.of(3L), result.missingIds()));
+    }
+
+    @Test
+    @DisplayName("updateTaskStatus moves an archived task back into the tasks table before updating it")
+    void updateTaskStatusArchived() {
+        //Arrange
+        Task restored = Task.builder().id(1L).title("test title").status("Complete").build();
+
+        when(mockTaskRepository.findById(1L)).thenReturn(Optional.empty(), Optional.of(restored));
+        when(mockArchivedTaskRepository.copyToTasks(1L)).thenReturn(1);
+        when(mockTaskRepository.save(restored)).thenReturn(restored);
+
+        //Act
+        Task returnedTask = taskServiceImpl.updateTaskStatus(1L, new StatusDTO("In progress"));
+
+        //Assert
+        assertEquals("In progress", returnedTask.getStatus());
+        verify(mockArchivedTaskRepository).deleteById(1L);
+        verify(mockEventPublisher).publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, restored));
+    }
+
+    @Test
+    @DisplayName("deleteTask deletes an archived task from the archive")
+    void deleteTaskArchived() {
+        //Arrange
+        ArchivedTask archived = new ArchivedTask(1L, "test title", "Complete", null, null, LocalDateTime.of(2024, Month.JUNE, 1, 0, 0));
+
+        when(mockTaskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(mockArchivedTaskRepository.findById(1L)).thenReturn(Optional.of(archived));
+
+        //Act
+        taskServiceImpl.deleteTask(1L);
+
+        //Assert
+        verify(mockArchivedTaskRepository).deleteById(1L);
+        verify(mockTaskRepository, never()).deleteById(1L);
+        verify(mockTaskDescriptionRepository).deleteById(1L);
+    }
+}
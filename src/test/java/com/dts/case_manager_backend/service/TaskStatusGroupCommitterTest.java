@@ -0,0 +1,144 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.exception.TaskNotFoundException;
+import com.dts.case_manager_backend.model.StatusDTO;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskDTO;
+import com.dts.case_manager_backend.model.TaskGroupCommitStats;
+import com.dts.case_manager_backend.model.TaskStatusChange;
+import com.dts.case_manager_backend.repository.TaskRepository;
+import com.dts.case_manager_backend.repository.TaskStatusHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+
+// A long window, so that updates submitted together are sure to land in the same batch.
+@SpringBootTest(properties = {"tasks.status-updates.group-commit.enabled=true", "tasks.status-updates.group-commit.window=PT0.3S",
+        "tasks.status-history.durability=synchronous"})
+class TaskStatusGroupCommitterTest {
+    private static final long MISSING_ID = 999_999_999L;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatusGroupCommitter taskStatusGroupCommitter;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @MockitoSpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskStatusHistoryRepository taskStatusHistoryRepository;
+
+    @Test
+    @DisplayName("Concurrent updates share a commit and each caller gets its own result, or its own error for a missing task")
+    void concurrentUpdatesShareCommit() throws Exception {
+        //Arrange
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(createTask());
+        }
+        TaskGroupCommitStats before = taskStatusGroupCommitter.stats();
+
+        //Act
+        List<Future<Task>> updated = new ArrayList<>();
+        Future<Task> missing;
+        try (ExecutorService callers = Executors.newFixedThreadPool(tasks.size() + 1)) {
+            for (Task task : tasks) {
+                updated.add(callers.submit(() -> taskService.updateTaskStatus(task.getId(), new StatusDTO("Complete"))));
+            }
+            missing = callers.submit(() -> taskService.updateTaskStatus(MISSING_ID, new StatusDTO("Complete")));
+        }
+        TaskGroupCommitStats after = taskStatusGroupCommitter.stats();
+
+        //Assert
+        for (int i = 0; i < tasks.size(); i++) {
+            Long id = tasks.get(i).getId();
+            assertEquals(id, updated.get(i).get().getId());
+            assertEquals("Complete", updated.get(i).get().getStatus());
+            assertEquals("Task updated at shift change", updated.get(i).get().getDescription());
+            assertEquals("Complete", taskRepository.findById(id).orElseThrow().getStatus());
+            List<TaskStatusChange> history = taskStatusHistoryRepository.findByTaskIdOrderByChangedAtAscIdAsc(id);
+            assertEquals("In progress", history.get(history.size() - 1).getFromStatus());
+            assertEquals("Complete", history.get(history.size() - 1).getToStatus());
+        }
+        ExecutionException failure = assertThrows(ExecutionException.class, missing::get);
+        assertInstanceOf(TaskNotFoundException.class, failure.getCause());
+        assertEquals(tasks.size(), after.updates() - before.updates());
+        assertTrue(after.commits() - before.commits() < tasks.size(), () -> "Commits " + (after.commits() - before.commits()));
+    }
+
+    @Test
+    @DisplayName("Two updates of one task go into separate commits, each caller getting the task as its own update left it")
+    void updatesOfSameTaskAreSeparated() throws Exception {
+        //Arrange
+        Task task = createTask();
+        TaskGroupCommitStats before = taskStatusGroupCommitter.stats();
+
+        //Act
+        Future<Task> first;
+        Future<Task> second;
+        try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+            first = callers.submit(() -> taskService.updateTaskStatus(task.getId(), new StatusDTO("Not yet started")));
+            Thread.sleep(20);
+            second = callers.submit(() -> taskService.updateTaskStatus(task.getId(), new StatusDTO("Complete")));
+        }
+
+        //Assert
+        assertEquals("Not yet started", first.get().getStatus());
+        assertEquals("Complete", second.get().getStatus());
+        assertEquals("Complete", taskRepository.findById(task.getId()).orElseThrow().getStatus());
+        assertEquals(2, taskStatusGroupCommitter.stats().commits() - before.commits());
+    }
+
+    @Test
+    @DisplayName("A task deleted after the batch loaded it fails its caller with TaskNotFoundException and gets no history entry")
+    void taskDeletedDuringBatchIsNotFound() throws Exception {
+        //Arrange
+        Task deleted = createTask();
+        Task kept = createTask();
+        // Tombstones the task inside the batch's transaction, after the batch loaded it and just before its UPDATE.
+        doAnswer(invocation -> {
+            jdbcTemplate.update("update tasks set deleted_date = ? where id = ?", LocalDateTime.now(), deleted.getId());
+            return invocation.callRealMethod();
+        }).when(jdbcTemplate).batchUpdate(startsWith("update tasks set status"), anyCollection(), anyInt(), any());
+
+        //Act
+        Future<Task> deletedUpdate;
+        Future<Task> keptUpdate;
+        try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+            deletedUpdate = callers.submit(() -> taskService.updateTaskStatus(deleted.getId(), new StatusDTO("Complete")));
+            keptUpdate = callers.submit(() -> taskService.updateTaskStatus(kept.getId(), new StatusDTO("Complete")));
+        }
+
+        //Assert
+        ExecutionException failure = assertThrows(ExecutionException.class, deletedUpdate::get);
+        assertInstanceOf(TaskNotFoundException.class, failure.getCause());
+        assertEquals("Complete", keptUpdate.get().getStatus());
+        assertTrue(taskStatusHistoryRepository.findByTaskIdOrderByChangedAtAscIdAsc(deleted.getId()).isEmpty());
+        assertEquals(1, taskStatusHistoryRepository.findByTaskIdOrderByChangedAtAscIdAsc(kept.getId()).size());
+    }
+
+    private Task createTask() {
+        return taskService.createTask(new TaskDTO("Shift change", "Task updated at shift change", "In progress",
+                LocalDateTime.now(), LocalDateTime.now().plusDays(2)));
+    }
+}
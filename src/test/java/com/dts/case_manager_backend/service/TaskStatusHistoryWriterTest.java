@@ -0,0 +1,146 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.exception.BulkheadFullException;
+import com.dts.case_manager_backend.exception.DeadlineExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskStatusHistoryWriterTest {
+
+    @Mock
+    private JdbcTemplate mockJdbcTemplate;
+
+    @Mock
+    private TransactionTemplate mockTransactionTemplate;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(mockTransactionTemplate).executeWithoutResult(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("queued status changes are written together in one batch insert")
+    void writesQueuedChangesInOneBatch() throws InterruptedException {
+        //Arrange
+        TaskStatusHistoryWriter writer = writer(TaskStatusHistoryWriter.Durability.GROUP_COMMITTED, 10);
+
+        //Act
+        writer.onStatusChanged(change(1L));
+        writer.onStatusChanged(change(2L));
+        writer.onStatusChanged(change(3L));
+        writer.stop();
+
+        //Assert
+        verify(mockJdbcTemplate).batchUpdate(Mockito.anyString(),
+                Mockito.<Collection<Object>>argThat(batch -> batch.size() == 3),
+                Mockito.eq(3),
+                Mockito.<ParameterizedPreparedStatementSetter<Object>>any());
+        verify(mockTransactionTemplate, times(1)).executeWithoutResult(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("withReservation throws BulkheadFullException while every slot is reserved or queued, and a written batch frees its slots")
+    void withReservationRejectsWhenQueueIsFull() throws InterruptedException {
+        //Arrange
+        TaskStatusHistoryWriter writer = writer(TaskStatusHistoryWriter.Durability.GROUP_COMMITTED, 1, Duration.ofSeconds(5));
+        writer.withReservation(reservation -> {
+            writer.onStatusChanged(change(1L, reservation));
+            return null;
+        });
+
+        //Act & Assert
+        assertThrows(BulkheadFullException.class, () -> writer.withReservation(reservation -> null));
+        verifyNoInteractions(mockJdbcTemplate);
+        writer.stop();
+        assertDoesNotThrow(() -> writer.withReservation(reservation -> null));
+    }
+
+    @Test
+    @DisplayName("withReservation gives back a slot no entry claimed, also when the change throws")
+    void withReservationFreesUnclaimedSlots() {
+        //Arrange
+        TaskStatusHistoryWriter writer = writer(TaskStatusHistoryWriter.Durability.GROUP_COMMITTED, 1, Duration.ofSeconds(5));
+
+        //Act
+        writer.withReservation(reservation -> null);
+        assertThrows(IllegalStateException.class, () -> writer.withReservation(reservation -> {
+            throw new IllegalStateException("rolled back");
+        }));
+
+        //Assert
+        assertDoesNotThrow(() -> writer.withReservation(reservation -> null));
+    }
+
+    @Test
+    @DisplayName("with synchronous durability withReservation throws DeadlineExceededException if the entry is not written within the wait")
+    void synchronousTimeoutFails() {
+        //Arrange
+        TaskStatusHistoryWriter writer = writer(TaskStatusHistoryWriter.Durability.SYNCHRONOUS, 10, Duration.ofMillis(10));
+
+        //Act & Assert
+        assertThrows(DeadlineExceededException.class, () -> writer.withReservation(reservation -> {
+            writer.onStatusChanged(change(1L, reservation));
+            return null;
+        }));
+    }
+
+    @Test
+    @DisplayName("with synchronous durability withReservation returns only after the entry has been written")
+    void synchronousWaitsForTheWrite() throws InterruptedException {
+        //Arrange
+        TaskStatusHistoryWriter writer = writer(TaskStatusHistoryWriter.Durability.SYNCHRONOUS, 10);
+        writer.start();
+
+        //Act
+        writer.withReservation(reservation -> {
+            writer.onStatusChanged(change(1L, reservation));
+            return null;
+        });
+
+        //Assert
+        verify(mockJdbcTemplate).batchUpdate(Mockito.anyString(),
+                Mockito.<Collection<Object>>argThat(batch -> batch.size() == 1),
+                Mockito.eq(1),
+                Mockito.<ParameterizedPreparedStatementSetter<Object>>any());
+        writer.stop();
+    }
+
+    private TaskStatusHistoryWriter writer(TaskStatusHistoryWriter.Durability durability, int queueCapacity) {
+        return writer(durability, queueCapacity, Duration.ofSeconds(5));
+    }
+
+    private TaskStatusHistoryWriter writer(TaskStatusHistoryWriter.Durability durability, int queueCapacity, Duration syncTimeout) {
+        return new TaskStatusHistoryWriter(mockJdbcTemplate, mockTransactionTemplate, durability, queueCapacity, 500,
+                Duration.ofMillis(10), syncTimeout);
+    }
+
+    private static TaskStatusChangedEvent change(Long taskId) {
+        return change(taskId, null);
+    }
+
+    private static TaskStatusChangedEvent change(Long taskId, TaskStatusHistoryWriter.Reservation reservation) {
+        return new TaskStatusChangedEvent(taskId, "Not yet started", "In progress", "client-1",
+                LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1), reservation);
+    }
+}
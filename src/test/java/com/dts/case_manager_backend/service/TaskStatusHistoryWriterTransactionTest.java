@@ -0,0 +1,75 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.exception.BulkheadFullException;
+import com.dts.case_manager_backend.exception.DeadlineExceededException;
+import com.dts.case_manager_backend.model.StatusDTO;
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskDTO;
+import com.dts.case_manager_backend.model.TaskStatusChange;
+import com.dts.case_manager_backend.repository.TaskRepository;
+import com.dts.case_manager_backend.repository.TaskStatusHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A single queue slot, so that one unwritten entry fills the queue.
+@SpringBootTest(properties = {"tasks.status-history.durability=synchronous", "tasks.status-history.queue-capacity=1",
+        "tasks.status-history.sync-timeout=PT0.5S"})
+class TaskStatusHistoryWriterTransactionTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatusHistoryWriter taskStatusHistoryWriter;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusHistoryRepository taskStatusHistoryRepository;
+
+    @Test
+    @DisplayName("updateTaskStatus returns once the committed change's history entry has been written, and frees its slot")
+    void synchronousUpdateWritesHistoryBeforeReturning() {
+        //Arrange
+        Task task = createTask();
+
+        //Act
+        taskService.updateTaskStatus(task.getId(), new StatusDTO("Complete"));
+        taskService.updateTaskStatus(task.getId(), new StatusDTO("Not yet started"));
+
+        //Assert
+        List<TaskStatusChange> history = taskStatusHistoryRepository.findByTaskIdOrderByChangedAtAscIdAsc(task.getId());
+        assertEquals(2, history.size());
+        assertEquals("Complete", history.get(0).getToStatus());
+        assertEquals("Not yet started", history.get(1).getToStatus());
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("An entry not written within the wait fails updateTaskStatus with DeadlineExceededException, and keeps its slot until written")
+    void unwrittenEntryFailsCallerAndKeepsSlot() throws InterruptedException {
+        //Arrange
+        Task task = createTask();
+        taskStatusHistoryWriter.stop();
+
+        //Act & Assert
+        assertThrows(DeadlineExceededException.class, () -> taskService.updateTaskStatus(task.getId(), new StatusDTO("Complete")));
+        assertEquals("Complete", taskRepository.findById(task.getId()).orElseThrow().getStatus());
+        assertThrows(BulkheadFullException.class, () -> taskService.updateTaskStatus(task.getId(), new StatusDTO("Not yet started")));
+        assertEquals("Complete", taskRepository.findById(task.getId()).orElseThrow().getStatus());
+    }
+
+    private Task createTask() {
+        return taskService.createTask(new TaskDTO("Night shift", "Task updated on the night shift", "In progress",
+                LocalDateTime.now(), LocalDateTime.now().plusDays(2)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.dts.case_manager_backend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.Month;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskTableSnapshotFormatTest {
+
+    @Test
+    @DisplayName("Reader returns the rows written by Writer, with and without descriptions or archived dates")
+    void roundTrip() throws IOException {
+        //Arrange
+        TaskTableSnapshotFormat.Row row1 = new TaskTableSnapshotFormat.Row(1L, "test title", "In progress",
+                LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1, 123_456_789),
+                LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2),
+                true, new byte[] {1, 2, 3}, null);
+        TaskTableSnapshotFormat.Row row2 = new TaskTableSnapshotFormat.Row(7L, "tâche", "Complete",
+                LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1),
+                LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2),
+                false, null, LocalDateTime.of(2025, Month.MAY, 5, 5, 5, 5, 500));
+
+        //Act
+        byte[] bytes = write(row1, row2);
+        TaskTableSnapshotFormat.Reader reader = new TaskTableSnapshotFormat.Reader(ByteBuffer.wrap(bytes));
+        TaskTableSnapshotFormat.Row read1 = reader.next();
+        TaskTableSnapshotFormat.Row read2 = reader.next();
+
+        //Assert
+        assertAll(
+                () -> assertEquals(2, reader.count()),
+                () -> assertEquals(row1.id(), read1.id()),
+                () -> assertEquals(row1.createdDate(), read1.createdDate()),
+                () -> assertTrue(read1.descriptionCompressed()),
+                () -> assertNull(read1.archivedDate()),
+                () -> assertArrayEquals(row1.description(), read1.description()),
+                () -> assertEquals(row2, read2),
+                () -> assertNull(reader.next()));
+    }
+
+    @Test
+    @DisplayName("Reader rejects a snapshot whose contents do not match the checksum")
+    void corruptSnapshot() throws IOException {
+        //Arrange
+        byte[] bytes = write(new TaskTableSnapshotFormat.Row(1L, "test title", "In progress",
+                LocalDateTime.of(2025, Month.JANUARY, 1, 1, 1, 1),
+                LocalDateTime.of(2025, Month.FEBRUARY, 2, 2, 2, 2),
+                false, null, null));
+        bytes[10] ^= 1;
+
+        //Act & Assert
+        assertThrows(IOException.class, () -> new TaskTableSnapshotFormat.Reader(ByteBuffer.wrap(bytes)));
+    }
+
+    private byte[] write(TaskTableSnapshotFormat.Row... rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TaskTableSnapshotFormat.Writer writer = new TaskTableSnapshotFormat.Writer(new DataOutputStream(out))) {
+            for (TaskTableSnapshotFormat.Row row : rows) {
+                writer.write(row);
+            }
+            writer.finish();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,80 @@
+package com.dts.case_manager_backend.service;
+
+import com.dts.case_manager_backend.model.Task;
+import com.dts.case_manager_backend.model.TaskDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Archives every Complete task, so that the snapshot holds one task in each table.
+@SpringBootTest(properties = {"tasks.snapshot.enabled=true", "tasks.archive.complete-older-than=PT0S"})
+class TaskTableSnapshotServiceTest {
+    private static final Path SNAPSHOT_DIRECTORY = createSnapshotDirectory();
+
+    @Autowired
+    private TaskTableSnapshotService taskTableSnapshotService;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void snapshotPath(DynamicPropertyRegistry registry) {
+        registry.add("tasks.snapshot.path", () -> SNAPSHOT_DIRECTORY.resolve("tasks.snapshot").toString());
+    }
+
+    @Test
+    @DisplayName("A snapshot restores archived tasks into tasks_archive, and new ids continue after the highest id of both tables")
+    void restoresArchivedTasks() throws IOException {
+        //Arrange
+        Task hot = createTask("In progress");
+        Task archived = createTask("Complete");
+        taskArchiver.archiveCompletedTasks();
+        assertEquals(2, taskTableSnapshotService.write());
+        jdbcTemplate.update("delete from task_descriptions");
+        jdbcTemplate.update("delete from tasks");
+        jdbcTemplate.update("delete from tasks_archive");
+
+        //Act
+        taskTableSnapshotService.afterSingletonsInstantiated();
+        Task next = createTask("In progress");
+
+        //Assert
+        assertAll(
+                () -> assertEquals("In progress", jdbcTemplate.queryForObject("select status from tasks where id = ?", String.class, hot.getId())),
+                () -> assertEquals("Complete", jdbcTemplate.queryForObject("select status from tasks_archive where id = ?", String.class, archived.getId())),
+                () -> assertNotNull(jdbcTemplate.queryForObject("select archived_date from tasks_archive where id = ?", LocalDateTime.class, archived.getId())),
+                () -> assertEquals("Task kept across restarts", taskService.retrieveTaskDescription(archived.getId())),
+                () -> assertTrue(next.getId() > archived.getId(), () -> "New id " + next.getId() + " after archived id " + archived.getId()));
+    }
+
+    private Task createTask(String status) {
+        return taskService.createTask(new TaskDTO("Snapshot " + status, "Task kept across restarts", status,
+                LocalDateTime.now(), LocalDateTime.now().plusDays(2)));
+    }
+
+    private static Path createSnapshotDirectory() {
+        try {
+            return Files.createTempDirectory("task-snapshot");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}